@@ -0,0 +1,64 @@
+package dev.breakin.api.common;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 조회수 중복 제거용 조회자 식별 키 추출 유틸리티
+ *
+ * 서버가 발급하고 검증한 세션(인증 필터가 Principal을 설정한 요청)의 세션 ID만 신뢰합니다.
+ * 검증되지 않은 SESSION_ID 쿠키는 클라이언트가 요청마다 바꿔 보낼 수 있으므로 무시하고,
+ * 클라이언트 IP와 User-Agent로 키를 만듭니다.
+ * 프록시 뒤에서 실행할 경우 server.forward-headers-strategy를 설정해야 실제 클라이언트 IP가 사용됩니다.
+ */
+public final class ViewerKeyResolver {
+
+    private static final String SESSION_COOKIE_NAME = "SESSION_ID";
+    private static final String USER_AGENT_HEADER = "User-Agent";
+
+    private ViewerKeyResolver() {
+    }
+
+    /**
+     * @return "s:{세션 ID}", "ip:{IP}|ua:{User-Agent 해시}" 또는 "ip:{IP}" (식별할 수 없으면 null)
+     */
+    public static String resolve(HttpServletRequest request) {
+        String sessionId = validatedSessionId(request);
+        if (sessionId != null) {
+            return "s:" + sessionId;
+        }
+
+        String remoteAddr = request.getRemoteAddr();
+        if (remoteAddr == null) {
+            return null;
+        }
+        String userAgent = request.getHeader(USER_AGENT_HEADER);
+        if (userAgent == null || userAgent.isBlank()) {
+            return "ip:" + remoteAddr;
+        }
+        return "ip:" + remoteAddr + "|ua:" + Integer.toHexString(userAgent.hashCode());
+    }
+
+    /**
+     * 세션 인증 필터는 SESSION_ID 쿠키의 세션이 유효할 때만 인증 정보를 설정하므로,
+     * Principal이 있는 요청의 쿠키 값은 서버가 발급한 세션 ID입니다.
+     */
+    private static String validatedSessionId(HttpServletRequest request) {
+        if (request.getUserPrincipal() == null) {
+            return null;
+        }
+
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            // 인증 필터와 같이 첫 번째 SESSION_ID 쿠키를 사용
+            if (SESSION_COOKIE_NAME.equals(cookie.getName())) {
+                String value = cookie.getValue();
+                return value == null || value.isBlank() ? null : value;
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package dev.breakin.api.communitypost;
 
+import dev.breakin.api.common.ViewerKeyResolver;
 import dev.breakin.api.communitypost.dto.CommunityPostRequest;
 import dev.breakin.api.communitypost.dto.CommunityPostResponse;
 import dev.breakin.model.communitypost.CommunityPost;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,10 +47,12 @@ public class CommunityPostApiController {
     })
     @GetMapping("/{communityPostId}")
     public ResponseEntity<CommunityPostResponse> getCommunityPost(
-            @Parameter(description = "Community post ID", example = "1") @PathVariable Long communityPostId) {
+            @Parameter(description = "Community post ID", example = "1") @PathVariable Long communityPostId,
+            HttpServletRequest request) {
         log.info("GET /api/community-posts/{}", communityPostId);
 
-        CommunityPostRead communityPostRead = communityPostReader.read(new CommunityPostIdentity(communityPostId));
+        CommunityPostRead communityPostRead = communityPostReader.read(
+                new CommunityPostIdentity(communityPostId), ViewerKeyResolver.resolve(request));
         CommunityPostResponse response = CommunityPostResponse.from(communityPostRead);
 
         log.info("Retrieved community post - communityPostId: {}", response.getCommunityPostId());
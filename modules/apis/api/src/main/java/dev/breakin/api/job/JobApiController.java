@@ -1,5 +1,6 @@
 package dev.breakin.api.job;
 
+import dev.breakin.api.common.ViewerKeyResolver;
 import dev.breakin.api.job.dto.JobRequest;
 import dev.breakin.api.job.dto.JobResponse;
 import dev.breakin.model.job.Job;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,10 +46,11 @@ public class JobApiController {
     })
     @GetMapping("/{jobId}")
     public ResponseEntity<JobResponse> getJob(
-            @Parameter(description = "Job ID", example = "1") @PathVariable Long jobId) {
+            @Parameter(description = "Job ID", example = "1") @PathVariable Long jobId,
+            HttpServletRequest request) {
         log.info("GET /api/jobs/{}", jobId);
 
-        Job job = jobReader.read(new JobIdentity(jobId));
+        Job job = jobReader.read(new JobIdentity(jobId), ViewerKeyResolver.resolve(request));
         JobResponse response = JobResponse.from(job);
 
         log.info("Retrieved job - jobId: {}", response.getJobId());
@@ -1,5 +1,6 @@
 package dev.breakin.api.techblog;
 
+import dev.breakin.api.common.ViewerKeyResolver;
 import dev.breakin.api.techblog.dto.TechBlogRequest;
 import dev.breakin.api.techblog.dto.TechBlogResponse;
 import dev.breakin.model.techblog.TechBlog;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,10 +46,11 @@ public class TechBlogApiController {
     })
     @GetMapping("/{techBlogId}")
     public ResponseEntity<TechBlogResponse> getTechBlog(
-            @Parameter(description = "Tech blog ID", example = "1") @PathVariable Long techBlogId) {
+            @Parameter(description = "Tech blog ID", example = "1") @PathVariable Long techBlogId,
+            HttpServletRequest request) {
         log.info("GET /api/tech-blogs/{}", techBlogId);
 
-        TechBlog techBlog = techBlogReader.read(new TechBlogIdentity(techBlogId));
+        TechBlog techBlog = techBlogReader.read(new TechBlogIdentity(techBlogId), ViewerKeyResolver.resolve(request));
         TechBlogResponse response = TechBlogResponse.from(techBlog);
 
         log.info("Retrieved tech blog - techBlogId: {}", response.getTechBlogId());
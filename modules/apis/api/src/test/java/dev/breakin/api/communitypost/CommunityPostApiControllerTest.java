@@ -89,7 +89,7 @@ class CommunityPostApiControllerTest {
     @Test
     void getCommunityPost_existingId_returnsOkWithPost() throws Exception {
         // given
-        when(communityPostReader.read(new CommunityPostIdentity(1L)))
+        when(communityPostReader.read(new CommunityPostIdentity(1L), "ip:127.0.0.1"))
                 .thenReturn(sampleCommunityPostRead);
 
         // when & then - Status Code 검증
@@ -110,13 +110,13 @@ class CommunityPostApiControllerTest {
         assertThat(response.getCompany()).isEqualTo("Test Company");
         assertThat(response.getLocation()).isEqualTo("Seoul");
 
-        verify(communityPostReader).read(new CommunityPostIdentity(1L));
+        verify(communityPostReader).read(new CommunityPostIdentity(1L), "ip:127.0.0.1");
     }
 
     @Test
     void getCommunityPost_nonExistingId_throwsException() throws Exception {
         // given
-        when(communityPostReader.read(new CommunityPostIdentity(999L)))
+        when(communityPostReader.read(new CommunityPostIdentity(999L), "ip:127.0.0.1"))
                 .thenThrow(new RuntimeException("Community post not found"));
 
         // when & then
@@ -128,7 +128,7 @@ class CommunityPostApiControllerTest {
             assertThat(e.getCause()).isInstanceOf(RuntimeException.class);
         }
 
-        verify(communityPostReader).read(new CommunityPostIdentity(999L));
+        verify(communityPostReader).read(new CommunityPostIdentity(999L), "ip:127.0.0.1");
     }
 
     @Test
@@ -8,6 +8,7 @@ import dev.breakin.model.common.TechCategory;
 import dev.breakin.model.job.*;
 import dev.breakin.service.job.JobReader;
 import dev.breakin.service.job.JobWriter;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -80,7 +81,7 @@ class JobApiControllerTest {
     @Test
     void getJob_existingId_returnsOkWithJob() throws Exception {
         // given
-        when(jobReader.read(new JobIdentity(1L)))
+        when(jobReader.read(new JobIdentity(1L), "ip:127.0.0.1"))
                 .thenReturn(sampleJob);
 
         // when & then - Status Code 검증
@@ -99,13 +100,44 @@ class JobApiControllerTest {
         assertThat(response.getEmploymentType()).isEqualTo(EmploymentType.FULL_TIME);
         assertThat(response.getLocation()).isEqualTo("Seoul");
 
-        verify(jobReader).read(new JobIdentity(1L));
+        verify(jobReader).read(new JobIdentity(1L), "ip:127.0.0.1");
+    }
+
+    @Test
+    void getJob_withValidatedSession_passesSessionAsViewerKey() throws Exception {
+        // given - 세션 인증 필터가 검증한 요청에는 Principal이 설정됨
+        when(jobReader.read(new JobIdentity(1L), "s:session-1"))
+                .thenReturn(sampleJob);
+
+        // when & then
+        mockMvc.perform(get("/api/jobs/{jobId}", 1L)
+                        .cookie(new Cookie("SESSION_ID", "session-1"))
+                        .principal(() -> "user-1"))
+                .andExpect(status().isOk());
+
+        verify(jobReader).read(new JobIdentity(1L), "s:session-1");
+    }
+
+    @Test
+    void getJob_withUnvalidatedSessionCookie_ignoresCookie() throws Exception {
+        // given - 검증되지 않은 쿠키는 요청마다 바꿔 보낼 수 있으므로 IP와 User-Agent를 사용
+        String viewerKey = "ip:127.0.0.1|ua:" + Integer.toHexString("test-agent".hashCode());
+        when(jobReader.read(new JobIdentity(1L), viewerKey))
+                .thenReturn(sampleJob);
+
+        // when & then
+        mockMvc.perform(get("/api/jobs/{jobId}", 1L)
+                        .cookie(new Cookie("SESSION_ID", "forged-session"))
+                        .header("User-Agent", "test-agent"))
+                .andExpect(status().isOk());
+
+        verify(jobReader).read(new JobIdentity(1L), viewerKey);
     }
 
     @Test
     void getJob_nonExistingId_throwsException() throws Exception {
         // given
-        when(jobReader.read(new JobIdentity(999L)))
+        when(jobReader.read(new JobIdentity(999L), "ip:127.0.0.1"))
                 .thenThrow(new RuntimeException("Job not found"));
 
         // when & then
@@ -117,7 +149,7 @@ class JobApiControllerTest {
             assertThat(e.getCause()).isInstanceOf(RuntimeException.class);
         }
 
-        verify(jobReader).read(new JobIdentity(999L));
+        verify(jobReader).read(new JobIdentity(999L), "ip:127.0.0.1");
     }
 
     @Test
@@ -69,7 +69,7 @@ class TechBlogApiControllerTest {
     @Test
     void getTechBlog_existingId_returnsOkWithTechBlog() throws Exception {
         // given
-        when(techBlogReader.read(new TechBlogIdentity(1L)))
+        when(techBlogReader.read(new TechBlogIdentity(1L), "ip:127.0.0.1"))
                 .thenReturn(sampleTechBlog);
 
         // when & then - Status Code 검증
@@ -87,13 +87,13 @@ class TechBlogApiControllerTest {
         assertThat(response.getUrl()).isEqualTo("https://test.com/blog/1");
         assertThat(response.getTags()).containsExactly("spring", "java");
 
-        verify(techBlogReader).read(new TechBlogIdentity(1L));
+        verify(techBlogReader).read(new TechBlogIdentity(1L), "ip:127.0.0.1");
     }
 
     @Test
     void getTechBlog_nonExistingId_throwsException() throws Exception {
         // given
-        when(techBlogReader.read(new TechBlogIdentity(999L)))
+        when(techBlogReader.read(new TechBlogIdentity(999L), "ip:127.0.0.1"))
                 .thenThrow(new RuntimeException("TechBlog not found"));
 
         // when & then
@@ -105,7 +105,7 @@ class TechBlogApiControllerTest {
             assertThat(e.getCause()).isInstanceOf(RuntimeException.class);
         }
 
-        verify(techBlogReader).read(new TechBlogIdentity(999L));
+        verify(techBlogReader).read(new TechBlogIdentity(999L), "ip:127.0.0.1");
     }
 
     @Test
@@ -14,6 +14,11 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.2.0")
 
+    // search metrics (SearchInstrumentation) for /actuator/prometheus; the application that serves
+    // this module has to expose it (management.endpoints.web.exposure.include: health,prometheus)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
 
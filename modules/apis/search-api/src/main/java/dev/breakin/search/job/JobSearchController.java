@@ -1,5 +1,6 @@
 package dev.breakin.search.job;
 
+import dev.breakin.elasticsearch.api.job.JobCursorSearchResult;
 import dev.breakin.elasticsearch.api.job.JobSearch;
 import dev.breakin.elasticsearch.api.job.JobSearchResult;
 import dev.breakin.elasticsearch.document.fieldSpec.job.JobIndexField;
@@ -29,8 +30,10 @@ public class JobSearchController {
     /**
      * Search jobs with filters
      *
-     * @param request search conditions and filters
-     * @return search results with pagination
+     * Requested facets are counted in the same Elasticsearch request as the hits.
+     *
+     * @param request search conditions, filters and facets
+     * @return search results with pagination and facet counts
      */
     @PostMapping
     public ResponseEntity<JobSearchResponse> search(@RequestBody JobSearchRequest request) {
@@ -40,6 +43,7 @@ public class JobSearchController {
         List<SearchElement<JobIndexField>> conditions = buildSearchConditions(request);
         SearchCommand<JobIndexField> command = SearchCommand.of(
                 conditions,
+                request.getFacets(),
                 request.getFrom(),
                 request.getTo()
         );
@@ -54,6 +58,27 @@ public class JobSearchController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Search jobs with filters, paginated by cursor (infinite scroll)
+     *
+     * from/to are ignored; send nextCursor of the previous page as cursor until it is null.
+     * Every page costs the same regardless of its depth.
+     *
+     * @param request search conditions, filters, cursor and size
+     * @return search results with the cursor of the next page
+     */
+    @PostMapping("/cursor")
+    public ResponseEntity<JobSearchResponse> searchByCursor(@RequestBody JobSearchRequest request) {
+        log.info("Job cursor search request: {}", request);
+
+        SearchCommand<JobIndexField> command = SearchCommand.of(buildSearchConditions(request), 0, 0);
+
+        JobCursorSearchResult result = jobSearch.searchByCursor(command, request.getCursor(), request.getSize());
+
+        log.info("Job cursor search completed: found {} results, hasNext={}", result.docs().size(), result.hasNext());
+        return ResponseEntity.ok(JobSearchResponse.from(result));
+    }
+
     /**
      * Build search conditions from request
      */
@@ -110,9 +135,6 @@ public class JobSearchController {
             conditions.add(new SearchElement<>(JobIndexField.MAX_YEARS, null, request.getMaxYears()));
         }
 
-        // Deleted filter (default: exclude deleted jobs)
-        conditions.add(new SearchElement<>(JobIndexField.DELETED, false));
-
         return conditions;
     }
 }
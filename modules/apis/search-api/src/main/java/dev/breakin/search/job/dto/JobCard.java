@@ -1,6 +1,6 @@
 package dev.breakin.search.job.dto;
 
-import dev.breakin.elasticsearch.document.JobDoc;
+import dev.breakin.elasticsearch.document.JobCardDoc;
 import dev.breakin.model.common.Company;
 import dev.breakin.model.job.CareerLevel;
 import dev.breakin.model.job.EmploymentType;
@@ -104,38 +104,38 @@ public record JobCard(
     Instant updatedAt
 ) {
     /**
-     * Create JobCard from JobDoc
+     * Create JobCard from JobCardDoc
      */
-    public static JobCard from(JobDoc doc) {
+    public static JobCard from(JobCardDoc doc) {
         return new JobCard(
-            doc.getJobId(),
-            doc.getUrl(),
-            doc.getCompany(),
-            doc.getTitle(),
-            doc.getOrganization(),
-            doc.getOneLineSummary(),
-            doc.getMinYears(),
-            doc.getMaxYears(),
-            doc.getCareerLevel(),
-            doc.getEmploymentType(),
-            doc.getPositionCategory(),
-            doc.getRemotePolicy(),
-            doc.getTechCategories(),
-            doc.getLocations(),
-            doc.getCompensationMinBasePay(),
-            doc.getCompensationMaxBasePay(),
-            doc.getCompensationCurrency(),
-            doc.getCompensationUnit(),
-            doc.getCompensationHasStockOption(),
-            doc.getStartedAt(),
-            doc.getEndedAt(),
-            doc.getIsOpenEnded(),
-            doc.getIsClosed(),
-            doc.getPopularityViewCount(),
-            doc.getPopularityCommentCount(),
-            doc.getPopularityLikeCount(),
-            doc.getCreatedAt(),
-            doc.getUpdatedAt()
+            doc.jobId(),
+            doc.url(),
+            doc.company(),
+            doc.title(),
+            doc.organization(),
+            doc.oneLineSummary(),
+            doc.minYears(),
+            doc.maxYears(),
+            doc.careerLevel(),
+            doc.employmentType(),
+            doc.positionCategory(),
+            doc.remotePolicy(),
+            doc.techCategories(),
+            doc.locations(),
+            doc.compensationMinBasePay(),
+            doc.compensationMaxBasePay(),
+            doc.compensationCurrency(),
+            doc.compensationUnit(),
+            doc.compensationHasStockOption(),
+            doc.startedAt(),
+            doc.endedAt(),
+            doc.isOpenEnded(),
+            doc.isClosed(),
+            doc.popularityViewCount(),
+            doc.popularityCommentCount(),
+            doc.popularityLikeCount(),
+            doc.createdAt(),
+            doc.updatedAt()
         );
     }
 }
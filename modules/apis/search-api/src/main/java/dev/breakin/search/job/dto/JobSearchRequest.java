@@ -1,5 +1,6 @@
 package dev.breakin.search.job.dto;
 
+import dev.breakin.elasticsearch.document.fieldSpec.job.JobIndexField;
 import dev.breakin.model.common.Company;
 import dev.breakin.model.job.CareerLevel;
 import dev.breakin.model.job.EmploymentType;
@@ -35,13 +36,21 @@ public class JobSearchRequest {
     private Integer minYears;
     private Integer maxYears;
 
+    // Facets to count in the same request (e.g. COMPANY, REMOTE_POLICY, TECH_CATEGORIES, LOCATIONS)
+    private List<JobIndexField> facets;
+
     // Pagination (nullable)
     private Integer from;
     private Integer to;
 
+    // Cursor pagination (nullable) - nextCursor of the previous page, and page size
+    private String cursor;
+    private Integer size;
+
     private static final int DEFAULT_FROM = 0;
     private static final int DEFAULT_PAGE_SIZE = 30;
     private static final int MAX_TO = 1000;
+    private static final int MAX_SIZE = 100;
 
     /**
      * Get normalized from value
@@ -74,4 +83,16 @@ public class JobSearchRequest {
         int normalizedTo = Math.min(to, MAX_TO);
         return Math.max(normalizedFrom + 1, normalizedTo);
     }
+
+    /**
+     * Get normalized page size for cursor pagination
+     * - Returns 30 if null or not positive
+     * - Returns at most 100
+     */
+    public int getSize() {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
 }
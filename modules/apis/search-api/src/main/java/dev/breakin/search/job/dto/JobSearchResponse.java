@@ -1,11 +1,14 @@
 package dev.breakin.search.job.dto;
 
+import dev.breakin.elasticsearch.api.job.JobCursorSearchResult;
 import dev.breakin.elasticsearch.api.job.JobSearchResult;
+import dev.breakin.elasticsearch.internal.queryBuilder.FacetCount;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Job search response DTO
@@ -23,6 +26,12 @@ public class JobSearchResponse {
     @Schema(description = "Number of results in current page", example = "30")
     private final int count;
 
+    @Schema(description = "Cursor of the next page, only for cursor pagination (null on the last page)")
+    private final String nextCursor;
+
+    @Schema(description = "Counts per value of each requested facet, keyed by field name; a facet is counted under every filter except its own")
+    private final Map<String, List<FacetCount>> facets;
+
     public static JobSearchResponse from(JobSearchResult result) {
         List<JobCard> cards = result.docs().stream()
             .map(JobCard::from)
@@ -31,7 +40,23 @@ public class JobSearchResponse {
         return new JobSearchResponse(
             cards,
             result.hasNext(),
-            cards.size()
+            cards.size(),
+            null,
+            result.facets()
+        );
+    }
+
+    public static JobSearchResponse from(JobCursorSearchResult result) {
+        List<JobCard> cards = result.docs().stream()
+            .map(JobCard::from)
+            .toList();
+
+        return new JobSearchResponse(
+            cards,
+            result.hasNext(),
+            cards.size(),
+            result.nextCursor(),
+            Map.of()
         );
     }
 }
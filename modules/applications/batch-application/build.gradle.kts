@@ -6,6 +6,9 @@ dependencies {
     // Common modules
     implementation(project(":modules:common:logging"))
 
+    // Outbox (wakeup signal, compactor)
+    implementation(project(":modules:breakin:outbox"))
+
     // Batch modules
     implementation(project(":modules:tasks:resource-crawl-task"))
     implementation(project(":modules:tasks:elasticsearch-sync-task"))
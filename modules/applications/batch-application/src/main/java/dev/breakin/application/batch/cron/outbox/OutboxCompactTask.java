@@ -0,0 +1,28 @@
+package dev.breakin.application.batch.cron.outbox;
+
+import dev.breakin.outbox.compactor.OutboxCompactor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.breakin.application.batch.ScheduleUtils.executeBatchTask;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class OutboxCompactTask {
+
+    private final OutboxCompactor outboxCompactor;
+    private static final AtomicBoolean OUTBOX_COMPACT_RUNNING = new AtomicBoolean(false);
+
+    /**
+     * 보관 기간이 지난 outbox 이벤트 정리: 매일 새벽 4시에 실행
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void compact() {
+        executeBatchTask(OUTBOX_COMPACT_RUNNING, "outbox_compact", outboxCompactor::compact);
+    }
+}
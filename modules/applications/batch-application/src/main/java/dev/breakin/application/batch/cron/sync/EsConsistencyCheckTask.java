@@ -0,0 +1,28 @@
+package dev.breakin.application.batch.cron.sync;
+
+import dev.breakin.sync.task.task.es.JobConsistencyCheckTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.breakin.application.batch.ScheduleUtils.executeBatchTask;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class EsConsistencyCheckTask {
+
+    private final JobConsistencyCheckTask jobConsistencyCheckTask;
+    private static final AtomicBoolean ES_CONSISTENCY_CHECK_RUNNING = new AtomicBoolean(false);
+
+    /**
+     * DB ↔ ES Job 인덱스 정합성 검사: 10분마다 일부 구간씩 이어서 실행
+     */
+    @Scheduled(cron = "0 */10 * * * ?")
+    public void check_job() {
+        executeBatchTask(ES_CONSISTENCY_CHECK_RUNNING, "es_consistency_check_job", jobConsistencyCheckTask::run);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.breakin.application.batch.cron.sync;
+
+import dev.breakin.sync.task.task.es.JobReindexTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.breakin.application.batch.ScheduleUtils.executeBatchTask;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class EsReindexTask {
+
+    private final JobReindexTask jobReindexTask;
+    private static final AtomicBoolean ES_REINDEX_RUNNING = new AtomicBoolean(false);
+
+    /**
+     * Job 인덱스 전체 재색인: breakin.es.reindex.cron 설정 시에만 실행 (기본 비활성화)
+     * 중간에 실패하면 다음 실행 시 checkpoint부터 이어서 진행
+     */
+    @Scheduled(cron = "${breakin.es.reindex.cron:-}")
+    public void reindex_job() {
+        executeBatchTask(ES_REINDEX_RUNNING, "es_reindex_job", jobReindexTask::run);
+    }
+}
@@ -1,5 +1,7 @@
 package dev.breakin.application.batch.cron.sync;
 
+import dev.breakin.outbox.signal.OutboxWakeupProperties;
+import dev.breakin.outbox.signal.OutboxWakeupSignal;
 import dev.breakin.sync.task.task.es.JobEsSyncTask;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,17 +12,40 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import static dev.breakin.application.batch.ScheduleUtils.executeBatchTask;
 
+/**
+ * ES 동기화 워커
+ *
+ * outbox 이벤트가 커밋되면 즉시 깨어나 동기화합니다. 같은 프로세스에서는 OutboxWakeupSignal로,
+ * breakin.outbox.wakeup.peers를 설정한 다른 프로세스(API 서버 등)에서는 OutboxWakeupListener가 받은 UDP wakeup으로 깨어납니다.
+ * wakeup 전달은 best-effort이므로, wakeup이 없어도 fallback-poll-interval(기본 3초)마다 한 번은 조회합니다.
+ * 이 작업은 이벤트 선점만 하고, 인덱싱은 JobEsSyncTask의 파티션별 가상 스레드에서 병렬로 처리됩니다.
+ */
 @RequiredArgsConstructor
 @Component
 @Slf4j
 public class EsSyncTask {
 
     private final JobEsSyncTask esSyncTask;
+    private final OutboxWakeupSignal outboxWakeupSignal;
+    private final OutboxWakeupProperties wakeupProperties;
     private static final AtomicBoolean ES_SYNC_RUNNING = new AtomicBoolean(false);
 
-
-    @Scheduled(cron = "*/3 * * * * ?")
+    /**
+     * wakeup을 최대 fallback-poll-interval만큼 기다린 뒤 동기화
+     * 스케줄러가 끝나자마자 다시 실행하므로 대기-동기화 루프가 되며,
+     * 애플리케이션 종료 시 스케줄러가 대기 중인 스레드를 인터럽트하여 멈춥니다.
+     * 대기 동안 스케줄러 스레드를 하나 점유하므로 spring.task.scheduling.pool.size를 2 이상으로 둡니다.
+     */
+    @Scheduled(fixedDelay = 1)
     public void sync_job() {
+        try {
+            if (outboxWakeupSignal.await(wakeupProperties.getFallbackPollInterval())) {
+                log.debug("Woken up by committed outbox events");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
         executeBatchTask(ES_SYNC_RUNNING, "es_sync_job", esSyncTask::run);
     }
 }
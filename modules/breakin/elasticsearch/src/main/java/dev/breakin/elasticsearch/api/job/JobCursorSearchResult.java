@@ -0,0 +1,13 @@
+package dev.breakin.elasticsearch.api.job;
+
+
+import dev.breakin.elasticsearch.document.JobCardDoc;
+
+import java.util.List;
+
+public record JobCursorSearchResult(
+        List<JobCardDoc> docs,
+        boolean hasNext,
+        String nextCursor    // null on the last page
+) {
+}
@@ -0,0 +1,135 @@
+package dev.breakin.elasticsearch.api.job;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregationSource;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import co.elastic.clients.json.JsonData;
+import dev.breakin.elasticsearch.exception.ElasticsearchQueryException;
+import dev.breakin.infra.job.repository.JobRangeChecksum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads per-range checksums of the job index, computed the same way as
+ * {@link dev.breakin.infra.job.repository.JobRepository#findRangeChecksums}
+ *
+ * A composite aggregation with a histogram source on job_id returns one bucket per range
+ * with its document count, sum of job_id and sum of updated_at in epoch seconds,
+ * so only one small bucket per range is transferred instead of the documents.
+ * Buckets are fetched in pages of COMPOSITE_PAGE_SIZE by following after_key, so a span of any size
+ * stays under search.max_buckets.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobIndexChecksumReader {
+
+    // buckets per request, far below the search.max_buckets limit; larger spans are read page by page
+    private static final int COMPOSITE_PAGE_SIZE = 1000;
+    private static final String RANGES = "ranges";
+    private static final String ID_SUM = "id_sum";
+    private static final String UPDATED_AT_SUM = "updated_at_sum";
+    private static final String UPDATED_AT_SECOND_SCRIPT =
+            "doc['updated_at'].size() == 0 ? 0 : doc['updated_at'].value.toEpochSecond()";
+
+    @Value("${es.index.hiring}")
+    private String JOB_INDEX;
+
+    private final ElasticsearchClient esClient;
+
+    /**
+     * @param fromId    first job id (inclusive)
+     * @param toId      last job id (exclusive)
+     * @param rangeSize ids per range, 1 for a checksum per job
+     * @return checksum by range start id, ranges without documents are left out
+     */
+    public Map<Long, JobRangeChecksum> rangeChecksums(long fromId, long toId, int rangeSize) {
+        int pageSize = (int) Math.min(COMPOSITE_PAGE_SIZE, Math.max(1, (toId - fromId + rangeSize - 1) / rangeSize));
+        Map<Long, JobRangeChecksum> checksums = new LinkedHashMap<>();
+        try {
+            Map<String, FieldValue> afterKey = null;
+            while (true) {
+                CompositeAggregate ranges = rangesPage(fromId, toId, rangeSize, pageSize, afterKey);
+                List<CompositeBucket> buckets = ranges.buckets().array();
+                for (CompositeBucket bucket : buckets) {
+                    checksums.put(toLong(bucket.key().get("range_start")), new JobRangeChecksum(
+                            bucket.docCount(),
+                            sumOf(bucket.aggregations().get(ID_SUM)),
+                            sumOf(bucket.aggregations().get(UPDATED_AT_SUM))
+                    ));
+                }
+                afterKey = ranges.afterKey();
+                if (buckets.size() < pageSize || afterKey == null || afterKey.isEmpty()) {
+                    return checksums;
+                }
+            }
+        } catch (Exception e) {
+            throw new ElasticsearchQueryException(JOB_INDEX, e);
+        }
+    }
+
+    /**
+     * one page of range buckets, continuing after the given composite key (null for the first page)
+     */
+    private CompositeAggregate rangesPage(long fromId, long toId, int rangeSize, int pageSize,
+                                          Map<String, FieldValue> afterKey) throws IOException {
+        var response = esClient.search(s -> s
+                .index(JOB_INDEX)
+                .size(0)
+                .query(q -> q.range(r -> r
+                        .field("job_id")
+                        .gte(JsonData.of(fromId))
+                        .lt(JsonData.of(toId))))
+                .aggregations(RANGES, a -> a
+                        .composite(c -> {
+                            c.size(pageSize)
+                                    .sources(Map.of("range_start", CompositeAggregationSource.of(cs -> cs
+                                            .histogram(h -> h.field("job_id").interval((double) rangeSize)))));
+                            if (afterKey != null) {
+                                c.after(afterKey);
+                            }
+                            return c;
+                        })
+                        .aggregations(ID_SUM, sum -> sum.sum(m -> m.field("job_id")))
+                        .aggregations(UPDATED_AT_SUM, sum -> sum.sum(m -> m
+                                .script(script -> script.inline(i -> i.source(UPDATED_AT_SECOND_SCRIPT)))))),
+                Void.class);
+        return response.aggregations().get(RANGES).composite();
+    }
+
+    /**
+     * @return the largest job_id in the index, 0 if empty
+     */
+    public long maxJobId() {
+        try {
+            var response = esClient.search(s -> s
+                    .index(JOB_INDEX)
+                    .size(0)
+                    .aggregations("max_job_id", a -> a.max(m -> m.field("job_id"))),
+                    Void.class);
+            Double max = response.aggregations().get("max_job_id").max().value();
+            return max != null && !max.isInfinite() && !max.isNaN() ? Math.round(max) : 0L;
+        } catch (Exception e) {
+            throw new ElasticsearchQueryException(JOB_INDEX, e);
+        }
+    }
+
+    // sums of long fields stay exact as doubles while below 2^53
+    private static long sumOf(Aggregate aggregate) {
+        return Math.round(aggregate.sum().value());
+    }
+
+    private static long toLong(FieldValue value) {
+        return value.isLong() ? value.longValue() : Math.round(value.doubleValue());
+    }
+}
@@ -0,0 +1,40 @@
+package dev.breakin.elasticsearch.api.job;
+
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import dev.breakin.elasticsearch.internal.admin.IndexAdmin;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Explicit field mappings of the job index, for fields that must not be mapped dynamically
+ *
+ * content_hash is only read from _source to skip unchanged documents, so it is neither indexed nor stored in doc values.
+ * The mappings are put as an index template for the job index and its versioned reindex targets,
+ * and passed as overrides when a reindex copies the mappings of the current index.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobIndexMappings {
+
+    public static final Map<String, Property> PROPERTIES = Map.of(
+            "content_hash", Property.of(p -> p.keyword(k -> k.index(false).docValues(false)))
+    );
+
+    @Value("${es.index.hiring}")
+    private String JOB_INDEX;
+
+    private final IndexAdmin indexAdmin;
+
+    /**
+     * Put the index template, so an index created by the first write also gets these mappings
+     */
+    public void ensureTemplate() {
+        indexAdmin.putTemplate(JOB_INDEX + "-template", List.of(JOB_INDEX, JOB_INDEX + "-*"), PROPERTIES);
+    }
+}
@@ -3,17 +3,23 @@ package dev.breakin.elasticsearch.api.job;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import dev.breakin.elasticsearch.document.DocBase;
 import dev.breakin.elasticsearch.internal.indexer.AbstractDocIndexer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JobIndexer extends AbstractDocIndexer {
-    public JobIndexer(ElasticsearchClient esClient) {
+
+    // read alias shared with JobSearch, so writes follow the index the alias is swapped to
+    private final String index;
+
+    public JobIndexer(ElasticsearchClient esClient, @Value("${es.index.hiring}") String index) {
         super(esClient);
+        this.index = index;
     }
 
     @Override
     protected String getIndex() {
-        return "breakin-dev-job";
+        return index;
     }
 
     @Override
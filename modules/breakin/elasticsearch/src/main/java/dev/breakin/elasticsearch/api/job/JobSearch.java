@@ -1,10 +1,18 @@
 package dev.breakin.elasticsearch.api.job;
 
-import dev.breakin.elasticsearch.document.JobDoc;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import dev.breakin.elasticsearch.document.JobCardDoc;
+import dev.breakin.elasticsearch.document.fieldSpec.job.JobIndexField;
+import dev.breakin.elasticsearch.exception.ElasticsearchQueryException;
 import dev.breakin.elasticsearch.internal.query.job.JobIndexQueryBuilderRegistry;
 import dev.breakin.elasticsearch.internal.query.job.JobIndexRangeQueryBuilderRegistry;
+import dev.breakin.elasticsearch.internal.queryBuilder.FacetedSearchQueryBuilder;
 import dev.breakin.elasticsearch.internal.queryBuilder.GenericSearchQueryBuilder;
 import dev.breakin.elasticsearch.internal.queryBuilder.SearchCommand;
+import dev.breakin.elasticsearch.internal.queryBuilder.queryExecutor.SearchAfterPage;
 import dev.breakin.elasticsearch.internal.queryBuilder.queryExecutor.SearchQueryExecutor;
 import dev.breakin.elasticsearch.internal.utils.PaginationUtils;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -21,19 +32,112 @@ public class JobSearch {
     private String JOB_INDEX;
 
     private final SearchQueryExecutor executor;
+    private final JobSearchCache cache;
     private static final Integer DEFAULT_PAGE_SIZE = 30;
+    // values returned per facet, most frequent first
+    private static final int FACET_SIZE = 30;
+
+    // cursor pages are read from one point in time, kept alive this long after each page
+    private static final String PIT_KEEP_ALIVE = "1m";
+    // relevance first, job_id as unique tiebreaker so no hit is skipped or repeated between pages
+    private static final List<SortOptions> CURSOR_SORT = List.of(
+            SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc))),
+            SortOptions.of(s -> s.field(f -> f.field(JobIndexField.JOB_ID.getFieldName()).order(SortOrder.Desc)))
+    );
 
+    /**
+     * repeated searches are served from JobSearchCache until the sync writes to the index or the TTL expires
+     */
     public JobSearchResult search(SearchCommand command) {
+        return cache.get(command, () -> searchIndex(command));
+    }
+
+    private JobSearchResult searchIndex(SearchCommand command) {
+        var pagination = PaginationUtils.calculatePaginationInfo(command.from(), command.to(), DEFAULT_PAGE_SIZE);
+        if (!command.facets().isEmpty()) {
+            return searchIndexWithFacets(command, pagination);
+        }
+
         var q = GenericSearchQueryBuilder.build(command,
                 JobIndexQueryBuilderRegistry.LOOKUP,
                 JobIndexRangeQueryBuilderRegistry.LOOKUP);
 
-        var pagination = PaginationUtils.calculatePaginationInfo(command.from(), command.to(), DEFAULT_PAGE_SIZE);
-
-        var docs = executor.search(JOB_INDEX, q, pagination.from(), pagination.searchSize(), JobDoc.class);
+        // list searches only read the card fields (no full_description)
+        var docs = executor.search(JOB_INDEX, q, pagination.from(), pagination.searchSize(),
+                JobCardDoc.FIELDS, JobCardDoc.class);
         var result = PaginationUtils.paginate(docs, pagination.requestedSize());
 
         return new JobSearchResult(result.data(), result.hasNext());
     }
-}
 
+    /**
+     * hits and facet counts in one request; filters on a faceted field go to post_filter,
+     * so each facet counts under every filter except its own
+     */
+    private JobSearchResult searchIndexWithFacets(SearchCommand command, PaginationUtils.PaginationInfo pagination) {
+        var faceted = FacetedSearchQueryBuilder.build(command,
+                JobIndexQueryBuilderRegistry.LOOKUP,
+                JobIndexRangeQueryBuilderRegistry.LOOKUP,
+                FACET_SIZE);
+
+        var page = executor.searchWithFacets(JOB_INDEX, faceted, pagination.from(), pagination.searchSize(),
+                JobCardDoc.FIELDS, JobCardDoc.class);
+        var result = PaginationUtils.paginate(page.docs(), pagination.requestedSize());
+
+        return new JobSearchResult(result.data(), result.hasNext(), page.facets());
+    }
+
+    /**
+     * search one page after the cursor with search_after on a point in time, so page N costs the same as page 1
+     * <p>
+     * from/to of the command are ignored; results are not cached since they belong to the cursor's point in time.
+     * if the point in time has expired, the search continues after the same sort values on a new one.
+     *
+     * @param cursor nextCursor of the previous page, null for the first page
+     */
+    public JobCursorSearchResult searchByCursor(SearchCommand command, String cursor, int size) {
+        var q = GenericSearchQueryBuilder.build(command,
+                JobIndexQueryBuilderRegistry.LOOKUP,
+                JobIndexRangeQueryBuilderRegistry.LOOKUP);
+
+        JobSearchCursor after = cursor != null && !cursor.isBlank() ? JobSearchCursor.decode(cursor) : null;
+        var searchAfter = after != null ? after.sortValues() : null;
+        String pitId = after != null ? after.pitId() : executor.openPointInTime(JOB_INDEX, PIT_KEEP_ALIVE);
+
+        // +1 for hasNext
+        SearchAfterPage<JobCardDoc> page;
+        try {
+            page = executor.searchAfter(q, size + 1, CURSOR_SORT, searchAfter, pitId, PIT_KEEP_ALIVE,
+                    JobCardDoc.FIELDS, JobCardDoc.class);
+        } catch (ElasticsearchQueryException e) {
+            if (after == null || !isPointInTimeMissing(e)) {
+                throw e;
+            }
+            log.debug("Point in time of the cursor expired, continuing on a new one");
+            pitId = executor.openPointInTime(JOB_INDEX, PIT_KEEP_ALIVE);
+            page = executor.searchAfter(q, size + 1, CURSOR_SORT, searchAfter, pitId, PIT_KEEP_ALIVE,
+                    JobCardDoc.FIELDS, JobCardDoc.class);
+        }
+
+        List<Hit<JobCardDoc>> hits = page.hits();
+        boolean hasNext = hits.size() > size;
+        List<Hit<JobCardDoc>> pageHits = hasNext ? hits.subList(0, size) : hits;
+        List<JobCardDoc> docs = pageHits.stream()
+                .map(Hit::source)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (!hasNext) {
+            executor.closePointInTime(page.pitId());
+            return new JobCursorSearchResult(docs, false, null);
+        }
+
+        Hit<JobCardDoc> last = pageHits.get(pageHits.size() - 1);
+        String nextCursor = JobSearchCursor.after(last.sort(), page.pitId()).encode();
+        return new JobCursorSearchResult(docs, true, nextCursor);
+    }
+
+    private static boolean isPointInTimeMissing(ElasticsearchQueryException e) {
+        return e.getCause() instanceof ElasticsearchException cause && cause.status() == 404;
+    }
+}
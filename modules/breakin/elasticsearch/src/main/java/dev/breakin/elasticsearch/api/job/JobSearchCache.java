@@ -0,0 +1,178 @@
+package dev.breakin.elasticsearch.api.job;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.breakin.elasticsearch.document.fieldSpec.DocQueryType;
+import dev.breakin.elasticsearch.document.fieldSpec.job.JobIndexField;
+import dev.breakin.elasticsearch.internal.cache.SearchGeneration;
+import dev.breakin.elasticsearch.internal.cache.SearchGenerationStore;
+import dev.breakin.elasticsearch.internal.queryBuilder.FieldName;
+import dev.breakin.elasticsearch.internal.queryBuilder.SearchCommand;
+import dev.breakin.elasticsearch.internal.queryBuilder.SearchElement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of job search results in front of Elasticsearch
+ *
+ * Results are keyed by the canonical form of the search command (conditions and facets sorted, match values normalized,
+ * from and to included) and by the index generation, which the sync bumps after every batch it writes.
+ * A bump therefore invalidates every cached result at once, without tracking which results a job appears in.
+ * Results also expire after the TTL, which bounds staleness of writes that do not bump the generation.
+ */
+@Component
+@Slf4j
+public class JobSearchCache {
+
+    private static final Comparator<Condition> CONDITION_ORDER = Comparator
+            .comparing(Condition::field)
+            .thenComparing(Condition::value, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Condition::gte, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Condition::lte, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final String index;
+    private final SearchGenerationStore generationStore;
+    private final JobSearchCacheProperties properties;
+    private final Cache<CacheKey, JobSearchResult> cache;
+
+    private final ReentrantLock generationLock = new ReentrantLock();
+    private volatile ObservedGeneration observed;
+    private final AtomicLong statsLoggedAt = new AtomicLong(System.currentTimeMillis());
+
+    public JobSearchCache(@Value("${es.index.hiring}") String index,
+                          SearchGenerationStore generationStore,
+                          JobSearchCacheProperties properties) {
+        this.index = index;
+        this.generationStore = generationStore;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Return the cached result of the command, or run the search and cache its result
+     */
+    public JobSearchResult get(SearchCommand<?> command, Supplier<JobSearchResult> search) {
+        if (!properties.isEnabled()) {
+            return search.get();
+        }
+
+        SearchGeneration generation = currentGeneration();
+        if (generation == null) {
+            // generation unknown, a cached result could be stale
+            return search.get();
+        }
+
+        CacheKey key = CacheKey.of(command, generation.generation());
+        JobSearchResult result = cache.getIfPresent(key);
+        if (result == null) {
+            result = search.get();
+            // documents written right before the bump may not be searchable yet
+            if (System.currentTimeMillis() - generation.bumpedAt() >= properties.getSettleTime().toMillis()) {
+                cache.put(key, result);
+            }
+        }
+
+        logStats();
+        return result;
+    }
+
+    /**
+     * Invalidate cached results of every process by bumping the index generation
+     */
+    public void invalidate() {
+        generationStore.bump(index);
+        observed = null;
+    }
+
+    /**
+     * @return the generation read at most generationPollInterval ago, or null if it cannot be read
+     */
+    private SearchGeneration currentGeneration() {
+        long now = System.currentTimeMillis();
+        ObservedGeneration current = observed;
+        if (current != null && now - current.observedAt() < properties.getGenerationPollInterval().toMillis()) {
+            return current.generation();
+        }
+
+        // one thread reads the generation, the others keep using the previous one meanwhile
+        if (!generationLock.tryLock()) {
+            return current != null ? current.generation() : null;
+        }
+        try {
+            SearchGeneration generation = generationStore.find(index);
+            observed = new ObservedGeneration(generation, now);
+            return generation;
+        } catch (Exception e) {
+            log.warn("Failed to read search generation, bypassing the cache: index={}", index, e);
+            observed = null;
+            return null;
+        } finally {
+            generationLock.unlock();
+        }
+    }
+
+    private void logStats() {
+        long now = System.currentTimeMillis();
+        long last = statsLoggedAt.get();
+        if (now - last < properties.getStatsInterval().toMillis() || !statsLoggedAt.compareAndSet(last, now)) {
+            return;
+        }
+
+        CacheStats stats = cache.stats();
+        log.info("Job search cache stats: hitRate={}%, hits={}, misses={}, evictions={}, size={}",
+                String.format("%.1f", stats.hitRate() * 100), stats.hitCount(), stats.missCount(),
+                stats.evictionCount(), cache.estimatedSize());
+    }
+
+    private record ObservedGeneration(SearchGeneration generation, long observedAt) {
+    }
+
+    private record Condition(String field, String value, String gte, String lte) {
+
+        static Condition of(SearchElement<?> element) {
+            FieldName field = element.getField();
+            return new Condition(field.getFieldName(), normalize(field, element.getValue()),
+                    element.getGte(), element.getLte());
+        }
+
+        /**
+         * match values are analyzed, so case and extra whitespace do not change the result;
+         * term values are compared exactly and kept as they are
+         */
+        private static String normalize(FieldName field, String value) {
+            if (value == null || !(field instanceof JobIndexField jobField) || jobField.getQueryType() != DocQueryType.MATCH) {
+                return value;
+            }
+            return value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record CacheKey(List<Condition> conditions, List<String> facets, int from, int to, long generation) {
+
+        static CacheKey of(SearchCommand<?> command, long generation) {
+            List<Condition> conditions = command.conditions().stream()
+                    .map(Condition::of)
+                    .sorted(CONDITION_ORDER)
+                    .toList();
+            List<String> facets = command.facets().stream()
+                    .map(FieldName::getFieldName)
+                    .distinct()
+                    .sorted()
+                    .toList();
+            return new CacheKey(conditions, facets, command.from(), command.to(), generation);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.breakin.elasticsearch.api.job;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the job search result cache
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.es.search-cache")
+@Getter
+@Setter
+public class JobSearchCacheProperties {
+
+    /**
+     * Serve repeated searches from the cache, false sends every search to Elasticsearch
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound of cached results, less frequently used results are evicted first (W-TinyLFU)
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long a result is served at most, bounds staleness of changes that do not bump the generation
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * How often the generation is read from Elasticsearch, bounds how long a bump takes to invalidate
+     */
+    private Duration generationPollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Results are not cached for this long after a bump, until the written documents are refreshed
+     * (should be at least the index refresh interval)
+     */
+    private Duration settleTime = Duration.ofSeconds(1);
+
+    /**
+     * How often hit rate and evictions are logged
+     */
+    private Duration statsInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,81 @@
+package dev.breakin.elasticsearch.api.job;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.breakin.elasticsearch.exception.InvalidSearchCursorException;
+
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Position in a cursor-paginated job search, handed to the client as an opaque string
+ *
+ * @param score score of the last hit of the page (first sort key)
+ * @param jobId job id of the last hit of the page (tiebreaker)
+ * @param pitId point in time the pages are read from
+ */
+record JobSearchCursor(
+    @JsonProperty("s") double score,
+    @JsonProperty("j") long jobId,
+    @JsonProperty("p") String pitId
+) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * @param sortValues sort values of the last hit, in the order of JobSearch's cursor sort
+     */
+    static JobSearchCursor after(List<FieldValue> sortValues, String pitId) {
+        if (sortValues == null || sortValues.size() < 2) {
+            throw new IllegalStateException("hit has no sort values to continue after: " + sortValues);
+        }
+        return new JobSearchCursor(toDouble(sortValues.get(0)), toLong(sortValues.get(1)), pitId);
+    }
+
+    static JobSearchCursor decode(String cursor) {
+        try {
+            JobSearchCursor decoded = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), JobSearchCursor.class);
+            if (decoded.pitId() == null) {
+                throw new InvalidSearchCursorException(cursor);
+            }
+            return decoded;
+        } catch (InvalidSearchCursorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvalidSearchCursorException(cursor);
+        }
+    }
+
+    String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode search cursor", e);
+        }
+    }
+
+    List<FieldValue> sortValues() {
+        return List.of(FieldValue.of(score), FieldValue.of(jobId));
+    }
+
+    private static double toDouble(FieldValue value) {
+        if (value.isDouble()) {
+            return value.doubleValue();
+        }
+        if (value.isLong()) {
+            return value.longValue();
+        }
+        return Double.parseDouble(String.valueOf(value._get()));
+    }
+
+    private static long toLong(FieldValue value) {
+        if (value.isLong()) {
+            return value.longValue();
+        }
+        if (value.isDouble()) {
+            return (long) value.doubleValue();
+        }
+        return Long.parseLong(String.valueOf(value._get()));
+    }
+}
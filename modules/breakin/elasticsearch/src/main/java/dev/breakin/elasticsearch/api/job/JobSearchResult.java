@@ -1,13 +1,26 @@
 package dev.breakin.elasticsearch.api.job;
 
 
-import dev.breakin.elasticsearch.document.JobDoc;
+import dev.breakin.elasticsearch.document.JobCardDoc;
+import dev.breakin.elasticsearch.internal.queryBuilder.FacetCount;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * @param facets counts per requested facet field name, empty if no facet was requested
+ */
 public record JobSearchResult(
-        List<JobDoc> docs,
-        boolean hasNext
+        List<JobCardDoc> docs,
+        boolean hasNext,
+        Map<String, List<FacetCount>> facets
 ) {
+    public JobSearchResult {
+        facets = facets == null ? Map.of() : facets;
+    }
+
+    public JobSearchResult(List<JobCardDoc> docs, boolean hasNext) {
+        this(docs, hasNext, Map.of());
+    }
 }
 
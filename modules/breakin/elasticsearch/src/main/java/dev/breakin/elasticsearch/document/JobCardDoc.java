@@ -0,0 +1,86 @@
+package dev.breakin.elasticsearch.document;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.breakin.model.common.Company;
+import dev.breakin.model.job.CareerLevel;
+import dev.breakin.model.job.EmploymentType;
+import dev.breakin.model.job.PositionCategory;
+import dev.breakin.model.job.RemotePolicy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JobCardDoc - the part of an indexed JobDoc shown in a search result list
+ *
+ * Read with source filtering, so full_description and the interview/meta fields are neither
+ * transferred nor parsed for list searches.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JobCardDoc(
+    @JsonProperty("job_id") Long jobId,
+    @JsonProperty("url") String url,
+    @JsonProperty("company") Company company,
+    @JsonProperty("title") String title,
+    @JsonProperty("organization") String organization,
+    @JsonProperty("one_line_summary") String oneLineSummary,
+    @JsonProperty("min_years") Integer minYears,
+    @JsonProperty("max_years") Integer maxYears,
+    @JsonProperty("career_level") CareerLevel careerLevel,
+    @JsonProperty("employment_type") EmploymentType employmentType,
+    @JsonProperty("position_category") PositionCategory positionCategory,
+    @JsonProperty("remote_policy") RemotePolicy remotePolicy,
+    @JsonProperty("tech_categories") List<String> techCategories,
+    @JsonProperty("locations") List<String> locations,
+    @JsonProperty("compensation_min_base_pay") BigDecimal compensationMinBasePay,
+    @JsonProperty("compensation_max_base_pay") BigDecimal compensationMaxBasePay,
+    @JsonProperty("compensation_currency") String compensationCurrency,
+    @JsonProperty("compensation_unit") String compensationUnit,
+    @JsonProperty("compensation_has_stock_option") Boolean compensationHasStockOption,
+    @JsonProperty("started_at") Instant startedAt,
+    @JsonProperty("ended_at") Instant endedAt,
+    @JsonProperty("is_open_ended") Boolean isOpenEnded,
+    @JsonProperty("is_closed") Boolean isClosed,
+    @JsonProperty("popularity_view_count") Long popularityViewCount,
+    @JsonProperty("popularity_comment_count") Long popularityCommentCount,
+    @JsonProperty("popularity_like_count") Long popularityLikeCount,
+    @JsonProperty("created_at") Instant createdAt,
+    @JsonProperty("updated_at") Instant updatedAt
+) {
+
+    /**
+     * source fields to read
+     */
+    public static final List<String> FIELDS = List.of(
+        "job_id",
+        "url",
+        "company",
+        "title",
+        "organization",
+        "one_line_summary",
+        "min_years",
+        "max_years",
+        "career_level",
+        "employment_type",
+        "position_category",
+        "remote_policy",
+        "tech_categories",
+        "locations",
+        "compensation_min_base_pay",
+        "compensation_max_base_pay",
+        "compensation_currency",
+        "compensation_unit",
+        "compensation_has_stock_option",
+        "started_at",
+        "ended_at",
+        "is_open_ended",
+        "is_closed",
+        "popularity_view_count",
+        "popularity_comment_count",
+        "popularity_like_count",
+        "created_at",
+        "updated_at"
+    );
+}
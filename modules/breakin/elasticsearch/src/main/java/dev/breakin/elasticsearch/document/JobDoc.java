@@ -9,6 +9,7 @@ import dev.breakin.model.job.EmploymentType;
 import dev.breakin.model.job.PositionCategory;
 import dev.breakin.model.job.RemotePolicy;
 import lombok.Value;
+import lombok.With;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -179,4 +180,10 @@ public class JobDoc implements DocBase {
     // ES Type: date
     @JsonProperty("updated_at")
     Instant updatedAt;
+
+    // ES Type: keyword (index: false, doc_values: false - see JobIndexMappings)
+    // hash of the other fields except updated_at and popularity, to skip re-indexing an unchanged document
+    @With
+    @JsonProperty("content_hash")
+    String contentHash;
 }
@@ -0,0 +1,44 @@
+package dev.breakin.elasticsearch.document;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JobIndexState - the part of an indexed JobDoc that tells whether it has to be indexed again
+ *
+ * Read back with source filtering, so only these fields are transferred.
+ * A matching content_hash with a different updated_at or popularity only needs a partial update.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JobIndexState(
+    @JsonProperty("content_hash") String contentHash,
+    @JsonProperty("updated_at") Instant updatedAt,
+    @JsonProperty("popularity_view_count") Long popularityViewCount,
+    @JsonProperty("popularity_comment_count") Long popularityCommentCount,
+    @JsonProperty("popularity_like_count") Long popularityLikeCount
+) {
+
+    /**
+     * source fields to read back
+     */
+    public static final List<String> FIELDS = List.of(
+        "content_hash",
+        "updated_at",
+        "popularity_view_count",
+        "popularity_comment_count",
+        "popularity_like_count"
+    );
+
+    public static JobIndexState of(JobDoc doc) {
+        return new JobIndexState(
+            doc.getContentHash(),
+            doc.getUpdatedAt(),
+            doc.getPopularityViewCount(),
+            doc.getPopularityCommentCount(),
+            doc.getPopularityLikeCount()
+        );
+    }
+}
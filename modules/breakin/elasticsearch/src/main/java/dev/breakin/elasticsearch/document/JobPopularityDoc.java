@@ -0,0 +1,34 @@
+package dev.breakin.elasticsearch.document;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+
+/**
+ * JobPopularityDoc - partial JobDoc with only the popularity fields
+ *
+ * Sent as the partial document of an update request, so a popularity change
+ * does not re-send and re-analyze the whole JobDoc (e.g. full_description).
+ * Field names must match the popularity fields of {@link JobDoc}.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobPopularityDoc implements DocBase {
+
+    // Document id of the JobDoc to update, not part of the partial source
+    @JsonIgnore
+    String docId;
+
+    // ES Type: long
+    @JsonProperty("popularity_view_count")
+    Long popularityViewCount;
+
+    // ES Type: long
+    @JsonProperty("popularity_comment_count")
+    Long popularityCommentCount;
+
+    // ES Type: long
+    @JsonProperty("popularity_like_count")
+    Long popularityLikeCount;
+}
@@ -0,0 +1,40 @@
+package dev.breakin.elasticsearch.document;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * JobVersionDoc - partial JobDoc with the fields left out of content_hash
+ *
+ * Sent as the partial document of an update request when a job was saved without a content change,
+ * so the indexed updated_at keeps matching the DB (the consistency check compares it) without
+ * re-sending the whole JobDoc. Field names must match the fields of {@link JobDoc}.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobVersionDoc implements DocBase {
+
+    // Document id of the JobDoc to update, not part of the partial source
+    @JsonIgnore
+    String docId;
+
+    // ES Type: date
+    @JsonProperty("updated_at")
+    Instant updatedAt;
+
+    // ES Type: long
+    @JsonProperty("popularity_view_count")
+    Long popularityViewCount;
+
+    // ES Type: long
+    @JsonProperty("popularity_comment_count")
+    Long popularityCommentCount;
+
+    // ES Type: long
+    @JsonProperty("popularity_like_count")
+    Long popularityLikeCount;
+}
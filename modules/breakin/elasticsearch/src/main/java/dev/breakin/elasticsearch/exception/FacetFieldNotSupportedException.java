@@ -0,0 +1,13 @@
+package dev.breakin.elasticsearch.exception;
+
+import dev.breakin.exception.BadRequestException;
+
+/**
+ * Exception thrown when a facet is requested on a field that is not a registered keyword (term) field
+ */
+public class FacetFieldNotSupportedException extends BadRequestException {
+
+    public FacetFieldNotSupportedException(String fieldName) {
+        super("Facet not supported for field: " + fieldName);
+    }
+}
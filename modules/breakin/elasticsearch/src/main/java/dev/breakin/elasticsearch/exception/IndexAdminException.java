@@ -0,0 +1,15 @@
+package dev.breakin.elasticsearch.exception;
+
+/**
+ * Exception thrown when an index administration request (create, settings, alias) fails
+ */
+public class IndexAdminException extends RuntimeException {
+
+    public IndexAdminException(String message) {
+        super(message);
+    }
+
+    public IndexAdminException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
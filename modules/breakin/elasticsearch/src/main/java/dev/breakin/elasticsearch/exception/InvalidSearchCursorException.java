@@ -0,0 +1,13 @@
+package dev.breakin.elasticsearch.exception;
+
+import dev.breakin.exception.BadRequestException;
+
+/**
+ * Exception thrown when a search cursor sent by the client cannot be decoded
+ */
+public class InvalidSearchCursorException extends BadRequestException {
+
+    public InvalidSearchCursorException(String cursor) {
+        super("Invalid search cursor: " + cursor);
+    }
+}
@@ -0,0 +1,270 @@
+package dev.breakin.elasticsearch.internal.admin;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.IndicesBlockOptions;
+import co.elastic.clients.elasticsearch.indices.IndexSettingsAnalysis;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import dev.breakin.elasticsearch.exception.IndexAdminException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Index administration for rebuilding an index behind a read alias
+ *
+ * A rebuild creates a new versioned index tuned for bulk loading (no replicas, refresh disabled),
+ * restores the settings once loaded, and then atomically moves the read alias to it.
+ * The previous index is left in place so the alias can be moved back. A plain index that still has the
+ * alias name cannot stay next to the alias, so it is cloned to a legacy copy before it is replaced.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndexAdmin {
+
+    private static final DateTimeFormatter LEGACY_SUFFIX_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneOffset.UTC);
+
+    private final ElasticsearchClient esClient;
+
+    /**
+     * Resolve the concrete index the given alias points to
+     *
+     * @param alias read alias, or the name of a plain index not yet served through an alias
+     * @return the concrete index, or empty if neither an alias nor an index of that name exists
+     */
+    public Optional<String> resolve(String alias) {
+        try {
+            if (isAlias(alias)) {
+                Set<String> indices = esClient.indices().getAlias(g -> g.name(alias)).result().keySet();
+                if (indices.size() > 1) {
+                    throw new IndexAdminException("Alias points to more than one index: " + alias + " -> " + indices);
+                }
+                return indices.stream().findFirst();
+            }
+            return exists(alias) ? Optional.of(alias) : Optional.empty();
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to resolve alias: " + alias, e);
+        }
+    }
+
+    public boolean exists(String index) {
+        try {
+            return esClient.indices().exists(e -> e.index(index)).value();
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to check index: " + index, e);
+        }
+    }
+
+    /**
+     * Create an index for a bulk load, with no replicas and refresh disabled until {@link #restoreSettings}
+     *
+     * @param index         name of the new index
+     * @param templateIndex existing index to copy the mappings and analysis settings from, or null for dynamic mappings
+     * @param shards        number of primary shards
+     */
+    public void createForBulkLoad(String index, String templateIndex, int shards) {
+        createForBulkLoad(index, templateIndex, shards, Map.of());
+    }
+
+    /**
+     * Create an index for a bulk load, with no replicas and refresh disabled until {@link #restoreSettings}
+     *
+     * @param index              name of the new index
+     * @param templateIndex      existing index to copy the mappings and analysis settings from, or null for dynamic mappings
+     * @param shards             number of primary shards
+     * @param propertyOverrides  field mappings replacing the copied ones, e.g. to fix a field the template index mapped dynamically
+     */
+    public void createForBulkLoad(String index, String templateIndex, int shards, Map<String, Property> propertyOverrides) {
+        try {
+            TypeMapping mappings = null;
+            IndexSettingsAnalysis analysis = null;
+            if (templateIndex != null) {
+                IndexState template = esClient.indices().get(g -> g.index(templateIndex)).result().get(templateIndex);
+                if (template != null) {
+                    mappings = template.mappings();
+                    analysis = analysisOf(template.settings());
+                }
+            }
+            if (!propertyOverrides.isEmpty()) {
+                mappings = withProperties(mappings, propertyOverrides);
+            }
+
+            TypeMapping copiedMappings = mappings;
+            IndexSettingsAnalysis copiedAnalysis = analysis;
+            esClient.indices().create(c -> {
+                c.index(index).settings(s -> {
+                    s.numberOfShards(String.valueOf(shards))
+                            .numberOfReplicas("0")
+                            .refreshInterval(t -> t.time("-1"));
+                    if (copiedAnalysis != null) {
+                        s.analysis(copiedAnalysis);
+                    }
+                    return s;
+                });
+                if (copiedMappings != null) {
+                    c.mappings(copiedMappings);
+                }
+                return c;
+            });
+            log.info("Created index for bulk load: index={}, template={}, shards={}", index, templateIndex, shards);
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to create index: " + index, e);
+        }
+    }
+
+    /**
+     * Put a composable index template, so every index matching the patterns is created with the given field mappings,
+     * including an index created implicitly by the first write. Mappings given when an index is created take precedence.
+     *
+     * @param name       template name, an existing template of that name is replaced
+     * @param patterns   index patterns the template applies to
+     * @param properties field mappings of the template
+     */
+    public void putTemplate(String name, List<String> patterns, Map<String, Property> properties) {
+        try {
+            esClient.indices().putIndexTemplate(t -> t
+                    .name(name)
+                    .indexPatterns(patterns)
+                    .template(tm -> tm.mappings(m -> m.properties(properties))));
+            log.info("Put index template: name={}, patterns={}, fields={}", name, patterns, properties.keySet());
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to put index template: " + name, e);
+        }
+    }
+
+    /**
+     * Restore replicas and refresh after a bulk load, and refresh once so the loaded documents are searchable
+     */
+    public void restoreSettings(String index, int replicas, String refreshInterval) {
+        try {
+            esClient.indices().putSettings(p -> p
+                    .index(index)
+                    .settings(s -> s
+                            .numberOfReplicas(String.valueOf(replicas))
+                            .refreshInterval(t -> t.time(refreshInterval))));
+            esClient.indices().refresh(r -> r.index(index));
+            log.info("Restored index settings: index={}, replicas={}, refreshInterval={}", index, replicas, refreshInterval);
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to restore settings: " + index, e);
+        }
+    }
+
+    /**
+     * Atomically point the alias to the given index only
+     * <p>
+     * If a plain index still has the alias name (it was never served through an alias), it is first cloned to
+     * "&lt;alias&gt;-legacy-&lt;timestamp&gt;" and then removed in the same request that adds the alias, since an
+     * alias cannot share a name with an index. The copy keeps the write block the clone needs; remove it
+     * (index.blocks.write=false) before moving the alias back to the copy.
+     *
+     * @return the index holding the documents the alias served before (the legacy copy for a plain index), if any
+     */
+    public Optional<String> swapAlias(String alias, String index) {
+        try {
+            boolean aliased = isAlias(alias);
+            Optional<String> current = resolve(alias);
+            Optional<String> previous = current.isPresent() && !aliased
+                    ? Optional.of(cloneToLegacy(alias))
+                    : current;
+
+            esClient.indices().updateAliases(u -> {
+                if (previous.isPresent() && aliased) {
+                    u.actions(a -> a.remove(r -> r.index(previous.get()).alias(alias)));
+                } else if (previous.isPresent()) {
+                    u.actions(a -> a.removeIndex(r -> r.index(alias)));
+                }
+                return u.actions(a -> a.add(add -> add.index(index).alias(alias)));
+            });
+            log.info("Swapped alias: alias={}, {} -> {}", alias, previous.orElse("(none)"), index);
+            return previous;
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to swap alias: " + alias + " -> " + index, e);
+        }
+    }
+
+    /**
+     * Clone a plain index before it is replaced by an alias, so its documents are kept for a rollback
+     * <p>
+     * The clone API needs the source to be write-blocked. Writes to the source fail from here until the swap
+     * (the sync retries them through the outbox), and the block is lifted again if the clone fails.
+     *
+     * @return name of the copy
+     */
+    private String cloneToLegacy(String index) throws IOException {
+        String legacy = index + "-legacy-" + LEGACY_SUFFIX_FORMAT.format(Instant.now());
+        esClient.indices().addBlock(b -> b.index(index).block(IndicesBlockOptions.Write));
+        try {
+            esClient.indices().clone(c -> c.index(index).target(legacy));
+        } catch (IOException | RuntimeException e) {
+            esClient.indices().putSettings(p -> p.index(index).settings(s -> s.blocks(b -> b.write(false))));
+            throw e;
+        }
+        log.info("Cloned plain index before replacing it with an alias: index={}, copy={}", index, legacy);
+        return legacy;
+    }
+
+    private boolean isAlias(String alias) throws IOException {
+        return esClient.indices().existsAlias(e -> e.name(alias)).value();
+    }
+
+    // settings of a get index response are nested under "index"
+    private IndexSettingsAnalysis analysisOf(IndexSettings settings) {
+        if (settings == null) {
+            return null;
+        }
+        if (settings.index() != null && settings.index().analysis() != null) {
+            return settings.index().analysis();
+        }
+        return settings.analysis();
+    }
+
+    /**
+     * Copy of the mappings with the given field mappings replacing or adding top-level properties
+     */
+    private static TypeMapping withProperties(TypeMapping mappings, Map<String, Property> overrides) {
+        Map<String, Property> properties = new HashMap<>(mappings != null ? mappings.properties() : Map.of());
+        properties.putAll(overrides);
+        if (mappings == null) {
+            return TypeMapping.of(m -> m.properties(properties));
+        }
+        return TypeMapping.of(m -> {
+            m.properties(properties)
+                    .dynamicTemplates(mappings.dynamicTemplates())
+                    .runtime(mappings.runtime())
+                    .meta(mappings.meta());
+            if (mappings.dynamic() != null) {
+                m.dynamic(mappings.dynamic());
+            }
+            if (mappings.source() != null) {
+                m.source(mappings.source());
+            }
+            if (mappings.routing() != null) {
+                m.routing(mappings.routing());
+            }
+            if (mappings.dateDetection() != null) {
+                m.dateDetection(mappings.dateDetection());
+            }
+            if (mappings.numericDetection() != null) {
+                m.numericDetection(mappings.numericDetection());
+            }
+            if (!mappings.dynamicDateFormats().isEmpty()) {
+                m.dynamicDateFormats(mappings.dynamicDateFormats());
+            }
+            return m;
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package dev.breakin.elasticsearch.internal.admin;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Progress of an index rebuild, saved so a crashed rebuild resumes where it stopped
+ *
+ * @param alias        read alias being rebuilt
+ * @param targetIndex  new index being loaded
+ * @param lastId       every source row up to this id has been indexed
+ * @param indexedCount documents indexed so far
+ * @param startedAt    when the rebuild started, changes made since then have to be caught up
+ * @param updatedAt    when the checkpoint was saved
+ */
+public record ReindexCheckpoint(
+    @JsonProperty("alias") String alias,
+    @JsonProperty("target_index") String targetIndex,
+    @JsonProperty("last_id") long lastId,
+    @JsonProperty("indexed_count") long indexedCount,
+    @JsonProperty("started_at") Instant startedAt,
+    @JsonProperty("updated_at") Instant updatedAt
+) {
+
+    public static ReindexCheckpoint start(String alias, String targetIndex) {
+        Instant now = Instant.now();
+        return new ReindexCheckpoint(alias, targetIndex, 0L, 0L, now, now);
+    }
+
+    public ReindexCheckpoint advance(long lastId, long indexedCount) {
+        return new ReindexCheckpoint(alias, targetIndex, lastId, indexedCount, startedAt, Instant.now());
+    }
+}
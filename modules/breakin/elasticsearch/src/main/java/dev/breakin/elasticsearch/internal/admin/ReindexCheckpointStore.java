@@ -0,0 +1,62 @@
+package dev.breakin.elasticsearch.internal.admin;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import dev.breakin.elasticsearch.exception.IndexAdminException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Stores rebuild checkpoints in a small Elasticsearch index, one document per alias
+ */
+@Component
+@RequiredArgsConstructor
+public class ReindexCheckpointStore {
+
+    static final String CHECKPOINT_INDEX = "breakin-reindex-checkpoints";
+
+    private final ElasticsearchClient esClient;
+
+    /**
+     * @return the checkpoint of an unfinished rebuild of the alias, if any
+     */
+    public Optional<ReindexCheckpoint> find(String alias) {
+        try {
+            var response = esClient.get(g -> g.index(CHECKPOINT_INDEX).id(alias), ReindexCheckpoint.class);
+            return response.found() ? Optional.ofNullable(response.source()) : Optional.empty();
+        } catch (ElasticsearchException e) {
+            // checkpoint index not created yet
+            if (e.status() == 404) {
+                return Optional.empty();
+            }
+            throw new IndexAdminException("Failed to read reindex checkpoint: " + alias, e);
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to read reindex checkpoint: " + alias, e);
+        }
+    }
+
+    public void save(ReindexCheckpoint checkpoint) {
+        try {
+            esClient.index(i -> i
+                    .index(CHECKPOINT_INDEX)
+                    .id(checkpoint.alias())
+                    .document(checkpoint));
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to save reindex checkpoint: " + checkpoint.alias(), e);
+        }
+    }
+
+    /**
+     * Remove the checkpoint once the rebuild has finished
+     */
+    public void delete(String alias) {
+        try {
+            esClient.delete(d -> d.index(CHECKPOINT_INDEX).id(alias));
+        } catch (IOException e) {
+            throw new IndexAdminException("Failed to delete reindex checkpoint: " + alias, e);
+        }
+    }
+}
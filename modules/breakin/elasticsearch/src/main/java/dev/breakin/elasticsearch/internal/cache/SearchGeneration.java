@@ -0,0 +1,17 @@
+package dev.breakin.elasticsearch.internal.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Version of the searchable contents of an index, bumped whenever the sync writes to it
+ *
+ * @param generation increases by one per bump, 0 if the index was never bumped
+ * @param bumpedAt   epoch millis of the last bump, 0 if the index was never bumped
+ */
+public record SearchGeneration(
+    @JsonProperty("generation") long generation,
+    @JsonProperty("bumped_at") long bumpedAt
+) {
+
+    public static final SearchGeneration INITIAL = new SearchGeneration(0L, 0L);
+}
@@ -0,0 +1,64 @@
+package dev.breakin.elasticsearch.internal.cache;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.json.JsonData;
+import dev.breakin.elasticsearch.exception.ElasticsearchQueryException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Stores search generations in a small Elasticsearch index, one document per index alias
+ *
+ * The sync and the search run in different processes, so the generation is shared through
+ * Elasticsearch instead of memory: the sync bumps it after writing, every search cache reads it.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchGenerationStore {
+
+    static final String GENERATION_INDEX = "breakin-search-generations";
+
+    private static final String BUMP_SCRIPT = "ctx._source.generation += 1; ctx._source.bumped_at = params.now";
+
+    private final ElasticsearchClient esClient;
+
+    /**
+     * @return the current generation of the index, INITIAL if it was never bumped
+     */
+    public SearchGeneration find(String index) {
+        try {
+            var response = esClient.get(g -> g.index(GENERATION_INDEX).id(index), SearchGeneration.class);
+            return response.found() && response.source() != null ? response.source() : SearchGeneration.INITIAL;
+        } catch (ElasticsearchException e) {
+            // generation index not created yet
+            if (e.status() == 404) {
+                return SearchGeneration.INITIAL;
+            }
+            throw new ElasticsearchQueryException("Failed to read search generation: " + index, e);
+        } catch (IOException e) {
+            throw new ElasticsearchQueryException("Failed to read search generation: " + index, e);
+        }
+    }
+
+    /**
+     * Increase the generation of the index, creating it on the first bump
+     */
+    public void bump(String index) {
+        long now = System.currentTimeMillis();
+        try {
+            esClient.update(u -> u
+                    .index(GENERATION_INDEX)
+                    .id(index)
+                    .script(s -> s.inline(i -> i
+                            .source(BUMP_SCRIPT)
+                            .params("now", JsonData.of(now))))
+                    .upsert(new SearchGeneration(1L, now))
+                    .retryOnConflict(5), SearchGeneration.class);
+        } catch (IOException | ElasticsearchException e) {
+            throw new ElasticsearchQueryException("Failed to bump search generation: " + index, e);
+        }
+    }
+}
@@ -1,20 +1,49 @@
 package dev.breakin.elasticsearch.internal.indexer;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.DeleteResponse;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.util.BinaryData;
+import co.elastic.clients.util.ContentType;
 import dev.breakin.elasticsearch.document.DocBase;
 import dev.breakin.elasticsearch.exception.DocumentIndexingException;
+import jakarta.json.stream.JsonGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
 
 @RequiredArgsConstructor
 @Slf4j
 @Component
 public abstract class AbstractDocIndexer implements DocIndexer {
 
+    /**
+     * max documents per _bulk request
+     */
+    static final int BULK_MAX_ACTIONS = 500;
+
+    /**
+     * max source bytes per _bulk request (ES recommends 5-15MB)
+     */
+    static final long BULK_MAX_BYTES = 5L * 1024 * 1024;
+
     protected final ElasticsearchClient esClient;
 
     /**
@@ -52,6 +81,240 @@ public abstract class AbstractDocIndexer implements DocIndexer {
         }
     }
 
+    /**
+     * index documents with _bulk requests, split by BULK_MAX_ACTIONS and BULK_MAX_BYTES
+     * <p>
+     * never throws for a failed document or request; failures are reported per document
+     */
+    @Override
+    public BulkIndexResult indexAll(List<? extends DocBase> docs) {
+        return indexAll(getIndex(), docs);
+    }
+
+    /**
+     * index documents into the given index instead of getIndex(), e.g. a new index being rebuilt
+     * before the alias returned by getIndex() is swapped to it
+     */
+    @Override
+    public BulkIndexResult indexAll(String index, List<? extends DocBase> docs) {
+        return bulk(index, docs, (doc, source) -> indexOperation(index, doc, source));
+    }
+
+    /**
+     * partially update documents with _bulk update requests, split like indexAll
+     * <p>
+     * only the fields serialized from each doc are merged into the stored document; a document that does
+     * not exist yet is reported as failed with error type document_missing_exception, it is not created
+     */
+    @Override
+    public BulkIndexResult updateAll(List<? extends DocBase> partialDocs) {
+        String index = getIndex();
+        return bulk(index, partialDocs, (doc, source) -> updateOperation(index, doc, source));
+    }
+
+    /**
+     * delete one document
+     */
+    @Override
+    public IndexResponseType deleteOne(String docId) {
+        try {
+            DeleteResponse response = esClient.delete(d -> d
+                    .index(getIndex())
+                    .id(docId));
+            return IndexResponseType.from(response.result());
+        } catch (ElasticsearchException e) {
+            if (e.status() == 404) {
+                return IndexResponseType.NotFound;
+            }
+            log.error("", e);
+            throw new DocumentIndexingException(docId, e);
+        } catch (Exception e) {
+            log.error("", e);
+            throw new DocumentIndexingException(docId, e);
+        }
+    }
+
+    /**
+     * delete documents with _bulk delete requests, split by BULK_MAX_ACTIONS
+     * <p>
+     * never throws for a failed document or request; failures are reported per document
+     */
+    @Override
+    public BulkIndexResult deleteAll(List<String> docIds) {
+        return deleteAll(getIndex(), docIds);
+    }
+
+    /**
+     * delete documents from the given index instead of getIndex(), like indexAll(index, docs)
+     */
+    @Override
+    public BulkIndexResult deleteAll(String index, List<String> docIds) {
+        BulkItemResult[] results = new BulkItemResult[docIds.size()];
+        List<Integer> batch = new ArrayList<>();
+
+        for (int i = 0; i < docIds.size(); i++) {
+            if (docIds.get(i) == null) {
+                results[i] = BulkItemResult.failure(null, "document not validated status");
+                continue;
+            }
+            if (batch.size() >= BULK_MAX_ACTIONS) {
+                sendBulk(index, batch, docIds::get, position -> deleteOperation(index, docIds.get(position)), results);
+                batch.clear();
+            }
+            batch.add(i);
+        }
+        if (!batch.isEmpty()) {
+            sendBulk(index, batch, docIds::get, position -> deleteOperation(index, docIds.get(position)), results);
+        }
+
+        return new BulkIndexResult(List.of(results));
+    }
+
+    @Override
+    public <T> Map<String, T> getSources(List<String> docIds, List<String> fields, Class<T> type) {
+        Map<String, T> sources = new HashMap<>();
+        if (docIds.isEmpty()) {
+            return sources;
+        }
+
+        try {
+            MgetResponse<T> response = esClient.mget(m -> m
+                    .index(getIndex())
+                    .ids(docIds)
+                    .sourceIncludes(fields), type);
+            for (MultiGetResponseItem<T> item : response.docs()) {
+                if (item.isResult() && item.result().found() && item.result().source() != null) {
+                    sources.put(item.result().id(), item.result().source());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Multi get request failed, treating documents as unknown: index={}, docs={}", getIndex(), docIds.size(), e);
+            sources.clear();
+        }
+        return sources;
+    }
+
+    private BulkOperation indexOperation(String index, DocBase doc, BinaryData source) {
+        return BulkOperation.of(op -> op.index(i -> i
+                .index(index)
+                .id(getDocId(doc))
+                .document(source)));
+    }
+
+    private BulkOperation updateOperation(String index, DocBase doc, BinaryData source) {
+        return BulkOperation.of(op -> op.update(u -> u
+                .index(index)
+                .id(getDocId(doc))
+                .action(a -> a.doc(source))));
+    }
+
+    private BulkOperation deleteOperation(String index, String docId) {
+        return BulkOperation.of(op -> op.delete(d -> d
+                .index(index)
+                .id(docId)));
+    }
+
+    /**
+     * each document is serialized once; the bytes both size the batch and are sent as the operation source
+     */
+    private BulkIndexResult bulk(String index, List<? extends DocBase> docs,
+                                 BiFunction<DocBase, BinaryData, BulkOperation> operation) {
+        BulkItemResult[] results = new BulkItemResult[docs.size()];
+        BulkOperation[] operations = new BulkOperation[docs.size()];
+        List<Integer> batch = new ArrayList<>();
+        long batchBytes = 0;
+
+        for (int i = 0; i < docs.size(); i++) {
+            DocBase doc = docs.get(i);
+            if (!validateDoc(doc)) {
+                results[i] = BulkItemResult.failure(doc.getDocId(), "document not validated status");
+                continue;
+            }
+
+            byte[] source = serialize(doc);
+            if (!batch.isEmpty() && (batch.size() >= BULK_MAX_ACTIONS || batchBytes + source.length > BULK_MAX_BYTES)) {
+                sendBatch(index, batch, position -> docs.get(position).getDocId(), operations, results);
+                batch.clear();
+                batchBytes = 0;
+            }
+            operations[i] = operation.apply(doc, BinaryData.of(source, ContentType.APPLICATION_JSON));
+            batch.add(i);
+            batchBytes += source.length;
+        }
+        if (!batch.isEmpty()) {
+            sendBatch(index, batch, position -> docs.get(position).getDocId(), operations, results);
+        }
+
+        return new BulkIndexResult(List.of(results));
+    }
+
+    /**
+     * send the operations built for a batch and release their serialized sources
+     */
+    private void sendBatch(String index, List<Integer> positions, IntFunction<String> docIdAt,
+                           BulkOperation[] operations, BulkItemResult[] results) {
+        sendBulk(index, positions, docIdAt, position -> operations[position], results);
+        for (int position : positions) {
+            operations[position] = null;
+        }
+    }
+
+    /**
+     * send one _bulk request for the documents at the given positions and store each result at its position
+     */
+    private void sendBulk(String index, List<Integer> positions, IntFunction<String> docIdAt,
+                          IntFunction<BulkOperation> operationAt, BulkItemResult[] results) {
+        BulkRequest.Builder builder = new BulkRequest.Builder();
+        for (int position : positions) {
+            builder.operations(operationAt.apply(position));
+        }
+
+        BulkResponse response;
+        try {
+            response = esClient.bulk(builder.build());
+        } catch (Exception e) {
+            // the whole request failed - every document in it is failed
+            log.error("Bulk request failed: index={}, docs={}", index, positions.size(), e);
+            for (int position : positions) {
+                results[position] = BulkItemResult.failure(docIdAt.apply(position), String.valueOf(e.getMessage()));
+            }
+            return;
+        }
+
+        // items are returned in request order
+        List<BulkResponseItem> items = response.items();
+        int failed = 0;
+        for (int i = 0; i < positions.size(); i++) {
+            int position = positions.get(i);
+            String docId = docIdAt.apply(position);
+            BulkResponseItem item = i < items.size() ? items.get(i) : null;
+            if (item == null) {
+                results[position] = BulkItemResult.failure(docId, "missing bulk response item");
+            } else if (item.error() != null) {
+                results[position] = BulkItemResult.failure(docId, item.error().type(),
+                        item.error().type() + ": " + item.error().reason());
+            } else {
+                results[position] = BulkItemResult.success(docId, IndexResponseType.fromValue(item.result()));
+                continue;
+            }
+            failed++;
+        }
+
+        if (failed > 0) {
+            log.warn("Bulk request had failed items: index={}, docs={}, failed={}",
+                    index, positions.size(), failed);
+        }
+    }
+
+    private byte[] serialize(DocBase doc) {
+        JsonpMapper mapper = esClient._jsonpMapper();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(out)) {
+            mapper.serialize(doc, generator);
+        }
+        return out.toByteArray();
+    }
+
     private IndexResponse sendRequest(DocBase doc) throws IOException {
         return esClient.index(i -> {
             var request = i
@@ -0,0 +1,34 @@
+package dev.breakin.elasticsearch.internal.indexer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a bulk index request
+ *
+ * Items are in the same order as the documents given to {@link DocIndexer#indexAll} or {@link DocIndexer#updateAll}.
+ */
+public record BulkIndexResult(List<BulkItemResult> items) {
+
+    public long successCount() {
+        return items.stream().filter(item -> !item.isFailed()).count();
+    }
+
+    public long failureCount() {
+        return items.stream().filter(BulkItemResult::isFailed).count();
+    }
+
+    /**
+     * @return failure reason by document id
+     */
+    public Map<String, String> failures() {
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (BulkItemResult item : items) {
+            if (item.isFailed()) {
+                failures.put(item.docId(), item.error());
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.breakin.elasticsearch.internal.indexer;
+
+/**
+ * Result of one document in a bulk index request
+ *
+ * @param docId     document id given to the indexer
+ * @param type      result of the index operation (Unknown if failed)
+ * @param errorType Elasticsearch error type (e.g. document_missing_exception), null if not reported by Elasticsearch
+ * @param error     failure reason, null if the document was indexed
+ */
+public record BulkItemResult(String docId, IndexResponseType type, String errorType, String error) {
+
+    /**
+     * error type of a partial update whose target document does not exist
+     */
+    public static final String DOCUMENT_MISSING = "document_missing_exception";
+
+    public static BulkItemResult success(String docId, IndexResponseType type) {
+        return new BulkItemResult(docId, type, null, null);
+    }
+
+    public static BulkItemResult failure(String docId, String error) {
+        return new BulkItemResult(docId, IndexResponseType.Unknown, null, error);
+    }
+
+    public static BulkItemResult failure(String docId, String errorType, String error) {
+        return new BulkItemResult(docId, IndexResponseType.Unknown, errorType, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    public boolean isDocumentMissing() {
+        return DOCUMENT_MISSING.equals(errorType);
+    }
+}
@@ -2,6 +2,54 @@ package dev.breakin.elasticsearch.internal.indexer;
 
 import dev.breakin.elasticsearch.document.DocBase;
 
+import java.util.List;
+import java.util.Map;
+
 public interface DocIndexer {
     IndexResponseType indexOne(DocBase doc);
+
+    /**
+     * index documents with _bulk requests
+     * <p>
+     * a failed document does not fail the others; each document's result is reported in the returned items
+     */
+    BulkIndexResult indexAll(List<? extends DocBase> docs);
+
+    /**
+     * index documents with _bulk requests into the given index instead of the indexer's own index
+     */
+    BulkIndexResult indexAll(String index, List<? extends DocBase> docs);
+
+    /**
+     * partially update existing documents with _bulk update requests
+     * <p>
+     * each doc carries only the fields to change; results are reported per document like indexAll
+     */
+    BulkIndexResult updateAll(List<? extends DocBase> partialDocs);
+
+    /**
+     * delete one document, a document that does not exist is reported as NotFound
+     */
+    IndexResponseType deleteOne(String docId);
+
+    /**
+     * delete documents with _bulk delete requests
+     * <p>
+     * a document that does not exist is not a failure (result NotFound), so deletes can be retried safely
+     */
+    BulkIndexResult deleteAll(List<String> docIds);
+
+    /**
+     * delete documents with _bulk delete requests from the given index instead of the indexer's own index
+     */
+    BulkIndexResult deleteAll(String index, List<String> docIds);
+
+    /**
+     * read the given source fields of documents with one _mget request
+     * <p>
+     * missing documents are left out; if the request fails an empty map is returned, so callers treat every document as unknown
+     *
+     * @return source by document id
+     */
+    <T> Map<String, T> getSources(List<String> docIds, List<String> fields, Class<T> type);
 }
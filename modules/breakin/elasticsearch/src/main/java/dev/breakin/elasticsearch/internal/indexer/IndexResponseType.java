@@ -39,9 +39,18 @@ public enum IndexResponseType {
             return Unknown;
         }
 
-        String jsonValue = result.jsonValue();
+        return fromValue(result.jsonValue());
+    }
+
+    /**
+     * Convert result value of a bulk response item (e.g. "created") to IndexResponseType
+     *
+     * @param value result value, may be null for failed items
+     * @return corresponding IndexResponseType, or UNKNOWN if not matched
+     */
+    public static IndexResponseType fromValue(String value) {
         for (IndexResponseType type : values()) {
-            if (type.value.equals(jsonValue)) {
+            if (type.value.equals(value)) {
                 return type;
             }
         }
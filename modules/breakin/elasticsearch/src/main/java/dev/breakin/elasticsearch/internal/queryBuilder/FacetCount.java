@@ -0,0 +1,7 @@
+package dev.breakin.elasticsearch.internal.queryBuilder;
+
+/**
+ * facet 버킷 하나: 필드 값과 그 값을 가진 검색 결과 문서 수
+ */
+public record FacetCount(String value, long count) {
+}
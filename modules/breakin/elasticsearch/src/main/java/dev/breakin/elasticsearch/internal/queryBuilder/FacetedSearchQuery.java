@@ -0,0 +1,20 @@
+package dev.breakin.elasticsearch.internal.queryBuilder;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+
+import java.util.Map;
+
+/**
+ * facet 검색 요청 하나의 query / post_filter / aggregation
+ *
+ * @param query        facet 이 아닌 필드의 조건, hits 와 모든 facet 에 적용
+ * @param postFilter   facet 필드의 조건, hits 에만 적용 (없으면 null)
+ * @param aggregations facet 별 filter aggregation (key: 필드명), 안에 terms aggregation 을 가짐
+ */
+public record FacetedSearchQuery(
+        Query query,
+        Query postFilter,
+        Map<String, Aggregation> aggregations
+) {
+}
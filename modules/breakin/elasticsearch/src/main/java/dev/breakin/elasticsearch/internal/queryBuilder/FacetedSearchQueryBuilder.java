@@ -0,0 +1,76 @@
+package dev.breakin.elasticsearch.internal.queryBuilder;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import dev.breakin.elasticsearch.exception.FacetFieldNotSupportedException;
+import dev.breakin.elasticsearch.internal.queryBuilder.queryBuilder.RangeQueryBuilder;
+import dev.breakin.elasticsearch.internal.queryBuilder.queryBuilder.TermQueryBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 검색 결과와 facet 개수를 한 번의 요청으로 가져오기 위한 쿼리 빌더
+ * <p>
+ * facet 필드에 걸린 조건은 query 대신 post_filter 로 보내 hits 에만 적용하고,
+ * 각 facet 의 집계에는 자기 필드를 뺀 나머지 facet 조건만 filter 로 건다.
+ * 그래서 회사를 선택해도 회사 facet 에는 다른 회사들의 개수가 그대로 남는다.
+ */
+public final class FacetedSearchQueryBuilder {
+
+    /** facet 별 filter aggregation 안의 terms aggregation 이름 */
+    public static final String FACET_VALUES = "values";
+
+    private FacetedSearchQueryBuilder() {}
+
+    /**
+     * @param facetSize facet 당 반환할 최대 값 개수 (개수 내림차순)
+     * @throws FacetFieldNotSupportedException term 쿼리 빌더가 등록되지 않은 필드에 facet 을 요청한 경우
+     */
+    public static <F extends FieldName> FacetedSearchQuery build(
+            SearchCommand<F> command,
+            Function<? super F, Optional<FieldQueryBuilder>> qbRegistry,
+            Function<? super F, Optional<RangeQueryBuilder>> rangeRegistry,
+            int facetSize
+    ) {
+        Set<F> facets = new LinkedHashSet<>(command.facets());
+        for (F facet : facets) {
+            // keyword 필드(term 쿼리)만 terms aggregation 대상
+            if (!(qbRegistry.apply(facet).orElse(null) instanceof TermQueryBuilder)) {
+                throw new FacetFieldNotSupportedException(facet.getFieldName());
+            }
+        }
+
+        List<SearchElement<F>> queryConditions = command.conditions().stream()
+                .filter(c -> !facets.contains(c.getField()))
+                .toList();
+        List<SearchElement<F>> facetConditions = command.conditions().stream()
+                .filter(c -> facets.contains(c.getField()))
+                .toList();
+
+        Query query = GenericSearchQueryBuilder.build(queryConditions, qbRegistry, rangeRegistry);
+        Query postFilter = facetConditions.isEmpty()
+                ? null
+                : GenericSearchQueryBuilder.build(facetConditions, qbRegistry, rangeRegistry);
+
+        Map<String, Aggregation> aggregations = new LinkedHashMap<>();
+        for (F facet : facets) {
+            List<SearchElement<F>> otherFacetConditions = facetConditions.stream()
+                    .filter(c -> !c.getField().equals(facet))
+                    .toList();
+            Query filter = GenericSearchQueryBuilder.build(otherFacetConditions, qbRegistry, rangeRegistry);
+            String fieldName = facet.getFieldName();
+
+            aggregations.put(fieldName, Aggregation.of(a -> a
+                    .filter(filter)
+                    .aggregations(FACET_VALUES, t -> t.terms(terms -> terms.field(fieldName).size(facetSize)))));
+        }
+
+        return new FacetedSearchQuery(query, postFilter, aggregations);
+    }
+}
@@ -5,21 +5,32 @@ import java.util.List;
 /** 공통 검색 커맨드: Hiring / Job / Post 등 모든 인덱스에 사용 */
 public record SearchCommand<F extends FieldName>(
         List<SearchElement<F>> conditions,
+        List<F> facets,   // 값별 개수를 함께 집계할 필드 (terms aggregation, 자기 필드 조건은 제외하고 집계)
         int from,
         int to    // exclusive
 ) {
     public SearchCommand {
         conditions = (conditions== null) ? List.of() : List.copyOf(conditions);
+        facets = (facets == null) ? List.of() : List.copyOf(facets);
         from = Math.max(0, from);
         if (to < from) throw new IllegalArgumentException("to must be >= from");
     }
 
+    /** facet 없는 검색 */
+    public SearchCommand(List<SearchElement<F>> conditions, int from, int to) {
+        this(conditions, List.of(), from, to);
+    }
+
     /** ES size 계산용 (size = to - from) */
     public int size() { return to - from; }
 
     public static <F extends FieldName> SearchCommand<F> of(List<SearchElement<F>> conditions, int from, int to) {
         return new SearchCommand<>(conditions, from, to);
     }
+
+    public static <F extends FieldName> SearchCommand<F> of(List<SearchElement<F>> conditions, List<F> facets, int from, int to) {
+        return new SearchCommand<>(conditions, facets, from, to);
+    }
 }
 
 /*
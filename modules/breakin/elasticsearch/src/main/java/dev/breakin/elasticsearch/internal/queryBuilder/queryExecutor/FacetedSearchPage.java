@@ -0,0 +1,15 @@
+package dev.breakin.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import dev.breakin.elasticsearch.internal.queryBuilder.FacetCount;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hits and facet counts of one faceted search
+ *
+ * @param docs   hits matching query and post_filter
+ * @param facets counts per facet field name, ordered by count descending
+ */
+public record FacetedSearchPage<T>(List<T> docs, Map<String, List<FacetCount>> facets) {
+}
@@ -0,0 +1,14 @@
+package dev.breakin.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import co.elastic.clients.elasticsearch.core.search.Hit;
+
+import java.util.List;
+
+/**
+ * One page of a search_after search
+ *
+ * @param hits  hits in sort order, each carrying the sort values to continue after it
+ * @param pitId point in time id to use for the next page (Elasticsearch may return a new id on every page)
+ */
+public record SearchAfterPage<T>(List<Hit<T>> hits, String pitId) {
+}
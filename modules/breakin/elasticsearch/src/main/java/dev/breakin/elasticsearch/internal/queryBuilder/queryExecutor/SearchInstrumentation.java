@@ -0,0 +1,148 @@
+package dev.breakin.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.json.JsonpMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.json.stream.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics and slow-query log of the search executor
+ *
+ * Per index and operation it records the client latency (request sent to response parsed) and the
+ * Elasticsearch took time as histograms, and counts returned hits, errors and slow searches.
+ * The meters are registered in the application's MeterRegistry, so they are published with the other
+ * metrics; without one they are kept in a local SimpleMeterRegistry. Scraping them from /actuator/prometheus
+ * requires the serving application to expose that endpoint (management.endpoints.web.exposure.include).
+ *
+ * The request body is only serialized for searches above the slow threshold and for a small sample.
+ */
+@Component
+@Slf4j
+public class SearchInstrumentation {
+
+    static final String CLIENT_LATENCY = "es.search.client.latency";
+    static final String TOOK = "es.search.took";
+    static final String HITS = "es.search.hits";
+    static final String ERRORS = "es.search.errors";
+    static final String SLOW = "es.search.slow";
+
+    private final JsonpMapper jsonpMapper;
+    private final MeterRegistry registry;
+    private final SearchInstrumentationProperties properties;
+
+    // meters are built once per tag combination, not on every search
+    private final ConcurrentMap<MeterKey, SearchMeters> searchMeters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Counter> slowCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SearchInstrumentation(ElasticsearchClient esClient,
+                                 ObjectProvider<MeterRegistry> registry,
+                                 SearchInstrumentationProperties properties) {
+        this(esClient._jsonpMapper(), registry.getIfAvailable(SimpleMeterRegistry::new), properties);
+    }
+
+    SearchInstrumentation(JsonpMapper jsonpMapper, MeterRegistry registry, SearchInstrumentationProperties properties) {
+        this.jsonpMapper = jsonpMapper;
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    /**
+     * @param index      index or alias searched, "_pit" for point in time searches
+     * @param operation  executor method, e.g. search, search_with_sort, search_after
+     * @param clientNanos time from sending the request to the parsed response
+     * @param tookMillis time Elasticsearch spent on the search
+     * @param hits       hits returned in the response
+     */
+    public void recordSuccess(String index, String operation, SearchRequest request,
+                              long clientNanos, long tookMillis, int hits) {
+        MeterKey key = new MeterKey(index, operation);
+        SearchMeters meters = searchMeters.computeIfAbsent(key, this::searchMeters);
+        meters.clientLatency().record(clientNanos, TimeUnit.NANOSECONDS);
+        meters.took().record(tookMillis, TimeUnit.MILLISECONDS);
+        meters.hits().increment(hits);
+
+        Duration client = Duration.ofNanos(clientNanos);
+        if (client.compareTo(properties.getSlowThreshold()) >= 0) {
+            slowCounters.computeIfAbsent(key, k -> counter(SLOW, k)).increment();
+            log.warn("Slow Elasticsearch search: index={}, operation={}, client={}ms, took={}ms, hits={}, request={}",
+                    index, operation, client.toMillis(), tookMillis, hits, toJson(request));
+        } else if (isSampled()) {
+            log.info("Sampled Elasticsearch search: index={}, operation={}, client={}ms, took={}ms, hits={}, request={}",
+                    index, operation, client.toMillis(), tookMillis, hits, toJson(request));
+        }
+    }
+
+    public void recordError(String index, String operation, SearchRequest request, long clientNanos, Exception e) {
+        errorCounters.computeIfAbsent(new ErrorKey(index, operation, e.getClass().getSimpleName()), k ->
+                Counter.builder(ERRORS)
+                        .tag("index", k.index())
+                        .tag("operation", k.operation())
+                        .tag("exception", k.exception())
+                        .register(registry))
+                .increment();
+        log.warn("Failed Elasticsearch search: index={}, operation={}, client={}ms, request={}",
+                index, operation, TimeUnit.NANOSECONDS.toMillis(clientNanos), toJson(request));
+    }
+
+    private boolean isSampled() {
+        double rate = properties.getSampleRate();
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private SearchMeters searchMeters(MeterKey key) {
+        return new SearchMeters(timer(CLIENT_LATENCY, key), timer(TOOK, key), counter(HITS, key));
+    }
+
+    private Timer timer(String name, MeterKey key) {
+        return Timer.builder(name)
+                .tag("index", key.index())
+                .tag("operation", key.operation())
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter counter(String name, MeterKey key) {
+        return Counter.builder(name)
+                .tag("index", key.index())
+                .tag("operation", key.operation())
+                .register(registry);
+    }
+
+    private String toJson(SearchRequest request) {
+        try {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(writer)) {
+                jsonpMapper.serialize(request, generator);
+            }
+            return writer.toString();
+        } catch (Exception e) {
+            return "(not serializable: " + e.getMessage() + ")";
+        }
+    }
+
+    private record MeterKey(String index, String operation) {
+    }
+
+    private record ErrorKey(String index, String operation, String exception) {
+    }
+
+    private record SearchMeters(Timer clientLatency, Timer took, Counter hits) {
+    }
+}
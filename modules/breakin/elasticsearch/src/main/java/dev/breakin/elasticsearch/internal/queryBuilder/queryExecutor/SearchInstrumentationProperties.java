@@ -0,0 +1,28 @@
+package dev.breakin.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of search metrics and the slow-query log
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.es.search.instrumentation")
+@Getter
+@Setter
+public class SearchInstrumentationProperties {
+
+    /**
+     * Searches slower than this (client time) are logged with their request body at WARN
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * Fraction of the other searches logged with their request body at INFO (0.0 - 1.0)
+     */
+    private double sampleRate = 0.001;
+}
@@ -2,57 +2,135 @@ package dev.breakin.elasticsearch.internal.queryBuilder.queryExecutor;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import dev.breakin.elasticsearch.exception.ElasticsearchQueryException;
+import dev.breakin.elasticsearch.internal.queryBuilder.FacetCount;
+import dev.breakin.elasticsearch.internal.queryBuilder.FacetedSearchQuery;
+import dev.breakin.elasticsearch.internal.queryBuilder.FacetedSearchQueryBuilder;
 import dev.breakin.elasticsearch.internal.queryBuilder.SortOption;
-import jakarta.json.stream.JsonGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.StringWriter;
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SearchQueryExecutor {
+    // index tag of point in time searches, which name no index
+    private static final String PIT_INDEX = "_pit";
+
     private final ElasticsearchClient esClient;
+    private final SearchInstrumentation instrumentation;
 
     public <T> List<T> search(String indexName, Query query, int from, int size, Class<T> resultType) {
+        return search(indexName, query, from, size, null, resultType);
+    }
+
+    /**
+     * search with _source filtering, so only the given fields are transferred and deserialized into resultType
+     *
+     * @param sourceIncludes source fields to return, null for the whole source
+     */
+    public <T> List<T> search(String indexName, Query query, int from, int size, List<String> sourceIncludes,
+                              Class<T> resultType) {
         try {
-            SearchRequest req = new SearchRequest.Builder()
+            SearchRequest.Builder builder = new SearchRequest.Builder()
                     .index(indexName)
                     .query(query)
                     .from(from)
-                    .size(size)
-                    .build();
-
-            // 실제 직렬화된 JSON 로깅 (toString() 아님!)
-            StringWriter w = new StringWriter();
-            JsonGenerator g = esClient._transport().jsonpMapper().jsonProvider().createGenerator(w);
-            esClient._transport().jsonpMapper().serialize(req, g);
-            g.close();
-            log.info("실제 전송되는 Elasticsearch 쿼리(search): {}", w.toString());
+                    .size(size);
+            if (sourceIncludes != null) {
+                builder.source(src -> src.filter(f -> f.includes(sourceIncludes)));
+            }
+            var response = execute(indexName, "search", builder.build(), resultType);
 
+            return response.hits().hits().stream()
+                    .map(Hit::source)
+                    .filter(Objects::nonNull)
+                    .toList();
 
-            var response = esClient.search(req, resultType);
+        } catch (Exception e) {
+            throw new ElasticsearchQueryException(indexName, e);
+        }
+    }
 
-            return response.hits().hits().stream()
+    /**
+     * search hits and facet counts in one request
+     * <p>
+     * the post_filter only narrows the hits, so each facet aggregation decides itself which filters it counts under.
+     *
+     * @param sourceIncludes source fields to return, null for the whole source
+     */
+    public <T> FacetedSearchPage<T> searchWithFacets(String indexName, FacetedSearchQuery facetedQuery, int from, int size,
+                                                     List<String> sourceIncludes, Class<T> resultType) {
+        try {
+            SearchRequest.Builder builder = new SearchRequest.Builder()
+                    .index(indexName)
+                    .query(facetedQuery.query())
+                    .aggregations(facetedQuery.aggregations())
+                    .from(from)
+                    .size(size);
+            if (facetedQuery.postFilter() != null) {
+                builder.postFilter(facetedQuery.postFilter());
+            }
+            if (sourceIncludes != null) {
+                builder.source(src -> src.filter(f -> f.includes(sourceIncludes)));
+            }
+            var response = execute(indexName, "search_with_facets", builder.build(), resultType);
+
+            List<T> docs = response.hits().hits().stream()
                     .map(Hit::source)
                     .filter(Objects::nonNull)
                     .toList();
 
+            Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+            for (String name : facetedQuery.aggregations().keySet()) {
+                facets.put(name, facetCounts(response.aggregations().get(name)));
+            }
+            return new FacetedSearchPage<>(docs, facets);
+
         } catch (Exception e) {
             throw new ElasticsearchQueryException(indexName, e);
         }
     }
 
+    /**
+     * buckets of the terms aggregation inside a facet's filter aggregation; boolean fields come back as lterms
+     */
+    private static List<FacetCount> facetCounts(Aggregate facet) {
+        if (facet == null || !facet.isFilter()) {
+            return List.of();
+        }
+        Aggregate values = facet.filter().aggregations().get(FacetedSearchQueryBuilder.FACET_VALUES);
+        if (values == null) {
+            return List.of();
+        }
+        if (values.isSterms()) {
+            return values.sterms().buckets().array().stream()
+                    .map(b -> new FacetCount(b.key().stringValue(), b.docCount()))
+                    .toList();
+        }
+        if (values.isLterms()) {
+            return values.lterms().buckets().array().stream()
+                    .map(b -> new FacetCount(b.keyAsString() != null ? b.keyAsString() : String.valueOf(b.key()), b.docCount()))
+                    .toList();
+        }
+        return List.of();
+    }
+
     public <T> List<T> searchWithSort(String indexName, Query query, int from, int size, SortOption sortOption, Class<T> resultType) {
-        log.info(query.toString());
         try {
             SearchRequest searchRequest = new SearchRequest.Builder()
                     .index(indexName)
@@ -68,15 +146,7 @@ public class SearchQueryExecutor {
                     .size(size)
                     .build();
 
-            // JSON으로 실제 쿼리 출력
-            StringWriter writer = new StringWriter();
-            JsonGenerator generator = esClient._transport().jsonpMapper().jsonProvider().createGenerator(writer);
-            esClient._transport().jsonpMapper().serialize(searchRequest, generator);
-            generator.close();
-
-            log.info("실제 전송되는 Elasticsearch 쿼리: {}", writer.toString());
-
-            var response = esClient.search(searchRequest, resultType);
+            var response = execute(indexName, "search_with_sort", searchRequest, resultType);
 
             return response.hits().hits().stream()
                     .map(Hit::source)
@@ -89,4 +159,80 @@ public class SearchQueryExecutor {
         }
     }
 
+    /**
+     * search one page after the given sort values on a point in time
+     * <p>
+     * unlike from/size, every shard only collects size hits after the sort values, so page N costs the same as page 1.
+     * the sort has to end with a unique tiebreaker, otherwise hits with equal sort values can be skipped.
+     *
+     * @param searchAfter sort values of the last hit of the previous page, null for the first page
+     * @param pitId       point in time from openPointInTime, its keep-alive is extended by keepAlive on every page
+     * @param sourceIncludes source fields to return, null for the whole source
+     */
+    public <T> SearchAfterPage<T> searchAfter(Query query, int size, List<SortOptions> sort, List<FieldValue> searchAfter,
+                                              String pitId, String keepAlive, List<String> sourceIncludes,
+                                              Class<T> resultType) {
+        try {
+            SearchRequest.Builder builder = new SearchRequest.Builder()
+                    .pit(p -> p.id(pitId).keepAlive(t -> t.time(keepAlive)))
+                    .query(query)
+                    .sort(sort)
+                    .size(size);
+            if (searchAfter != null && !searchAfter.isEmpty()) {
+                builder.searchAfter(searchAfter);
+            }
+            if (sourceIncludes != null) {
+                builder.source(src -> src.filter(f -> f.includes(sourceIncludes)));
+            }
+
+            var response = execute(PIT_INDEX, "search_after", builder.build(), resultType);
+            String nextPitId = response.pitId() != null ? response.pitId() : pitId;
+            return new SearchAfterPage<>(response.hits().hits(), nextPitId);
+        } catch (Exception e) {
+            throw new ElasticsearchQueryException("search_after on point in time", e);
+        }
+    }
+
+    /**
+     * send a search and record its latency, hits or error; the request body is only serialized for slow or sampled searches
+     */
+    private <T> SearchResponse<T> execute(String index, String operation, SearchRequest request,
+                                          Class<T> resultType) throws IOException {
+        long started = System.nanoTime();
+        try {
+            SearchResponse<T> response = esClient.search(request, resultType);
+            instrumentation.recordSuccess(index, operation, request, System.nanoTime() - started,
+                    response.took(), response.hits().hits().size());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            instrumentation.recordError(index, operation, request, System.nanoTime() - started, e);
+            throw e;
+        }
+    }
+
+    /**
+     * open a point in time, so consecutive search_after pages see the same snapshot of the index
+     *
+     * @return point in time id
+     */
+    public String openPointInTime(String indexName, String keepAlive) {
+        try {
+            return esClient.openPointInTime(o -> o
+                    .index(indexName)
+                    .keepAlive(t -> t.time(keepAlive))).id();
+        } catch (Exception e) {
+            throw new ElasticsearchQueryException(indexName, e);
+        }
+    }
+
+    /**
+     * close a point in time early; failures are only logged since it expires after its keep-alive anyway
+     */
+    public void closePointInTime(String pitId) {
+        try {
+            esClient.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            log.warn("Failed to close point in time, it expires after its keep-alive: {}", e.getMessage());
+        }
+    }
 }
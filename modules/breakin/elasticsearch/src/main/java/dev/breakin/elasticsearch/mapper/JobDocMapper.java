@@ -1,9 +1,27 @@
 package dev.breakin.elasticsearch.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import dev.breakin.elasticsearch.document.JobDoc;
+import dev.breakin.elasticsearch.document.JobPopularityDoc;
+import dev.breakin.elasticsearch.document.JobVersionDoc;
+import dev.breakin.model.common.Popularity;
 import dev.breakin.model.job.Job;
 import org.springframework.stereotype.Component;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -13,6 +31,20 @@ import java.util.stream.Collectors;
 @Component
 public class JobDocMapper {
 
+    private static final ObjectMapper HASH_MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+        .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+        .build();
+
+    private static final List<String> HASH_EXCLUDED_FIELDS = List.of(
+        "content_hash",
+        "updated_at",
+        "popularity_view_count",
+        "popularity_comment_count",
+        "popularity_like_count"
+    );
+
     /**
      * Convert Job domain model to JobDoc
      *
@@ -30,9 +62,9 @@ public class JobDocMapper {
         var compensation = job.getCompensation();
         var popularity = job.getPopularity();
 
-        return new JobDoc(
+        JobDoc doc = new JobDoc(
             // Document metadata
-            generateDocId(job),
+            generateDocId(job.getJobId()),
             job.getJobId(),
             job.getUrl(),
             job.getCompany(),
@@ -91,15 +123,91 @@ public class JobDocMapper {
             // Meta fields
             job.getIsDeleted(),
             job.getCreatedAt(),
-            job.getUpdatedAt()
+            job.getUpdatedAt(),
+            null
+        );
+        return doc.withContentHash(contentHash(doc));
+    }
+
+    /**
+     * Compute a stable hash of the document content
+     *
+     * Fields are serialized in alphabetical order and multi-valued fields are sorted, so the hash
+     * does not depend on field declaration or collection order. updated_at is excluded because every save
+     * bumps it even when nothing else changed, and popularity fields are excluded because they are also
+     * changed by partial updates, which do not rewrite the hash. Both are compared directly and sent as a
+     * partial update ({@link #toVersionDoc}) when only they changed.
+     *
+     * @param doc the document to hash
+     * @return hex encoded SHA-256 of the content
+     */
+    public String contentHash(JobDoc doc) {
+        ObjectNode tree = HASH_MAPPER.valueToTree(doc);
+        HASH_EXCLUDED_FIELDS.forEach(tree::remove);
+        tree.fields().forEachRemaining(field -> {
+            if (field.getValue() instanceof ArrayNode array) {
+                field.setValue(sorted(array));
+            }
+        });
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(HASH_MAPPER.writeValueAsBytes(tree)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Failed to hash document: " + doc.getDocId(), e);
+        }
+    }
+
+    private static ArrayNode sorted(ArrayNode array) {
+        List<JsonNode> values = new ArrayList<>();
+        array.forEach(values::add);
+        values.sort(Comparator.comparing(JsonNode::toString));
+        ArrayNode sorted = array.arrayNode();
+        sorted.addAll(values);
+        return sorted;
+    }
+
+    /**
+     * Convert popularity of a job to the partial document updating only the popularity fields
+     *
+     * @param jobId      the job id
+     * @param popularity the popularity of the job
+     * @return JobPopularityDoc for a partial update of the job's JobDoc
+     */
+    public JobPopularityDoc toPopularityDoc(Long jobId, Popularity popularity) {
+        if (jobId == null || popularity == null) {
+            return null;
+        }
+
+        return new JobPopularityDoc(
+            generateDocId(jobId),
+            popularity.getViewCount(),
+            popularity.getCommentCount(),
+            popularity.getLikeCount()
+        );
+    }
+
+    /**
+     * Convert the fields of a JobDoc outside its content hash to a partial document
+     *
+     * @param doc the document whose content hash matches the indexed one
+     * @return JobVersionDoc for a partial update of updated_at and the popularity fields
+     */
+    public JobVersionDoc toVersionDoc(JobDoc doc) {
+        return new JobVersionDoc(
+            doc.getDocId(),
+            doc.getUpdatedAt(),
+            doc.getPopularityViewCount(),
+            doc.getPopularityCommentCount(),
+            doc.getPopularityLikeCount()
         );
     }
 
     /**
-     * Generate document ID for Elasticsearch
+     * Generate document ID for Elasticsearch, e.g. to delete the document of a job that no longer exists
      * Format: "job_{jobId}"
      */
-    private String generateDocId(Job job) {
-        return "job_" + job.getJobId();
+    public String generateDocId(Long jobId) {
+        return "job_" + jobId;
     }
 }
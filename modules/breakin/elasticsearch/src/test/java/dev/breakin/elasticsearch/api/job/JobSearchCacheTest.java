@@ -0,0 +1,132 @@
+package dev.breakin.elasticsearch.api.job;
+
+import dev.breakin.elasticsearch.document.fieldSpec.job.JobIndexField;
+import dev.breakin.elasticsearch.internal.cache.SearchGeneration;
+import dev.breakin.elasticsearch.internal.cache.SearchGenerationStore;
+import dev.breakin.elasticsearch.internal.queryBuilder.SearchCommand;
+import dev.breakin.elasticsearch.internal.queryBuilder.SearchElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobSearchCache 테스트
+ *
+ * 조건 순서와 match 값의 대소문자/공백이 달라도 같은 결과를 쓰고,
+ * generation이 바뀌면 다시 검색해야 함
+ */
+@DisplayName("JobSearchCache 테스트")
+class JobSearchCacheTest {
+
+    private static final String INDEX = "jobs";
+    private static final SearchGeneration SETTLED = new SearchGeneration(1L, 0L);
+
+    private final SearchGenerationStore generationStore = mock(SearchGenerationStore.class);
+    private final AtomicInteger searches = new AtomicInteger();
+    private JobSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        JobSearchCacheProperties properties = new JobSearchCacheProperties();
+        // 매 검색마다 generation을 다시 읽음
+        properties.setGenerationPollInterval(Duration.ZERO);
+        cache = new JobSearchCache(INDEX, generationStore, properties);
+    }
+
+    @Test
+    @DisplayName("조건 순서와 match 값 표기가 달라도 캐시된 결과를 반환")
+    void get_canonicallyEqualCommands_searchesOnce() {
+        // Given
+        when(generationStore.find(INDEX)).thenReturn(SETTLED);
+        SearchCommand<JobIndexField> command = SearchCommand.of(List.of(
+                new SearchElement<>(JobIndexField.COMPANY, "GOOGLE"),
+                new SearchElement<>(JobIndexField.TITLE, "Backend  Developer")), 0, 30);
+        SearchCommand<JobIndexField> reordered = SearchCommand.of(List.of(
+                new SearchElement<>(JobIndexField.TITLE, " backend developer"),
+                new SearchElement<>(JobIndexField.COMPANY, "GOOGLE")), 0, 30);
+
+        // When
+        JobSearchResult first = cache.get(command, this::search);
+        JobSearchResult second = cache.get(reordered, this::search);
+
+        // Then
+        assertThat(searches).hasValue(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("페이지 범위나 term 값이 다르면 다시 검색")
+    void get_differentPageOrTermValue_searchesAgain() {
+        // Given
+        when(generationStore.find(INDEX)).thenReturn(SETTLED);
+
+        // When
+        cache.get(SearchCommand.of(List.of(new SearchElement<>(JobIndexField.COMPANY, "GOOGLE")), 0, 30), this::search);
+        cache.get(SearchCommand.of(List.of(new SearchElement<>(JobIndexField.COMPANY, "GOOGLE")), 30, 60), this::search);
+        cache.get(SearchCommand.of(List.of(new SearchElement<>(JobIndexField.COMPANY, "google")), 0, 30), this::search);
+
+        // Then
+        assertThat(searches).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("facet 목록이 다르면 다시 검색하고, 순서만 다르면 캐시된 결과를 반환")
+    void get_differentFacets_searchesAgain() {
+        // Given
+        when(generationStore.find(INDEX)).thenReturn(SETTLED);
+        List<SearchElement<JobIndexField>> conditions = List.of(new SearchElement<>(JobIndexField.COMPANY, "GOOGLE"));
+
+        // When
+        cache.get(SearchCommand.of(conditions, 0, 30), this::search);
+        cache.get(SearchCommand.of(conditions, List.of(JobIndexField.COMPANY, JobIndexField.LOCATIONS), 0, 30), this::search);
+        cache.get(SearchCommand.of(conditions, List.of(JobIndexField.LOCATIONS, JobIndexField.COMPANY), 0, 30), this::search);
+
+        // Then
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("generation이 바뀌면 캐시된 결과를 쓰지 않음")
+    void get_generationBumped_searchesAgain() {
+        // Given
+        when(generationStore.find(INDEX)).thenReturn(SETTLED, new SearchGeneration(2L, 0L));
+        SearchCommand<JobIndexField> command = SearchCommand.of(
+                List.of(new SearchElement<>(JobIndexField.COMPANY, "GOOGLE")), 0, 30);
+
+        // When
+        cache.get(command, this::search);
+        cache.get(command, this::search);
+
+        // Then
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("generation이 방금 바뀌었으면 결과를 캐시하지 않음")
+    void get_justBumped_doesNotCache() {
+        // Given
+        when(generationStore.find(INDEX)).thenReturn(new SearchGeneration(2L, System.currentTimeMillis()));
+        SearchCommand<JobIndexField> command = SearchCommand.of(
+                List.of(new SearchElement<>(JobIndexField.COMPANY, "GOOGLE")), 0, 30);
+
+        // When
+        cache.get(command, this::search);
+        cache.get(command, this::search);
+
+        // Then
+        assertThat(searches).hasValue(2);
+    }
+
+    private JobSearchResult search() {
+        searches.incrementAndGet();
+        return new JobSearchResult(List.of(), false);
+    }
+}
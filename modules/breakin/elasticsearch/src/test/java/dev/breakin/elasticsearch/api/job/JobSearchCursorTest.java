@@ -0,0 +1,54 @@
+package dev.breakin.elasticsearch.api.job;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import dev.breakin.elasticsearch.exception.InvalidSearchCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JobSearchCursor 테스트
+ *
+ * 마지막 hit의 sort 값(score, job_id)과 point in time이 cursor 문자열로 그대로 복원되어야 함
+ */
+@DisplayName("JobSearchCursor 테스트")
+class JobSearchCursorTest {
+
+    @Test
+    @DisplayName("encode한 cursor를 decode하면 sort 값과 point in time이 복원됨")
+    void encode_decode_roundTrip() {
+        // Given
+        JobSearchCursor cursor = JobSearchCursor.after(List.of(FieldValue.of(1.25), FieldValue.of(42L)), "pit-id");
+
+        // When
+        JobSearchCursor decoded = JobSearchCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(new JobSearchCursor(1.25, 42L, "pit-id"));
+        assertThat(decoded.sortValues().get(0).doubleValue()).isEqualTo(1.25);
+        assertThat(decoded.sortValues().get(1).longValue()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("cursor 문자열은 URL에 그대로 쓸 수 있음")
+    void encode_urlSafe() {
+        // When
+        String encoded = new JobSearchCursor(0.5, 7L, "a+b/c==").encode();
+
+        // Then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("잘못된 cursor는 InvalidSearchCursorException")
+    void decode_invalid_throws() {
+        assertThatThrownBy(() -> JobSearchCursor.decode("not a cursor"))
+                .isInstanceOf(InvalidSearchCursorException.class);
+        assertThatThrownBy(() -> JobSearchCursor.decode("e30"))   // {}
+                .isInstanceOf(InvalidSearchCursorException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package dev.breakin.elasticsearch.document;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JobCardDoc 테스트
+ *
+ * source filtering에 쓰는 FIELDS가 JobCardDoc의 필드와 같고 모두 JobDoc에 있는 필드여야 함
+ * (JobDoc 필드 이름이 바뀌면 검색 결과에서 조용히 빠지므로)
+ */
+@DisplayName("JobCardDoc 테스트")
+class JobCardDocTest {
+
+    @Test
+    @DisplayName("FIELDS는 JobCardDoc의 JSON 필드와 같음")
+    void fields_matchRecordComponents() {
+        // When
+        List<String> properties = Arrays.stream(JobCardDoc.class.getRecordComponents())
+                .map(component -> component.getAnnotation(JsonProperty.class).value())
+                .toList();
+
+        // Then
+        assertThat(JobCardDoc.FIELDS).containsExactlyElementsOf(properties);
+    }
+
+    @Test
+    @DisplayName("FIELDS는 모두 JobDoc의 JSON 필드이고 full_description은 제외")
+    void fields_subsetOfJobDoc() {
+        // When
+        List<String> jobDocProperties = Arrays.stream(JobDoc.class.getDeclaredFields())
+                .map(field -> field.getAnnotation(JsonProperty.class))
+                .filter(property -> property != null)
+                .map(JsonProperty::value)
+                .toList();
+
+        // Then
+        assertThat(jobDocProperties).containsAll(JobCardDoc.FIELDS);
+        assertThat(JobCardDoc.FIELDS).doesNotContain("full_description");
+    }
+}
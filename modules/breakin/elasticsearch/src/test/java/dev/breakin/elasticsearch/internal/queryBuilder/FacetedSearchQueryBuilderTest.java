@@ -0,0 +1,129 @@
+package dev.breakin.elasticsearch.internal.queryBuilder;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import dev.breakin.elasticsearch.document.fieldSpec.job.JobIndexField;
+import dev.breakin.elasticsearch.exception.FacetFieldNotSupportedException;
+import dev.breakin.elasticsearch.internal.query.job.JobIndexQueryBuilderRegistry;
+import dev.breakin.elasticsearch.internal.query.job.JobIndexRangeQueryBuilderRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FacetedSearchQueryBuilder 테스트
+ *
+ * facet 필드 조건은 post_filter 로 가고,
+ * 각 facet 집계에는 자기 필드를 뺀 나머지 facet 조건만 걸려야 함
+ */
+@DisplayName("FacetedSearchQueryBuilder 테스트")
+class FacetedSearchQueryBuilderTest {
+
+    private static final int FACET_SIZE = 20;
+
+    @Test
+    @DisplayName("facet 필드 조건은 post_filter 로, 나머지 조건은 query 로 분리")
+    void build_splitsFacetConditionsIntoPostFilter() {
+        // Given
+        SearchCommand<JobIndexField> command = SearchCommand.of(
+                List.of(
+                        new SearchElement<>(JobIndexField.TITLE, "백엔드"),
+                        new SearchElement<>(JobIndexField.CAREER_LEVEL, "SENIOR"),
+                        new SearchElement<>(JobIndexField.COMPANY, "META"),
+                        new SearchElement<>(JobIndexField.REMOTE_POLICY, "REMOTE")),
+                List.of(JobIndexField.COMPANY, JobIndexField.REMOTE_POLICY),
+                0, 20);
+
+        // When
+        FacetedSearchQuery faceted = build(command);
+
+        // Then
+        assertThat(termFields(faceted.query().bool().filter())).containsExactly("career_level");
+        assertThat(faceted.query().bool().should()).hasSize(1);
+        assertThat(termFields(faceted.postFilter().bool().filter()))
+                .containsExactlyInAnyOrder("company", "remote_policy");
+    }
+
+    @Test
+    @DisplayName("각 facet 집계는 자기 필드 조건을 제외한 facet 조건으로 필터링")
+    void build_facetAggregationExcludesOwnFilter() {
+        // Given
+        SearchCommand<JobIndexField> command = SearchCommand.of(
+                List.of(
+                        new SearchElement<>(JobIndexField.COMPANY, "META"),
+                        new SearchElement<>(JobIndexField.REMOTE_POLICY, "REMOTE")),
+                List.of(JobIndexField.COMPANY, JobIndexField.REMOTE_POLICY, JobIndexField.LOCATIONS),
+                0, 20);
+
+        // When
+        FacetedSearchQuery faceted = build(command);
+
+        // Then
+        assertThat(faceted.aggregations()).containsOnlyKeys("company", "remote_policy", "locations");
+
+        assertThat(termFields(faceted.aggregations().get("company").filter().bool().filter()))
+                .containsExactly("remote_policy");
+        assertThat(termFields(faceted.aggregations().get("remote_policy").filter().bool().filter()))
+                .containsExactly("company");
+        assertThat(termFields(faceted.aggregations().get("locations").filter().bool().filter()))
+                .containsExactlyInAnyOrder("company", "remote_policy");
+
+        Aggregation values = faceted.aggregations().get("locations").aggregations()
+                .get(FacetedSearchQueryBuilder.FACET_VALUES);
+        assertThat(values.terms().field()).isEqualTo("locations");
+        assertThat(values.terms().size()).isEqualTo(FACET_SIZE);
+    }
+
+    @Test
+    @DisplayName("facet 필드에 조건이 없으면 post_filter 없음")
+    void build_withoutFacetConditions_hasNoPostFilter() {
+        // Given
+        SearchCommand<JobIndexField> command = SearchCommand.of(
+                List.of(new SearchElement<>(JobIndexField.TITLE, "백엔드")),
+                List.of(JobIndexField.TECH_CATEGORIES),
+                0, 20);
+
+        // When
+        FacetedSearchQuery faceted = build(command);
+
+        // Then
+        assertThat(faceted.postFilter()).isNull();
+        assertThat(faceted.aggregations()).containsOnlyKeys("tech_categories");
+    }
+
+    @Test
+    @DisplayName("term 필드가 아닌 필드에 facet 요청 시 예외 발생")
+    void build_withNonTermFacet_throwsException() {
+        // Given
+        SearchCommand<JobIndexField> matchFacet = SearchCommand.of(
+                List.of(), List.of(JobIndexField.TITLE), 0, 20);
+        SearchCommand<JobIndexField> rangeFacet = SearchCommand.of(
+                List.of(), List.of(JobIndexField.MIN_YEARS), 0, 20);
+
+        // When & Then
+        assertThatThrownBy(() -> build(matchFacet))
+                .isInstanceOf(FacetFieldNotSupportedException.class)
+                .hasMessageContaining("title");
+        assertThatThrownBy(() -> build(rangeFacet))
+                .isInstanceOf(FacetFieldNotSupportedException.class)
+                .hasMessageContaining("min_years");
+    }
+
+    private static FacetedSearchQuery build(SearchCommand<JobIndexField> command) {
+        return FacetedSearchQueryBuilder.build(command,
+                JobIndexQueryBuilderRegistry.LOOKUP,
+                JobIndexRangeQueryBuilderRegistry.LOOKUP,
+                FACET_SIZE);
+    }
+
+    private static List<String> termFields(List<Query> queries) {
+        return queries.stream()
+                .filter(Query::isTerm)
+                .map(q -> q.term().field())
+                .toList();
+    }
+}
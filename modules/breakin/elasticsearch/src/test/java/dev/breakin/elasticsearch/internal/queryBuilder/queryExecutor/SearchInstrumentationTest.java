@@ -0,0 +1,75 @@
+package dev.breakin.elasticsearch.internal.queryBuilder.queryExecutor;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SearchInstrumentation 테스트
+ *
+ * index/operation별로 client 시간과 ES took 시간, hit 수, 실패와 느린 검색 수가 기록되어야 함
+ */
+@DisplayName("SearchInstrumentation 테스트")
+class SearchInstrumentationTest {
+
+    private static final SearchRequest REQUEST = SearchRequest.of(s -> s.index("jobs").size(10));
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SearchInstrumentation instrumentation;
+
+    @BeforeEach
+    void setUp() {
+        SearchInstrumentationProperties properties = new SearchInstrumentationProperties();
+        properties.setSlowThreshold(Duration.ofMillis(100));
+        properties.setSampleRate(0.0);
+        instrumentation = new SearchInstrumentation(new JacksonJsonpMapper(), registry, properties);
+    }
+
+    @Test
+    @DisplayName("성공한 검색은 client 시간, took 시간, hit 수를 index/operation별로 기록")
+    void recordSuccess_recordsLatenciesAndHits() {
+        // When
+        instrumentation.recordSuccess("jobs", "search", REQUEST, TimeUnit.MILLISECONDS.toNanos(20), 7, 31);
+        instrumentation.recordSuccess("jobs", "search", REQUEST, TimeUnit.MILLISECONDS.toNanos(40), 9, 5);
+
+        // Then
+        var client = registry.get(SearchInstrumentation.CLIENT_LATENCY).tag("index", "jobs").tag("operation", "search").timer();
+        var took = registry.get(SearchInstrumentation.TOOK).tag("index", "jobs").tag("operation", "search").timer();
+        assertThat(client.count()).isEqualTo(2);
+        assertThat(client.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(60.0);
+        assertThat(took.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(16.0);
+        assertThat(registry.get(SearchInstrumentation.HITS).counter().count()).isEqualTo(36.0);
+        assertThat(registry.find(SearchInstrumentation.SLOW).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("threshold 이상 걸린 검색은 느린 검색으로 집계")
+    void recordSuccess_aboveThreshold_countsSlow() {
+        // When
+        instrumentation.recordSuccess("jobs", "search_after", REQUEST, TimeUnit.MILLISECONDS.toNanos(150), 120, 1);
+
+        // Then
+        assertThat(registry.get(SearchInstrumentation.SLOW).tag("operation", "search_after").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패한 검색은 예외 종류별로 집계")
+    void recordError_countsByException() {
+        // When
+        instrumentation.recordError("jobs", "search", REQUEST, 1_000, new IOException("connection reset"));
+
+        // Then
+        assertThat(registry.get(SearchInstrumentation.ERRORS).tag("exception", "IOException").counter().count())
+                .isEqualTo(1.0);
+    }
+}
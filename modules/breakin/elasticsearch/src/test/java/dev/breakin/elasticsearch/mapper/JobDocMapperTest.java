@@ -0,0 +1,93 @@
+package dev.breakin.elasticsearch.mapper;
+
+import dev.breakin.elasticsearch.document.JobDoc;
+import dev.breakin.model.common.Company;
+import dev.breakin.model.common.Popularity;
+import dev.breakin.model.common.TechCategory;
+import dev.breakin.model.job.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JobDocMapper 테스트
+ *
+ * content_hash는 내용이 같으면 필드/컬렉션 순서와 관계없이 같아야 하고,
+ * 인기도와 updated_at은 부분 업데이트로 바뀌므로 hash에 포함되지 않아야 함
+ */
+@DisplayName("JobDocMapper 테스트")
+class JobDocMapperTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final JobDocMapper mapper = new JobDocMapper();
+
+    @Test
+    @DisplayName("같은 내용이면 컬렉션 순서가 달라도 content_hash가 같음")
+    void toDoc_sameContentDifferentOrder_sameHash() {
+        // Given
+        JobDoc doc = mapper.toDoc(job("Backend Developer", List.of("Seoul", "Busan"), Popularity.empty()));
+        JobDoc reordered = mapper.toDoc(job("Backend Developer", List.of("Busan", "Seoul"), Popularity.empty()));
+
+        // Then
+        assertThat(doc.getContentHash()).isNotBlank();
+        assertThat(reordered.getContentHash()).isEqualTo(doc.getContentHash());
+    }
+
+    @Test
+    @DisplayName("인기도만 다르면 content_hash가 같음")
+    void toDoc_differentPopularity_sameHash() {
+        // Given
+        JobDoc doc = mapper.toDoc(job("Backend Developer", List.of("Seoul"), Popularity.empty()));
+        JobDoc popular = mapper.toDoc(job("Backend Developer", List.of("Seoul"), new Popularity(10L, 2L, 3L, 0L)));
+
+        // Then
+        assertThat(popular.getContentHash()).isEqualTo(doc.getContentHash());
+    }
+
+    @Test
+    @DisplayName("updated_at만 다르면 content_hash가 같고, 버전 문서에 updated_at이 담김")
+    void toDoc_differentUpdatedAt_sameHash() {
+        // Given
+        Instant later = NOW.plusSeconds(60);
+        JobDoc doc = mapper.toDoc(job("Backend Developer", List.of("Seoul"), Popularity.empty()));
+        JobDoc touched = mapper.toDoc(job("Backend Developer", List.of("Seoul"), Popularity.empty(), later));
+
+        // Then
+        assertThat(touched.getContentHash()).isEqualTo(doc.getContentHash());
+        assertThat(mapper.toVersionDoc(touched).getUpdatedAt()).isEqualTo(later);
+    }
+
+    @Test
+    @DisplayName("내용이 바뀌면 content_hash가 바뀜")
+    void toDoc_differentContent_differentHash() {
+        // Given
+        JobDoc doc = mapper.toDoc(job("Backend Developer", List.of("Seoul"), Popularity.empty()));
+        JobDoc changed = mapper.toDoc(job("Frontend Developer", List.of("Seoul"), Popularity.empty()));
+
+        // Then
+        assertThat(changed.getContentHash()).isNotEqualTo(doc.getContentHash());
+    }
+
+    private Job job(String title, List<String> locations, Popularity popularity) {
+        return job(title, locations, popularity, NOW);
+    }
+
+    private Job job(String title, List<String> locations, Popularity popularity, Instant updatedAt) {
+        return new Job(
+                1L, "https://example.com/job1", Company.META, title,
+                "Tech Team", "One line summary",
+                ExperienceRequirement.of(2, 5, true, CareerLevel.EXPERIENCED),
+                EmploymentType.FULL_TIME, PositionCategory.BACKEND,
+                RemotePolicy.HYBRID, List.of(TechCategory.JAVA), NOW, null, true, false,
+                locations,
+                JobDescription.of("Intro", List.of(), List.of(), List.of(), "Full job description"),
+                InterviewProcess.of(false, true, false, 3, 30),
+                JobCompensation.empty(), popularity, false, NOW, updatedAt
+        );
+    }
+}
@@ -4,6 +4,7 @@ import dev.breakin.model.communitypost.CommunityPost;
 import dev.breakin.model.communitypost.CommunityPostIdentity;
 import dev.breakin.model.communitypost.CommunityPostRead;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -86,4 +87,15 @@ public interface CommunityPostRepository {
      * @param increment 증가시킬 조회수
      */
     void increaseViewCount(CommunityPostIdentity identity, long increment);
+
+    /**
+     * 조회수 일괄 증가 (원자적 연산)
+     *
+     * 여러 CommunityPost의 조회수를 CASE 식을 사용한 UPDATE 문으로 일괄 증가시킵니다.
+     * 대상이 많으면 일정 크기 단위로 나누어 실행하되, 모든 청크를 하나의 트랜잭션으로 반영합니다.
+     * UPDATE community_posts SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+     *
+     * @param increments Key: CommunityPost ID, Value: 증가시킬 조회수
+     */
+    void increaseViewCounts(Map<Long, Long> increments);
 }
@@ -0,0 +1,14 @@
+package dev.breakin.infra.job.repository;
+
+/**
+ * Job ID 구간 하나의 체크섬
+ *
+ * 같은 구간의 DB 행과 ES 문서를 비교하기 위한 값으로, 양쪽에서 같은 방식으로 계산합니다.
+ * 구간 크기가 1이면 Job 하나의 버전(id, updated_at)과 같습니다.
+ *
+ * @param count          구간의 Job 수
+ * @param idSum          Job ID 합
+ * @param updatedAtSum   updated_at(epoch 초) 합
+ */
+public record JobRangeChecksum(long count, long idSum, long updatedAtSum) {
+}
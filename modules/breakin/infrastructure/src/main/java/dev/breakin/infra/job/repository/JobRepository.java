@@ -1,8 +1,11 @@
 package dev.breakin.infra.job.repository;
 
+import dev.breakin.model.common.Popularity;
 import dev.breakin.model.job.Job;
 import dev.breakin.model.job.JobIdentity;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,6 +24,56 @@ public interface JobRepository {
      */
     Optional<Job> findById(JobIdentity identity);
 
+    /**
+     * 여러 ID로 Job 일괄 조회
+     *
+     * ID 개수와 관계없이 jobs와 자식 테이블을 테이블당 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param identities Job 식별자 목록
+     * @return 존재하는 Job 목록 (요청한 순서, 존재하지 않는 ID는 제외)
+     */
+    List<Job> findAllByIds(Collection<JobIdentity> identities);
+
+    /**
+     * 여러 ID로 인기도만 일괄 조회
+     *
+     * 인기도 변경만 반영하면 되는 경우를 위해 jobs의 인기도 컬럼만 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param identities Job 식별자 목록
+     * @return Key: Job ID, Value: 인기도 (존재하지 않는 ID는 제외)
+     */
+    Map<Long, Popularity> findPopularitiesByIds(Collection<JobIdentity> identities);
+
+    /**
+     * ID 순으로 afterId 다음 Job을 최대 limit개 조회 (keyset 페이지네이션)
+     *
+     * 전체 Job을 순회할 때 사용하며, 페이지마다 jobs와 자식 테이블을 테이블당 한 번의 쿼리로 조회합니다.
+     *
+     * @param afterId 이전 페이지의 마지막 Job ID (처음이면 0 또는 null)
+     * @param limit 최대 조회 개수
+     * @return ID 오름차순 Job 목록 (비어 있으면 마지막 페이지)
+     */
+    List<Job> findAllAfter(Long afterId, int limit);
+
+    /**
+     * ID 구간별 체크섬 조회 (ES 인덱스와의 정합성 검사용)
+     *
+     * [fromId, toId) 범위를 rangeSize 크기의 구간으로 나누어 구간마다 개수, ID 합, updated_at(epoch 초) 합을 구합니다.
+     *
+     * @param fromId 시작 ID (포함)
+     * @param toId 끝 ID (미포함)
+     * @param rangeSize 구간 크기 (1이면 Job별 체크섬)
+     * @return Key: 구간 시작 ID, Value: 체크섬 (Job이 없는 구간은 제외, soft delete된 Job은 ES에서 삭제되므로 제외)
+     */
+    Map<Long, JobRangeChecksum> findRangeChecksums(long fromId, long toId, int rangeSize);
+
+    /**
+     * 가장 큰 Job ID
+     *
+     * @return 가장 큰 Job ID (Job이 없으면 0)
+     */
+    long findMaxId();
+
     /**
      * Job 저장 (생성/수정)
      *
@@ -44,6 +97,13 @@ public interface JobRepository {
      */
     boolean existsById(JobIdentity identity);
 
+    /**
+     * 전체 Job 개수
+     *
+     * @return Job 개수
+     */
+    long count();
+
     /**
      * 모든 Job 조회
      *
@@ -77,4 +137,15 @@ public interface JobRepository {
      * @param increment 증가시킬 조회수
      */
     void increaseViewCount(JobIdentity identity, long increment);
+
+    /**
+     * 조회수 일괄 증가 (원자적 연산)
+     *
+     * 여러 Job의 조회수를 CASE 식을 사용한 UPDATE 문으로 일괄 증가시킵니다.
+     * 대상이 많으면 일정 크기 단위로 나누어 실행하되, 모든 청크를 하나의 트랜잭션으로 반영합니다.
+     * UPDATE jobs SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+     *
+     * @param increments Key: Job ID, Value: 증가시킬 조회수
+     */
+    void increaseViewCounts(Map<Long, Long> increments);
 }
@@ -3,6 +3,7 @@ package dev.breakin.infra.techblog.repository;
 import dev.breakin.model.techblog.TechBlog;
 import dev.breakin.model.techblog.TechBlogIdentity;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -77,4 +78,15 @@ public interface TechBlogRepository {
      * @param increment 증가시킬 조회수
      */
     void increaseViewCount(TechBlogIdentity identity, long increment);
+
+    /**
+     * 조회수 일괄 증가 (원자적 연산)
+     *
+     * 여러 TechBlog의 조회수를 CASE 식을 사용한 UPDATE 문으로 일괄 증가시킵니다.
+     * 대상이 많으면 일정 크기 단위로 나누어 실행하되, 모든 청크를 하나의 트랜잭션으로 반영합니다.
+     * UPDATE tech_blogs SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+     *
+     * @param increments Key: TechBlog ID, Value: 증가시킬 조회수
+     */
+    void increaseViewCounts(Map<Long, Long> increments);
 }
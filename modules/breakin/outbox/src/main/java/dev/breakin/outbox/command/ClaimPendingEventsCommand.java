@@ -0,0 +1,31 @@
+package dev.breakin.outbox.command;
+
+import dev.breakin.model.common.TargetType;
+import dev.breakin.outbox.model.UpdateType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Command for claiming pending outbox events with a lease
+ */
+@Value
+@Builder
+public class ClaimPendingEventsCommand {
+    int limit;
+    TargetType targetType;      // Optional: filter by target type (null = all types)
+    UpdateType updateType;      // Optional: filter by update type (null = all types)
+    String owner;               // Worker identifier recorded as the lease owner
+    Duration leaseDuration;     // How long the events stay claimed before they can be reclaimed
+
+    public static ClaimPendingEventsCommand ofType(int limit, TargetType targetType,
+                                                   String owner, Duration leaseDuration) {
+        return ClaimPendingEventsCommand.builder()
+            .limit(limit)
+            .targetType(targetType)
+            .owner(owner)
+            .leaseDuration(leaseDuration)
+            .build();
+    }
+}
@@ -0,0 +1,26 @@
+package dev.breakin.outbox.command;
+
+import dev.breakin.model.common.TargetType;
+import dev.breakin.outbox.model.UpdateType;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Command for reading the outbox change log from a consumer's offset
+ */
+@Value
+@Builder
+public class ReadChangeLogCommand {
+    String consumer;            // Consumer name, each consumer has its own offset
+    int limit;                  // Maximum number of events scanned
+    TargetType targetType;      // Optional: filter by target type (null = all types)
+    UpdateType updateType;      // Optional: filter by update type (null = all types)
+
+    public static ReadChangeLogCommand ofType(String consumer, int limit, TargetType targetType) {
+        return ReadChangeLogCommand.builder()
+            .consumer(consumer)
+            .limit(limit)
+            .targetType(targetType)
+            .build();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.breakin.outbox.compactor;
+
+/**
+ * Result of one outbox compaction run
+ *
+ * @param completedRemoved    COMPLETED rows removed (or archived)
+ * @param deadLetterRemoved   DEAD_LETTER rows removed (or archived)
+ * @param consumedRemoved     change-log rows read by every consumer, removed (or archived) in CHANGE_LOG mode
+ * @param remainingRows       rows left in outbox_events after the run
+ * @param remainingRowsChange change of remainingRows since the previous run (0 on the first run)
+ */
+public record CompactionResult(
+    long completedRemoved,
+    long deadLetterRemoved,
+    long consumedRemoved,
+    long remainingRows,
+    long remainingRowsChange
+) {
+    public long totalRemoved() {
+        return completedRemoved + deadLetterRemoved + consumedRemoved;
+    }
+}
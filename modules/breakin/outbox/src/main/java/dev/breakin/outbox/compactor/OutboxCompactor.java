@@ -0,0 +1,224 @@
+package dev.breakin.outbox.compactor;
+
+import dev.breakin.outbox.config.OutboxProperties;
+import dev.breakin.outbox.model.EventStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes processed outbox events that are past their retention
+ *
+ * COMPLETED and DEAD_LETTER rows older than the configured age are deleted (or archived first)
+ * in keyset-paginated chunks on (processed_at, id), each chunk in its own short transaction
+ * with a pause in between, so row locks are held only briefly and the poller is never starved.
+ * A run removes at most maxChunksPerRun chunks per status and continues on the next run.
+ * In CHANGE_LOG mode, events that every consumer has read past are removed as well.
+ */
+@Component
+@Slf4j
+public class OutboxCompactor {
+
+    private static final String SELECT_CHUNK_SQL = """
+        SELECT id, processed_at FROM outbox_events
+        WHERE status = :status
+        AND processed_at < :cutoff
+        AND processed_at >= :afterProcessedAt
+        AND (processed_at > :afterProcessedAt OR id > :afterId)
+        ORDER BY processed_at ASC, id ASC
+        LIMIT :limit
+        """;
+
+    private static final String SELECT_CONSUMED_CHUNK_SQL = """
+        SELECT id FROM outbox_events
+        WHERE id > :afterId
+        AND id <= :minOffset
+        AND updated_at < :cutoff
+        AND status <> 'DEAD_LETTER'
+        ORDER BY id ASC
+        LIMIT :limit
+        """;
+
+    private static final String ARCHIVE_SQL = """
+        INSERT INTO outbox_events_archive
+            (id, target_type, target_id, update_type, status, retry_count, error_message,
+             updated_at, processed_at, archived_at)
+        SELECT id, target_type, target_id, update_type, status, retry_count, error_message,
+               updated_at, processed_at, :archivedAt
+        FROM outbox_events
+        WHERE id IN (:ids)
+        """;
+
+    private static final String DELETE_SQL = """
+        DELETE FROM outbox_events
+        WHERE id IN (:ids)
+        """;
+
+    private static final String STATUS_GUARD = " AND status = :status";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRetentionProperties properties;
+    private final OutboxProperties outboxProperties;
+
+    // row count after the previous run, -1 until the first run
+    private final AtomicLong lastRemainingRows = new AtomicLong(-1);
+
+    public OutboxCompactor(NamedParameterJdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           OutboxRetentionProperties properties,
+                           OutboxProperties outboxProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.outboxProperties = outboxProperties;
+    }
+
+    /**
+     * Remove COMPLETED and DEAD_LETTER events past their retention,
+     * and in CHANGE_LOG mode the events already read by every consumer
+     *
+     * @return rows removed per status and the table size trend
+     */
+    public CompactionResult compact() {
+        Instant now = Instant.now();
+
+        long completedRemoved = compact(EventStatus.COMPLETED, now.minus(properties.getCompleted()));
+        long deadLetterRemoved = compact(EventStatus.DEAD_LETTER, now.minus(properties.getDeadLetter()));
+        long consumedRemoved = outboxProperties.isChangeLog() ? compactConsumed(now.minus(properties.getCompleted())) : 0;
+
+        Long counted = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events",
+            new MapSqlParameterSource(), Long.class);
+        long remainingRows = counted != null ? counted : 0L;
+        long previous = lastRemainingRows.getAndSet(remainingRows);
+        long change = previous < 0 ? 0 : remainingRows - previous;
+
+        CompactionResult result = new CompactionResult(completedRemoved, deadLetterRemoved, consumedRemoved, remainingRows, change);
+        log.info("Outbox compaction completed: completedRemoved={}, deadLetterRemoved={}, consumedRemoved={}, archived={}, remainingRows={} ({}{} since last run)",
+            completedRemoved, deadLetterRemoved, consumedRemoved, properties.isArchive(), remainingRows, change >= 0 ? "+" : "", change);
+        return result;
+    }
+
+    private long compact(EventStatus status, Instant cutoff) {
+        Timestamp afterProcessedAt = new Timestamp(0);
+        long afterId = 0;
+        long removed = 0;
+
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            List<ChunkRow> rows = jdbcTemplate.query(SELECT_CHUNK_SQL,
+                new MapSqlParameterSource()
+                    .addValue("status", status.name())
+                    .addValue("cutoff", Timestamp.from(cutoff))
+                    .addValue("afterProcessedAt", afterProcessedAt)
+                    .addValue("afterId", afterId)
+                    .addValue("limit", properties.getChunkSize()),
+                (rs, rowNum) -> new ChunkRow(rs.getLong("id"), rs.getTimestamp("processed_at")));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = rows.stream().map(ChunkRow::id).toList();
+            Integer deleted = transactionTemplate.execute(tx -> removeChunk(ids, status));
+            removed += deleted != null ? deleted : 0;
+
+            ChunkRow last = rows.get(rows.size() - 1);
+            afterProcessedAt = last.processedAt();
+            afterId = last.id();
+
+            if (rows.size() < properties.getChunkSize() || !pause()) {
+                break;
+            }
+        }
+
+        if (removed > 0) {
+            log.debug("Removed {} {} outbox events processed before {}", removed, status, cutoff);
+        }
+        return removed;
+    }
+
+    /**
+     * Remove change-log events that every consumer has committed past, keyset-paginated on id.
+     * Dead-lettered events are left to the DEAD_LETTER retention.
+     */
+    private long compactConsumed(Instant cutoff) {
+        Long minOffset = jdbcTemplate.queryForObject("SELECT MIN(last_event_id) FROM outbox_consumer_offsets",
+            new MapSqlParameterSource(), Long.class);
+        if (minOffset == null) {
+            // no consumer has committed yet
+            return 0;
+        }
+
+        long afterId = 0;
+        long removed = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_CONSUMED_CHUNK_SQL,
+                new MapSqlParameterSource()
+                    .addValue("afterId", afterId)
+                    .addValue("minOffset", minOffset)
+                    .addValue("cutoff", Timestamp.from(cutoff))
+                    .addValue("limit", properties.getChunkSize()),
+                Long.class);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer deleted = transactionTemplate.execute(tx -> removeChunk(ids, null));
+            removed += deleted != null ? deleted : 0;
+            afterId = ids.get(ids.size() - 1);
+
+            if (ids.size() < properties.getChunkSize() || !pause()) {
+                break;
+            }
+        }
+
+        if (removed > 0) {
+            log.debug("Removed {} consumed change log events up to id {}", removed, minOffset);
+        }
+        return removed;
+    }
+
+    /**
+     * @param status only remove rows still in this status, or null for any status
+     */
+    private int removeChunk(List<Long> ids, EventStatus status) {
+        String guard = status != null ? STATUS_GUARD : "";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("status", status != null ? status.name() : null)
+            .addValue("ids", ids)
+            .addValue("archivedAt", Timestamp.from(Instant.now()));
+        if (properties.isArchive()) {
+            jdbcTemplate.update(ARCHIVE_SQL + guard, params);
+        }
+        return jdbcTemplate.update(DELETE_SQL + guard, params);
+    }
+
+    /**
+     * @return false if the thread was interrupted and the run should stop
+     */
+    private boolean pause() {
+        Duration pause = properties.getPause();
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Outbox compaction interrupted");
+            return false;
+        }
+    }
+
+    private record ChunkRow(long id, Timestamp processedAt) {
+    }
+}
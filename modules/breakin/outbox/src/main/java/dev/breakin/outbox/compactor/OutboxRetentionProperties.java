@@ -0,0 +1,48 @@
+package dev.breakin.outbox.compactor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Retention settings for processed outbox events
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.outbox.retention")
+@Getter
+@Setter
+public class OutboxRetentionProperties {
+
+    /**
+     * How long COMPLETED events are kept after they were processed
+     */
+    private Duration completed = Duration.ofDays(7);
+
+    /**
+     * How long DEAD_LETTER events are kept, longer so they can still be inspected
+     */
+    private Duration deadLetter = Duration.ofDays(30);
+
+    /**
+     * Copy the removed rows to outbox_events_archive before deleting them
+     */
+    private boolean archive = false;
+
+    /**
+     * Rows removed per chunk (one short transaction per chunk)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Pause between chunks, so the compactor never competes with the poller for long
+     */
+    private Duration pause = Duration.ofMillis(200);
+
+    /**
+     * Upper bound of chunks per status and run, the rest is removed on the next run
+     */
+    private int maxChunksPerRun = 2000;
+}
@@ -0,0 +1,37 @@
+package dev.breakin.outbox.config;
+
+import dev.breakin.outbox.model.OutboxMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Outbox settings
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+
+    /**
+     * How events are consumed. In CHANGE_LOG mode events are never coalesced, so rows are
+     * never modified by the recorder and consumers can safely read them by offset.
+     */
+    private OutboxMode mode = OutboxMode.STATUS;
+
+    /**
+     * How long a gap in event ids is treated as a transaction that has not committed yet.
+     * Change-log consumers stop before a younger gap and skip older ones (rolled back).
+     * An event whose transaction commits later than this after the insert is skipped too and lost,
+     * so it must exceed the longest transaction that records outbox events.
+     */
+    private Duration changeLogGapTimeout = Duration.ofSeconds(10);
+
+    public boolean isChangeLog() {
+        return mode == OutboxMode.CHANGE_LOG;
+    }
+}
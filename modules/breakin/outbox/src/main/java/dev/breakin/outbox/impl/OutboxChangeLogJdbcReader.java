@@ -0,0 +1,194 @@
+package dev.breakin.outbox.impl;
+
+import dev.breakin.outbox.command.ReadChangeLogCommand;
+import dev.breakin.outbox.config.OutboxProperties;
+import dev.breakin.outbox.model.ChangeLogBatch;
+import dev.breakin.outbox.model.OutboxEvent;
+import dev.breakin.outbox.reader.OutboxChangeLogReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of OutboxChangeLogReader
+ *
+ * Events are read by primary key range after the consumer's offset. Ids are assigned at insert
+ * but become visible at commit, so a gap in ids may be a transaction that has not committed yet:
+ * reading stops before a gap until the event after it is older than the configured gap timeout,
+ * after which the gap is treated as rolled back and skipped, logged at WARN with the skipped ids.
+ *
+ * A transaction that stays open longer than the gap timeout after inserting its event is indistinguishable
+ * from a rollback: its event becomes visible behind the committed offset and is never read by this consumer.
+ * The timeout must therefore exceed the longest transaction that records outbox events.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxChangeLogJdbcReader implements OutboxChangeLogReader {
+
+    private static final String READ_SQL = """
+        SELECT * FROM outbox_events
+        WHERE id > :offset
+        ORDER BY id ASC
+        LIMIT :limit
+        """;
+
+    private static final String ADVANCE_OFFSET_SQL = """
+        UPDATE outbox_consumer_offsets
+        SET last_event_id = :offset,
+            updated_at = :updatedAt
+        WHERE consumer_name = :consumer
+        AND last_event_id < :offset
+        """;
+
+    private static final String INSERT_OFFSET_SQL = """
+        INSERT INTO outbox_consumer_offsets (consumer_name, last_event_id, updated_at)
+        VALUES (:consumer, :offset, :updatedAt)
+        """;
+
+    // each statement assigns columns from parameters or their own value only, so the result does not
+    // depend on the order the database evaluates the SET assignments in
+    private static final String INCREMENT_FAILURE_SQL = """
+        UPDATE outbox_consumer_offsets
+        SET failed_attempts = failed_attempts + 1,
+            updated_at = :updatedAt
+        WHERE consumer_name = :consumer
+        AND failed_event_id = :eventId
+        """;
+
+    private static final String RESET_FAILURE_SQL = """
+        UPDATE outbox_consumer_offsets
+        SET failed_event_id = :eventId,
+            failed_attempts = 1,
+            updated_at = :updatedAt
+        WHERE consumer_name = :consumer
+        """;
+
+    private static final String DEAD_LETTER_SQL = """
+        UPDATE outbox_events
+        SET status = 'DEAD_LETTER',
+            retry_count = :retryCount,
+            error_message = :errorMessage,
+            processed_at = :processedAt
+        WHERE id = :id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxProperties properties;
+
+    @Override
+    public ChangeLogBatch read(ReadChangeLogCommand command) {
+        long offset = offset(command.getConsumer());
+
+        List<OutboxEvent> scanned = jdbcTemplate.query(READ_SQL,
+            new MapSqlParameterSource()
+                .addValue("offset", offset)
+                .addValue("limit", command.getLimit()),
+            OutboxEventJdbcRecorder.EVENT_ROW_MAPPER);
+
+        Instant gapCutoff = Instant.now().minus(properties.getChangeLogGapTimeout());
+        List<OutboxEvent> events = new ArrayList<>();
+        long nextOffset = offset;
+        for (OutboxEvent event : scanned) {
+            if (event.getId() != nextOffset + 1) {
+                if (event.getUpdatedAt().isAfter(gapCutoff)) {
+                    // an earlier id may still be committing - read it on the next call
+                    log.debug("Change log gap before id={}, waiting: consumer={}", event.getId(), command.getConsumer());
+                    break;
+                }
+                log.warn("Skipping change log gap older than {}, events committed later in it are lost: consumer={}, ids={}..{}",
+                    properties.getChangeLogGapTimeout(), command.getConsumer(), nextOffset + 1, event.getId() - 1);
+            }
+            nextOffset = event.getId();
+            if (matches(command, event)) {
+                events.add(event);
+            }
+        }
+
+        log.debug("Read change log: consumer={}, offset={}, nextOffset={}, events={}",
+            command.getConsumer(), offset, nextOffset, events.size());
+        return new ChangeLogBatch(command.getConsumer(), events, offset, nextOffset);
+    }
+
+    @Override
+    public void commit(String consumer, long offset) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("consumer", consumer)
+            .addValue("offset", offset)
+            .addValue("updatedAt", Timestamp.from(Instant.now()));
+
+        if (jdbcTemplate.update(ADVANCE_OFFSET_SQL, params) > 0) {
+            return;
+        }
+        if (existsOffset(consumer)) {
+            // already at or past the offset
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_OFFSET_SQL, params);
+            log.info("Registered change log consumer: consumer={}, offset={}", consumer, offset);
+        } catch (DuplicateKeyException e) {
+            // registered concurrently
+            jdbcTemplate.update(ADVANCE_OFFSET_SQL, params);
+        }
+    }
+
+    @Override
+    public long offset(String consumer) {
+        List<Long> offsets = jdbcTemplate.queryForList(
+            "SELECT last_event_id FROM outbox_consumer_offsets WHERE consumer_name = :consumer",
+            new MapSqlParameterSource("consumer", consumer),
+            Long.class);
+        return offsets.isEmpty() ? 0L : offsets.get(0);
+    }
+
+    @Override
+    public int recordFailure(String consumer, long eventId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("consumer", consumer)
+            .addValue("eventId", eventId)
+            .addValue("updatedAt", Timestamp.from(Instant.now()));
+        if (jdbcTemplate.update(INCREMENT_FAILURE_SQL, params) == 0
+            && jdbcTemplate.update(RESET_FAILURE_SQL, params) == 0) {
+            // not registered, nothing to count against
+            return 1;
+        }
+
+        List<Integer> attempts = jdbcTemplate.queryForList(
+            "SELECT failed_attempts FROM outbox_consumer_offsets WHERE consumer_name = :consumer",
+            params,
+            Integer.class);
+        return attempts.isEmpty() ? 1 : attempts.get(0);
+    }
+
+    @Override
+    public void deadLetter(OutboxEvent event, int attempts, String errorMessage) {
+        jdbcTemplate.update(DEAD_LETTER_SQL,
+            new MapSqlParameterSource()
+                .addValue("id", event.getId())
+                .addValue("retryCount", attempts)
+                .addValue("errorMessage", errorMessage)
+                .addValue("processedAt", Timestamp.from(Instant.now())));
+        log.warn("Change log event moved to dead letter: eventId={}, attempts={}", event.getId(), attempts);
+    }
+
+    private boolean existsOffset(String consumer) {
+        return !jdbcTemplate.queryForList(
+            "SELECT consumer_name FROM outbox_consumer_offsets WHERE consumer_name = :consumer",
+            new MapSqlParameterSource("consumer", consumer),
+            String.class).isEmpty();
+    }
+
+    private boolean matches(ReadChangeLogCommand command, OutboxEvent event) {
+        return (command.getTargetType() == null || command.getTargetType() == event.getTargetType())
+            && (command.getUpdateType() == null || command.getUpdateType() == event.getUpdateType());
+    }
+}
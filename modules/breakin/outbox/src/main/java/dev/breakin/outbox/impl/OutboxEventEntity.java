@@ -28,4 +28,7 @@ public class OutboxEventEntity {
     private String errorMessage;
     private Instant updatedAt;
     private Instant processedAt;
+    private String leaseOwner;
+    private Instant leaseExpiresAt;
+    private Instant nextAttemptAt;
 }
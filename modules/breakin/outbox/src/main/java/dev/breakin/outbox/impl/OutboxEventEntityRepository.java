@@ -5,7 +5,7 @@ import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JDBC repository for OutboxEventEntity
@@ -13,24 +13,49 @@ import java.util.List;
 public interface OutboxEventEntityRepository extends CrudRepository<OutboxEventEntity, Long> {
 
     /**
-     * Find pending events with optional filters
+     * Find the waiting event for a target, used to coalesce repeated events
      */
     @Query("""
         SELECT * FROM outbox_events
-        WHERE status = 'WAIT'
-        AND (:targetType IS NULL OR target_type = :targetType)
-        AND (:updateType IS NULL OR update_type = :updateType)
-        ORDER BY updated_at ASC
-        LIMIT :limit
+        WHERE target_type = :targetType
+        AND target_id = :targetId
+        AND update_type = :updateType
+        AND status = 'WAIT'
+        ORDER BY id ASC
+        LIMIT 1
         """)
-    List<OutboxEventEntity> findPendingEvents(
-        @Param("limit") int limit,
+    Optional<OutboxEventEntity> findWaitingEvent(
         @Param("targetType") String targetType,
+        @Param("targetId") Long targetId,
         @Param("updateType") String updateType
     );
 
+    /**
+     * Bump updated_at of an event that is still waiting
+     *
+     * @return number of updated rows (0 if the event was picked up in the meantime)
+     */
+    @Modifying
+    @Query("""
+        UPDATE outbox_events
+        SET updated_at = :updatedAt
+        WHERE id = :id
+        AND status = 'WAIT'
+        """)
+    int touchWaitingEvent(
+        @Param("id") Long id,
+        @Param("updatedAt") java.time.Instant updatedAt
+    );
+
     /**
      * Update event status for batch processing
+     *
+     * Only applies if updated_at still matches the value the consumer read, so an event
+     * coalesced while it was being processed stays pending and is synchronized again.
+     * A claimed event can only be updated by its current lease owner, since reclaiming an expired lease
+     * bumps updated_at; the lease is released.
+     *
+     * @return number of updated rows
      */
     @Modifying
     @Query("""
@@ -38,14 +63,42 @@ public interface OutboxEventEntityRepository extends CrudRepository<OutboxEventE
         SET status = :status,
             retry_count = :retryCount,
             error_message = :errorMessage,
-            processed_at = :processedAt
+            processed_at = :processedAt,
+            next_attempt_at = :nextAttemptAt,
+            lease_owner = NULL,
+            lease_expires_at = NULL
         WHERE id = :id
+        AND updated_at = :updatedAt
+        AND (lease_owner IS NULL OR lease_owner = :leaseOwner)
         """)
-    void updateEventStatus(
+    int updateEventStatus(
         @Param("id") Long id,
         @Param("status") String status,
         @Param("retryCount") Integer retryCount,
         @Param("errorMessage") String errorMessage,
-        @Param("processedAt") java.time.Instant processedAt
+        @Param("processedAt") java.time.Instant processedAt,
+        @Param("updatedAt") java.time.Instant updatedAt,
+        @Param("leaseOwner") String leaseOwner,
+        @Param("nextAttemptAt") java.time.Instant nextAttemptAt
     );
+
+    /**
+     * Return events whose lease has expired to WAIT so they can be claimed again
+     *
+     * updated_at is bumped so the worker that lost the lease no longer matches the
+     * (updated_at, lease_owner) guard of updateEventStatus and cannot complete or fail the event.
+     *
+     * @return number of reclaimed events
+     */
+    @Modifying
+    @Query("""
+        UPDATE outbox_events
+        SET status = 'WAIT',
+            lease_owner = NULL,
+            lease_expires_at = NULL,
+            updated_at = :now
+        WHERE status = 'PROCESSING'
+        AND lease_expires_at < :now
+        """)
+    int reclaimExpiredLeases(@Param("now") java.time.Instant now);
 }
@@ -1,26 +1,95 @@
 package dev.breakin.outbox.impl;
 
 import dev.breakin.model.common.TargetType;
+import dev.breakin.outbox.command.ClaimPendingEventsCommand;
 import dev.breakin.outbox.command.FindPendingEventsCommand;
+import dev.breakin.outbox.model.EventStatus;
 import dev.breakin.outbox.model.OutboxEvent;
 import dev.breakin.outbox.reader.OutboxEventReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
  * JDBC implementation of OutboxEventReader
+ *
+ * Claims lock candidate rows with SELECT ... FOR UPDATE SKIP LOCKED so concurrent workers
+ * skip each other's rows. If the database rejects SKIP LOCKED, it falls back to a
+ * compare-and-set UPDATE guarded by the pending status for the rest of the process lifetime.
+ * Failed events are claimed again once their next_attempt_at is due.
+ *
+ * Due events are read per status with the type filters bound as plain equalities, so with a target type
+ * each query is one ordered range scan of idx_outbox_due(status, target_type, next_attempt_at) that stops
+ * at the limit. The WAIT and FAILED results are merged by next_attempt_at. Without a target type the
+ * rows of the status are still found through the index prefix but have to be sorted.
  */
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class OutboxEventJdbcReader implements OutboxEventReader {
 
+    // pending statuses, queried one at a time and merged by next_attempt_at
+    private static final List<EventStatus> DUE_STATUSES = List.of(EventStatus.WAIT, EventStatus.FAILED);
+
+    // %s: selected columns, optional type filters
+    private static final String DUE_EVENTS_SQL = """
+            SELECT %s FROM outbox_events
+            WHERE status = :status
+            AND next_attempt_at <= :now
+            %s
+            ORDER BY next_attempt_at ASC
+            LIMIT :limit
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE outbox_events
+            SET status = 'PROCESSING',
+                lease_owner = :leaseOwner,
+                lease_expires_at = :leaseExpiresAt
+            WHERE status IN ('WAIT', 'FAILED')
+            AND next_attempt_at <= :now
+            AND id IN (:ids)
+            """;
+
+    // same statement as OutboxEventEntityRepository.updateEventStatus, executed as a JDBC batch
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE outbox_events
+            SET status = :status,
+                retry_count = :retryCount,
+                error_message = :errorMessage,
+                processed_at = :processedAt,
+                next_attempt_at = :nextAttemptAt,
+                lease_owner = NULL,
+                lease_expires_at = NULL
+            WHERE id = :id
+            AND updated_at = :updatedAt
+            AND (lease_owner IS NULL OR lease_owner = :leaseOwner)
+            """;
+
+    private static final RowMapper<ClaimCandidate> CLAIM_CANDIDATE_ROW_MAPPER = (rs, rowNum) ->
+            new ClaimCandidate(rs.getLong("id"), rs.getTimestamp("next_attempt_at").toInstant());
+
     private final OutboxEventEntityRepository entityRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean skipLockedSupported = new AtomicBoolean(true);
 
     @Override
     @Transactional(readOnly = true)
@@ -28,64 +97,185 @@ public class OutboxEventJdbcReader implements OutboxEventReader {
         log.debug("Finding pending events: limit={}, targetType={}, updateType={}",
                 command.getLimit(), command.getTargetType(), command.getUpdateType());
 
-        String targetType = command.getTargetType() != null ? command.getTargetType().name() : null;
-        String updateType = command.getUpdateType() != null ? command.getUpdateType().name() : null;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", command.getLimit())
+                .addValue("now", Timestamp.from(Instant.now()))
+                .addValue("targetType", command.getTargetType() != null ? command.getTargetType().name() : null)
+                .addValue("updateType", command.getUpdateType() != null ? command.getUpdateType().name() : null);
+        String sql = dueEventsSql("*", params);
 
-        List<OutboxEventEntity> entities = entityRepository.findPendingEvents(
-                command.getLimit(),
-                targetType,
-                updateType
-        );
+        List<OutboxEvent> due = new ArrayList<>();
+        for (EventStatus status : DUE_STATUSES) {
+            due.addAll(jdbcTemplate.query(sql, params.addValue("status", status.name()),
+                    OutboxEventJdbcRecorder.EVENT_ROW_MAPPER));
+        }
+        List<OutboxEvent> events = due.stream()
+                .sorted(Comparator.comparing(OutboxEvent::getNextAttemptAt))
+                .limit(command.getLimit())
+                .collect(Collectors.toList());
+
+        log.debug("Found {} pending events", events.size());
+        return events;
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxEvent> claim(ClaimPendingEventsCommand command) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        int reclaimed = entityRepository.reclaimExpiredLeases(now);
+        if (reclaimed > 0) {
+            log.warn("Reclaimed {} outbox events with expired leases", reclaimed);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", command.getLimit())
+                .addValue("now", Timestamp.from(now))
+                .addValue("targetType", command.getTargetType() != null ? command.getTargetType().name() : null)
+                .addValue("updateType", command.getUpdateType() != null ? command.getUpdateType().name() : null);
+
+        List<Long> candidateIds = findClaimCandidates(params, command.getLimit());
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        // unique per call, so the rows won by this call can be told apart from concurrent claims
+        String leaseOwner = command.getOwner() + "#" + UUID.randomUUID();
+        int claimed = jdbcTemplate.update(CLAIM_SQL, new MapSqlParameterSource()
+                .addValue("leaseOwner", leaseOwner)
+                .addValue("leaseExpiresAt", Timestamp.from(now.plus(command.getLeaseDuration())))
+                .addValue("now", Timestamp.from(now))
+                .addValue("ids", candidateIds));
+        if (claimed == 0) {
+            return List.of();
+        }
 
-        List<OutboxEvent> events = entities.stream()
+        List<OutboxEvent> events = StreamSupport.stream(entityRepository.findAllById(candidateIds).spliterator(), false)
+                .filter(entity -> leaseOwner.equals(entity.getLeaseOwner()))
                 .map(this::toDomain)
+                .sorted(Comparator.comparing(OutboxEvent::getNextAttemptAt))
                 .collect(Collectors.toList());
 
-        log.debug("Found {} pending events", events.size());
+        log.debug("Claimed {} of {} candidate events: owner={}", events.size(), candidateIds.size(), command.getOwner());
         return events;
     }
 
+    /**
+     * Due candidates of every pending status, oldest due first, at most limit
+     */
+    private List<Long> findClaimCandidates(MapSqlParameterSource params, int limit) {
+        String sql = dueEventsSql("id, next_attempt_at", params);
+        List<ClaimCandidate> candidates = new ArrayList<>();
+        for (EventStatus status : DUE_STATUSES) {
+            candidates.addAll(findClaimCandidates(sql, params.addValue("status", status.name())));
+        }
+        return candidates.stream()
+                .sorted(Comparator.comparing(ClaimCandidate::nextAttemptAt))
+                .limit(limit)
+                .map(ClaimCandidate::id)
+                .toList();
+    }
+
+    private List<ClaimCandidate> findClaimCandidates(String sql, MapSqlParameterSource params) {
+        if (skipLockedSupported.get()) {
+            try {
+                return jdbcTemplate.query(sql + " FOR UPDATE SKIP LOCKED", params, CLAIM_CANDIDATE_ROW_MAPPER);
+            } catch (BadSqlGrammarException e) {
+                log.warn("Database does not support FOR UPDATE SKIP LOCKED, falling back to compare-and-set claims");
+                skipLockedSupported.set(false);
+            }
+        }
+        return jdbcTemplate.query(sql, params, CLAIM_CANDIDATE_ROW_MAPPER);
+    }
+
+    /**
+     * Type filters are only added when set, as equalities the index can use
+     */
+    private static String dueEventsSql(String columns, MapSqlParameterSource params) {
+        StringBuilder filters = new StringBuilder();
+        if (params.getValue("targetType") != null) {
+            filters.append("AND target_type = :targetType\n");
+        }
+        if (params.getValue("updateType") != null) {
+            filters.append("AND update_type = :updateType\n");
+        }
+        return DUE_EVENTS_SQL.formatted(columns, filters);
+    }
+
+    @Override
+    public List<Long> findTargetIdsRecordedSince(TargetType targetType, Instant since) {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT target_id FROM outbox_events
+                WHERE target_type = :targetType
+                AND updated_at >= :since
+                """,
+                new MapSqlParameterSource()
+                        .addValue("targetType", targetType.name())
+                        .addValue("since", Timestamp.from(since)),
+                Long.class);
+    }
+
     @Override
     @Transactional
     public OutboxEvent update(OutboxEvent event) {
         log.debug("Updating outbox event: id={}, status={}", event.getId(), event.getStatus());
 
-        OutboxEventEntity entity = toEntity(event);
-        OutboxEventEntity saved = entityRepository.save(entity);
+        if (applyStatus(event)) {
+            return event;
+        }
 
-        return toDomain(saved);
+        // coalesced while processing, or the lease was taken over - keep the current row
+        log.debug("Outbox event changed while processing, leaving it as is: id={}", event.getId());
+        return entityRepository.findById(event.getId())
+                .map(this::toDomain)
+                .orElse(event);
     }
 
     @Override
     @Transactional
     public void updateBatch(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
         log.debug("Batch updating {} events", events.size());
 
-        for (OutboxEvent event : events) {
-            entityRepository.updateEventStatus(
-                    event.getId(),
-                    event.getStatus().name(),
-                    event.getRetryCount(),
-                    event.getErrorMessage(),
-                    event.getProcessedAt()
-            );
+        SqlParameterSource[] batch = new SqlParameterSource[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("id", event.getId())
+                    .addValue("status", event.getStatus().name())
+                    .addValue("retryCount", event.getRetryCount())
+                    .addValue("errorMessage", event.getErrorMessage())
+                    .addValue("processedAt", event.getProcessedAt() != null ? Timestamp.from(event.getProcessedAt()) : null)
+                    .addValue("updatedAt", Timestamp.from(event.getUpdatedAt()))
+                    .addValue("leaseOwner", event.getLeaseOwner())
+                    .addValue("nextAttemptAt", Timestamp.from(event.getNextAttemptAt()));
         }
 
-        log.debug("Batch update completed");
+        // a single round trip; events changed while processing match no row and are left as is
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, batch);
+        int skipped = 0;
+        for (int count : counts) {
+            if (count == 0) {
+                skipped++;
+            }
+        }
+
+        log.debug("Batch update completed - Changed while processing: {}", skipped);
     }
 
-    private OutboxEventEntity toEntity(OutboxEvent domain) {
-        return new OutboxEventEntity(
-                domain.getId(),
-                domain.getTargetType().name(),
-                domain.getTargetId(),
-                domain.getUpdateType().name(),
-                domain.getStatus().name(),
-                domain.getRetryCount(),
-                domain.getErrorMessage(),
-                domain.getUpdatedAt(),
-                domain.getProcessedAt()
-        );
+    private boolean applyStatus(OutboxEvent event) {
+        return entityRepository.updateEventStatus(
+                event.getId(),
+                event.getStatus().name(),
+                event.getRetryCount(),
+                event.getErrorMessage(),
+                event.getProcessedAt(),
+                event.getUpdatedAt(),
+                event.getLeaseOwner(),
+                event.getNextAttemptAt()
+        ) > 0;
     }
 
     private OutboxEvent toDomain(OutboxEventEntity entity) {
@@ -98,7 +288,13 @@ public class OutboxEventJdbcReader implements OutboxEventReader {
                 entity.getRetryCount(),
                 entity.getErrorMessage(),
                 entity.getUpdatedAt(),
-                entity.getProcessedAt()
+                entity.getProcessedAt(),
+                entity.getLeaseOwner(),
+                entity.getLeaseExpiresAt(),
+                entity.getNextAttemptAt()
         );
     }
+
+    private record ClaimCandidate(long id, Instant nextAttemptAt) {
+    }
 }
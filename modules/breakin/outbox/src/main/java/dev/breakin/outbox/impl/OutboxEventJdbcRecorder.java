@@ -2,24 +2,91 @@ package dev.breakin.outbox.impl;
 
 import dev.breakin.model.common.TargetType;
 import dev.breakin.outbox.command.RecordOutboxEventCommand;
+import dev.breakin.outbox.config.OutboxProperties;
+import dev.breakin.outbox.model.EventStatus;
 import dev.breakin.outbox.model.OutboxEvent;
+import dev.breakin.outbox.model.UpdateType;
 import dev.breakin.outbox.recorder.OutboxEventRecorder;
+import dev.breakin.outbox.signal.OutboxWakeupSignal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * JDBC implementation of OutboxEventRecorder
+ *
+ * Repeated events for a target that has not been synchronized yet are coalesced
+ * into the existing waiting row, so sync work is proportional to distinct changed targets.
+ * recordAll does the same for many commands with a few set-based statements and a JDBC batch insert.
+ * In CHANGE_LOG mode nothing is coalesced, every command appends a row.
+ * Consumers are woken up through {@link OutboxWakeupSignal} once the recording transaction commits;
+ * the signal is registered after the write, so it never fires before the rows exist.
  */
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class OutboxEventJdbcRecorder implements OutboxEventRecorder {
 
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_events (target_type, target_id, update_type, status, retry_count, updated_at, next_attempt_at)
+        VALUES (:targetType, :targetId, :updateType, 'WAIT', 0, :updatedAt, :updatedAt)
+        """;
+
+    static final RowMapper<OutboxEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp processedAt = rs.getTimestamp("processed_at");
+        Timestamp leaseExpiresAt = rs.getTimestamp("lease_expires_at");
+        return new OutboxEvent(
+            rs.getLong("id"),
+            TargetType.valueOf(rs.getString("target_type")),
+            rs.getLong("target_id"),
+            UpdateType.valueOf(rs.getString("update_type")),
+            EventStatus.valueOf(rs.getString("status")),
+            rs.getInt("retry_count"),
+            rs.getString("error_message"),
+            rs.getTimestamp("updated_at").toInstant(),
+            processedAt != null ? processedAt.toInstant() : null,
+            rs.getString("lease_owner"),
+            leaseExpiresAt != null ? leaseExpiresAt.toInstant() : null,
+            rs.getTimestamp("next_attempt_at").toInstant()
+        );
+    };
+
     private final OutboxEventEntityRepository entityRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxWakeupSignal wakeupSignal;
+    private final OutboxProperties properties;
 
     @Override
+    @Transactional
     public OutboxEvent record(RecordOutboxEventCommand command) {
+        OutboxEvent coalesced = properties.isChangeLog() ? null : coalesce(command);
+        if (coalesced != null) {
+            wakeupSignal.signalAfterCommit();
+            return coalesced;
+        }
+
         log.info("Recording outbox event: targetType={}, targetId={}, updateType={}",
             command.getTargetType(), command.getTargetId(), command.getUpdateType());
 
@@ -35,9 +102,200 @@ public class OutboxEventJdbcRecorder implements OutboxEventRecorder {
         OutboxEvent result = toDomain(saved);
         log.info("Outbox event recorded: id={}", result.getId());
 
+        wakeupSignal.signalAfterCommit();
+
         return result;
     }
 
+    @Override
+    @Transactional
+    public List<OutboxEvent> recordAll(List<RecordOutboxEventCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return List.of();
+        }
+
+        List<RecordOutboxEventCommand> distinct = new ArrayList<>(new LinkedHashSet<>(commands));
+        // truncated to the column precision so the bumped rows can be matched by updated_at
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Map<RecordOutboxEventCommand, OutboxEvent> recorded = new HashMap<>();
+
+        if (!properties.isChangeLog()) {
+            coalesceAll(distinct, now, recorded);
+        }
+        int coalesced = recorded.size();
+
+        List<RecordOutboxEventCommand> toInsert = distinct.stream()
+            .filter(command -> !recorded.containsKey(command))
+            .toList();
+        insertAll(toInsert, now, recorded);
+
+        log.info("Outbox events recorded in bulk: requested={}, coalesced={}, inserted={}",
+            commands.size(), coalesced, toInsert.size());
+
+        wakeupSignal.signalAfterCommit();
+
+        return distinct.stream().map(recorded::get).toList();
+    }
+
+    /**
+     * Collapse the command into an event for the same target that is still waiting.
+     * Consumers always read the latest state of the target, so one waiting row per
+     * (targetType, targetId, updateType) is enough; its updated_at is bumped instead
+     * of inserting another row.
+     *
+     * @return the coalesced event, or null if there is no waiting event to reuse
+     */
+    private OutboxEvent coalesce(RecordOutboxEventCommand command) {
+        Optional<OutboxEventEntity> waiting = entityRepository.findWaitingEvent(
+            command.getTargetType().name(),
+            command.getTargetId(),
+            command.getUpdateType().name()
+        );
+        if (waiting.isEmpty()) {
+            return null;
+        }
+
+        OutboxEventEntity entity = waiting.get();
+        Instant now = Instant.now();
+        if (entityRepository.touchWaitingEvent(entity.getId(), now) == 0) {
+            // picked up by a consumer in the meantime, record a new event
+            return null;
+        }
+
+        entity.setUpdatedAt(now);
+        log.debug("Outbox event coalesced: id={}, targetType={}, targetId={}, updateType={}",
+            entity.getId(), command.getTargetType(), command.getTargetId(), command.getUpdateType());
+        return toDomain(entity);
+    }
+
+    /**
+     * Bump every waiting event that matches one of the commands.
+     * Commands are grouped by (targetType, updateType) so each chunk is one IN query and one UPDATE.
+     */
+    private void coalesceAll(List<RecordOutboxEventCommand> commands, Instant now,
+                             Map<RecordOutboxEventCommand, OutboxEvent> recorded) {
+        Map<String, List<RecordOutboxEventCommand>> groups = new LinkedHashMap<>();
+        for (RecordOutboxEventCommand command : commands) {
+            String key = command.getTargetType().name() + ":" + command.getUpdateType().name();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(command);
+        }
+
+        for (List<RecordOutboxEventCommand> group : groups.values()) {
+            for (int start = 0; start < group.size(); start += CHUNK_SIZE) {
+                coalesceChunk(group.subList(start, Math.min(start + CHUNK_SIZE, group.size())), now, recorded);
+            }
+        }
+    }
+
+    private void coalesceChunk(List<RecordOutboxEventCommand> chunk, Instant now,
+                               Map<RecordOutboxEventCommand, OutboxEvent> recorded) {
+        RecordOutboxEventCommand first = chunk.get(0);
+        List<Long> targetIds = chunk.stream().map(RecordOutboxEventCommand::getTargetId).toList();
+
+        List<OutboxEvent> waiting = jdbcTemplate.query("""
+            SELECT * FROM outbox_events
+            WHERE status = 'WAIT'
+            AND target_type = :targetType
+            AND update_type = :updateType
+            AND target_id IN (:targetIds)
+            ORDER BY id ASC
+            """,
+            new MapSqlParameterSource()
+                .addValue("targetType", first.getTargetType().name())
+                .addValue("updateType", first.getUpdateType().name())
+                .addValue("targetIds", targetIds),
+            EVENT_ROW_MAPPER);
+        if (waiting.isEmpty()) {
+            return;
+        }
+
+        // keep the oldest waiting row per target
+        Map<Long, OutboxEvent> byTarget = new LinkedHashMap<>();
+        for (OutboxEvent event : waiting) {
+            byTarget.putIfAbsent(event.getTargetId(), event);
+        }
+        List<Long> ids = byTarget.values().stream().map(OutboxEvent::getId).toList();
+
+        int bumped = jdbcTemplate.update(
+            "UPDATE outbox_events SET updated_at = :updatedAt WHERE status = 'WAIT' AND id IN (:ids)",
+            new MapSqlParameterSource()
+                .addValue("updatedAt", Timestamp.from(now))
+                .addValue("ids", ids));
+
+        Set<Long> bumpedIds = bumped == ids.size()
+            ? new HashSet<>(ids)
+            // some rows were picked up in the meantime - only reuse the ones still waiting
+            : new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM outbox_events WHERE status = 'WAIT' AND updated_at = :updatedAt AND id IN (:ids)",
+                new MapSqlParameterSource()
+                    .addValue("updatedAt", Timestamp.from(now))
+                    .addValue("ids", ids),
+                Long.class));
+
+        for (RecordOutboxEventCommand command : chunk) {
+            OutboxEvent event = byTarget.get(command.getTargetId());
+            if (event != null && bumpedIds.contains(event.getId())) {
+                recorded.put(command, new OutboxEvent(
+                    event.getId(),
+                    event.getTargetType(),
+                    event.getTargetId(),
+                    event.getUpdateType(),
+                    event.getStatus(),
+                    event.getRetryCount(),
+                    event.getErrorMessage(),
+                    now,
+                    event.getProcessedAt(),
+                    null,
+                    null,
+                    event.getNextAttemptAt()
+                ));
+            }
+        }
+    }
+
+    /**
+     * Insert new waiting events with one JDBC batch per chunk and collect the generated ids
+     */
+    private void insertAll(List<RecordOutboxEventCommand> commands, Instant now,
+                           Map<RecordOutboxEventCommand, OutboxEvent> recorded) {
+        for (int start = 0; start < commands.size(); start += CHUNK_SIZE) {
+            List<RecordOutboxEventCommand> chunk = commands.subList(start, Math.min(start + CHUNK_SIZE, commands.size()));
+
+            SqlParameterSource[] batch = new SqlParameterSource[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                RecordOutboxEventCommand command = chunk.get(i);
+                batch[i] = new MapSqlParameterSource()
+                    .addValue("targetType", command.getTargetType().name())
+                    .addValue("targetId", command.getTargetId())
+                    .addValue("updateType", command.getUpdateType().name())
+                    .addValue("updatedAt", Timestamp.from(now));
+            }
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, keyHolder, new String[]{"id"});
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size(); i++) {
+                RecordOutboxEventCommand command = chunk.get(i);
+                Long id = i < keys.size() ? ((Number) keys.get(i).values().iterator().next()).longValue() : null;
+                recorded.put(command, new OutboxEvent(
+                    id,
+                    command.getTargetType(),
+                    command.getTargetId(),
+                    command.getUpdateType(),
+                    EventStatus.WAIT,
+                    0,
+                    null,
+                    now,
+                    null,
+                    null,
+                    null,
+                    now
+                ));
+            }
+        }
+    }
+
     private OutboxEventEntity toEntity(OutboxEvent domain) {
         return new OutboxEventEntity(
             domain.getId(),
@@ -48,7 +306,10 @@ public class OutboxEventJdbcRecorder implements OutboxEventRecorder {
             domain.getRetryCount(),
             domain.getErrorMessage(),
             domain.getUpdatedAt(),
-            domain.getProcessedAt()
+            domain.getProcessedAt(),
+            domain.getLeaseOwner(),
+            domain.getLeaseExpiresAt(),
+            domain.getNextAttemptAt()
         );
     }
 
@@ -57,12 +318,15 @@ public class OutboxEventJdbcRecorder implements OutboxEventRecorder {
             entity.getId(),
             TargetType.valueOf(entity.getTargetType()),
             entity.getTargetId(),
-            dev.breakin.outbox.model.UpdateType.valueOf(entity.getUpdateType()),
-            dev.breakin.outbox.model.EventStatus.valueOf(entity.getStatus()),
+            UpdateType.valueOf(entity.getUpdateType()),
+            EventStatus.valueOf(entity.getStatus()),
             entity.getRetryCount(),
             entity.getErrorMessage(),
             entity.getUpdatedAt(),
-            entity.getProcessedAt()
+            entity.getProcessedAt(),
+            entity.getLeaseOwner(),
+            entity.getLeaseExpiresAt(),
+            entity.getNextAttemptAt()
         );
     }
 }
@@ -0,0 +1,52 @@
+package dev.breakin.outbox.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy for failed outbox events
+ *
+ * The delay grows exponentially with the number of failed attempts, capped at maxDelay,
+ * and is spread by +/- jitter so events that failed together are not retried together.
+ * After maxAttempts failures the event is moved to DEAD_LETTER and is no longer retried.
+ */
+@Value
+@Builder
+public class BackoffPolicy {
+    Duration initialDelay;      // delay after the first failure
+    Duration maxDelay;          // upper bound of the delay (before jitter)
+    double multiplier;          // growth factor per failed attempt
+    double jitter;              // 0.0 - 1.0, fraction of the delay randomly added or subtracted
+    int maxAttempts;            // failures before the event is dead-lettered
+
+    public static BackoffPolicy defaults() {
+        return BackoffPolicy.builder()
+            .initialDelay(Duration.ofSeconds(5))
+            .maxDelay(Duration.ofMinutes(10))
+            .multiplier(2.0)
+            .jitter(0.2)
+            .maxAttempts(8)
+            .build();
+    }
+
+    /**
+     * Whether an event that has failed the given number of times should be dead-lettered
+     */
+    public boolean isExhausted(int failedAttempts) {
+        return failedAttempts >= maxAttempts;
+    }
+
+    /**
+     * When to retry an event that has failed the given number of times
+     */
+    public Instant nextAttemptAt(int failedAttempts, Instant now) {
+        double exponential = initialDelay.toMillis() * Math.pow(multiplier, Math.max(0, failedAttempts - 1));
+        double delay = Math.min(exponential, maxDelay.toMillis());
+        double spread = delay * jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return now.plusMillis(Math.max(0L, Math.round(delay + spread)));
+    }
+}
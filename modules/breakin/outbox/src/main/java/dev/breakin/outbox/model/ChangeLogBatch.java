@@ -0,0 +1,23 @@
+package dev.breakin.outbox.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Events read from the change log by one consumer
+ *
+ * nextOffset is the id of the last event scanned, including events filtered out by the command,
+ * and is committed once the events have been handled.
+ */
+@Value
+public class ChangeLogBatch {
+    String consumer;
+    List<OutboxEvent> events;
+    long offset;                // offset the batch was read from
+    long nextOffset;            // offset to commit after handling the events
+
+    public boolean hasProgress() {
+        return nextOffset > offset;
+    }
+}
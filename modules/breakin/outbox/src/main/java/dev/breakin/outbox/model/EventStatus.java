@@ -7,5 +7,6 @@ public enum EventStatus {
     WAIT,
     PROCESSING,
     COMPLETED,
-    FAILED
+    FAILED,         // retried once next_attempt_at is due
+    DEAD_LETTER     // failed too many times, no longer retried
 }
@@ -21,11 +21,15 @@ public class OutboxEvent {
     String errorMessage;
     Instant updatedAt;
     Instant processedAt;
+    String leaseOwner;          // claim token of the worker holding the event (PROCESSING only)
+    Instant leaseExpiresAt;     // after this instant the event can be reclaimed by another worker
+    Instant nextAttemptAt;      // the event is not picked up before this instant
 
     /**
      * Create a new pending event
      */
     public static OutboxEvent pending(TargetType targetType, Long targetId, UpdateType updateType) {
+        Instant now = Instant.now();
         return new OutboxEvent(
             null,
             targetType,
@@ -34,8 +38,11 @@ public class OutboxEvent {
             EventStatus.WAIT,
             0,
             null,
-            Instant.now(),
-            null
+            now,
+            null,
+            null,
+            null,
+            now
         );
     }
 
@@ -52,7 +59,10 @@ public class OutboxEvent {
             retryCount,
             errorMessage,
             updatedAt,
-            Instant.now()
+            Instant.now(),
+            leaseOwner,
+            leaseExpiresAt,
+            nextAttemptAt
         );
     }
 
@@ -69,24 +79,42 @@ public class OutboxEvent {
             retryCount,
             errorMessage,
             updatedAt,
-            Instant.now()
+            Instant.now(),
+            leaseOwner,
+            leaseExpiresAt,
+            nextAttemptAt
         );
     }
 
     /**
-     * Mark event as failed with error message
+     * Mark event as failed with error message, using the default backoff policy
      */
     public OutboxEvent markAsFailed(String errorMessage) {
+        return markAsFailed(errorMessage, BackoffPolicy.defaults());
+    }
+
+    /**
+     * Mark event as failed with error message
+     *
+     * The event is retried after the backoff delay, or dead-lettered once the policy is exhausted.
+     */
+    public OutboxEvent markAsFailed(String errorMessage, BackoffPolicy backoffPolicy) {
+        Instant now = Instant.now();
+        int failedAttempts = retryCount + 1;
+        boolean exhausted = backoffPolicy.isExhausted(failedAttempts);
         return new OutboxEvent(
             id,
             targetType,
             targetId,
             updateType,
-            EventStatus.FAILED,
-            retryCount + 1,
+            exhausted ? EventStatus.DEAD_LETTER : EventStatus.FAILED,
+            failedAttempts,
             errorMessage,
             updatedAt,
-            Instant.now()
+            now,
+            leaseOwner,
+            leaseExpiresAt,
+            exhausted ? nextAttemptAt : backoffPolicy.nextAttemptAt(failedAttempts, now)
         );
     }
 }
@@ -0,0 +1,16 @@
+package dev.breakin.outbox.model;
+
+/**
+ * How outbox events are consumed
+ */
+public enum OutboxMode {
+    /**
+     * Single consumer claims events and updates their status; repeated waiting events are coalesced
+     */
+    STATUS,
+
+    /**
+     * Append-only change log; every consumer reads by id range and tracks its own offset
+     */
+    CHANGE_LOG
+}
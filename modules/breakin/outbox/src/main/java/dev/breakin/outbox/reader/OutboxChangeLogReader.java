@@ -0,0 +1,57 @@
+package dev.breakin.outbox.reader;
+
+import dev.breakin.outbox.command.ReadChangeLogCommand;
+import dev.breakin.outbox.model.ChangeLogBatch;
+import dev.breakin.outbox.model.OutboxEvent;
+
+/**
+ * Interface for reading outbox events as an append-only change log
+ *
+ * Each consumer reads events in id order from its own offset and commits the offset when done,
+ * so any number of consumers can follow the same events without updating them.
+ */
+public interface OutboxChangeLogReader {
+
+    /**
+     * Read the next events after the consumer's committed offset
+     *
+     * Events are filtered by the command after scanning, so the batch can be empty
+     * while still making progress.
+     *
+     * @param command the consumer, batch size and filters
+     * @return the events and the offset to commit after handling them
+     */
+    ChangeLogBatch read(ReadChangeLogCommand command);
+
+    /**
+     * Commit the consumer's offset
+     *
+     * Offsets only move forward; committing an older offset has no effect.
+     *
+     * @param consumer the consumer name
+     * @param offset   the id of the last handled event
+     */
+    void commit(String consumer, long offset);
+
+    /**
+     * @return the consumer's committed offset, 0 if it has not committed yet
+     */
+    long offset(String consumer);
+
+    /**
+     * Count a failed attempt of the consumer at the event
+     *
+     * Attempts are counted per consumer and event; a failure at another event starts over at 1.
+     * Commit the offset before the event first, so the consumer is registered.
+     *
+     * @return consecutive failed attempts at the event, including this one
+     */
+    int recordFailure(String consumer, long eventId);
+
+    /**
+     * Mark an event the consumer gave up on as DEAD_LETTER, so it can be inspected and the consumer
+     * can commit past it. Dead-lettered events are kept for the DEAD_LETTER retention, not removed
+     * with the consumed change log.
+     */
+    void deadLetter(OutboxEvent event, int attempts, String errorMessage);
+}
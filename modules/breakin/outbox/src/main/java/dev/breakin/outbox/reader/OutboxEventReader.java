@@ -1,8 +1,11 @@
 package dev.breakin.outbox.reader;
 
+import dev.breakin.model.common.TargetType;
+import dev.breakin.outbox.command.ClaimPendingEventsCommand;
 import dev.breakin.outbox.command.FindPendingEventsCommand;
 import dev.breakin.outbox.model.OutboxEvent;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -18,9 +21,35 @@ public interface OutboxEventReader {
      */
     List<OutboxEvent> findPending(FindPendingEventsCommand command);
 
+    /**
+     * Claim pending events for processing
+     *
+     * Atomically moves up to limit WAIT events to PROCESSING with a lease owned by the caller,
+     * so concurrent workers on any node never receive the same event. Events whose lease
+     * has expired (the worker died) are returned to WAIT and can be claimed again.
+     *
+     * @param command the claim command with filters, owner and lease duration
+     * @return the claimed events, oldest first
+     */
+    List<OutboxEvent> claim(ClaimPendingEventsCommand command);
+
+    /**
+     * Find the targets that had an event recorded (or re-recorded) since the given time, in any status
+     *
+     * Used to catch up on changes made while a full rebuild of a target store was running.
+     *
+     * @param targetType the target type
+     * @param since      lower bound of the record time, inclusive
+     * @return distinct target ids
+     */
+    List<Long> findTargetIdsRecordedSince(TargetType targetType, Instant since);
+
     /**
      * Update event status
      *
+     * The lease is released. The update is skipped if the event was re-recorded since it was read,
+     * or if its lease now belongs to another worker.
+     *
      * @param event the event to update
      * @return the updated event
      */
@@ -29,6 +58,8 @@ public interface OutboxEventReader {
     /**
      * Update multiple events in batch
      *
+     * Applies all status updates in a single round trip, with the same rules as {@link #update(OutboxEvent)}.
+     *
      * @param events list of events to update
      */
     void updateBatch(List<OutboxEvent> events);
@@ -3,16 +3,33 @@ package dev.breakin.outbox.recorder;
 import dev.breakin.outbox.command.RecordOutboxEventCommand;
 import dev.breakin.outbox.model.OutboxEvent;
 
+import java.util.List;
+
 /**
  * Interface for recording outbox events
  */
 public interface OutboxEventRecorder {
 
     /**
-     * Record a new outbox event
+     * Record an outbox event
+     *
+     * If an event with the same target and update type is still waiting,
+     * it is reused (its updated_at is bumped) instead of inserting a new row.
+     * In CHANGE_LOG mode a new row is always appended.
      *
      * @param command the command containing event details
-     * @return the recorded event with generated ID
+     * @return the recorded or coalesced event
      */
     OutboxEvent record(RecordOutboxEventCommand command);
+
+    /**
+     * Record many outbox events at once
+     *
+     * Duplicate commands are recorded once and waiting events are coalesced as in {@link #record}.
+     * New events are written with one batched INSERT per chunk instead of one round-trip per event.
+     *
+     * @param commands the commands to record
+     * @return the recorded or coalesced events, one per distinct command in input order
+     */
+    List<OutboxEvent> recordAll(List<RecordOutboxEventCommand> commands);
 }
@@ -0,0 +1,68 @@
+package dev.breakin.outbox.signal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Receives wakeup datagrams from {@link OutboxWakeupSender} in other processes and raises the local signal
+ *
+ * Only started when a listen port is configured. The content of a datagram is ignored, so a stray
+ * datagram can at worst cause one extra poll.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxWakeupListener {
+
+    private final OutboxWakeupProperties properties;
+    private final OutboxWakeupSignal signal;
+
+    private DatagramChannel channel;
+    private Thread receiver;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (properties.getListenPort() <= 0) {
+            return;
+        }
+        channel = DatagramChannel.open();
+        channel.bind(new InetSocketAddress(properties.getListenHost(), properties.getListenPort()));
+
+        receiver = new Thread(this::receive, "outbox-wakeup-listener");
+        receiver.setDaemon(true);
+        receiver.start();
+        log.info("Listening for outbox wakeups on {}:{}", properties.getListenHost(), properties.getListenPort());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (channel != null) {
+            // unblocks receive()
+            channel.close();
+        }
+    }
+
+    private void receive() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                channel.receive(buffer);
+                signal.signal();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                log.warn("Failed to receive outbox wakeup: {}", e.getMessage());
+            }
+        }
+    }
+}
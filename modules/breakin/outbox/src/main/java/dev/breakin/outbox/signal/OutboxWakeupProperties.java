@@ -0,0 +1,45 @@
+package dev.breakin.outbox.signal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wakeup settings for outbox consumers, including consumers in other processes
+ *
+ * Cross-process wakeups are best-effort and off by default: nothing is sent until peers are configured,
+ * and a lost datagram is only noticed by the consumer's fallback poll.
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.outbox.wakeup")
+@Getter
+@Setter
+public class OutboxWakeupProperties {
+
+    /**
+     * Address the wakeup listener binds to, in the process that consumes events
+     */
+    private String listenHost = "127.0.0.1";
+
+    /**
+     * UDP port of the wakeup listener, 0 to not listen
+     */
+    private int listenPort = 0;
+
+    /**
+     * host:port of the wakeup listeners to notify after events commit, in processes that record events.
+     * Empty by default, so only local consumers are signalled.
+     */
+    private List<String> peers = new ArrayList<>();
+
+    /**
+     * How long a consumer waits for a wakeup before it polls anyway.
+     * Wakeups are datagrams and can be lost, so this bounds the latency of a lost one.
+     */
+    private Duration fallbackPollInterval = Duration.ofSeconds(3);
+}
@@ -0,0 +1,73 @@
+package dev.breakin.outbox.signal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wakes up outbox consumers in other processes with a UDP datagram
+ *
+ * Sending is fire-and-forget and never blocks the committing thread. A lost datagram only delays
+ * the events until the consumer's fallback poll, so failures are logged and otherwise ignored.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxWakeupSender {
+
+    static final byte[] PAYLOAD = {1};
+
+    private final OutboxWakeupProperties properties;
+
+    private final List<InetSocketAddress> peers = new ArrayList<>();
+    private DatagramChannel channel;
+
+    @PostConstruct
+    public void open() throws IOException {
+        for (String peer : properties.getPeers()) {
+            int separator = peer.lastIndexOf(':');
+            if (separator <= 0) {
+                log.warn("Ignoring outbox wakeup peer without port: {}", peer);
+                continue;
+            }
+            peers.add(new InetSocketAddress(peer.substring(0, separator), Integer.parseInt(peer.substring(separator + 1))));
+        }
+        if (!peers.isEmpty()) {
+            channel = DatagramChannel.open();
+            channel.configureBlocking(false);
+            log.info("Outbox wakeups are sent to {}", peers);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Notify every configured peer, no-op if there is none
+     */
+    public void send() {
+        if (channel == null) {
+            return;
+        }
+        for (InetSocketAddress peer : peers) {
+            try {
+                channel.send(ByteBuffer.wrap(PAYLOAD), peer);
+            } catch (IOException | RuntimeException e) {
+                log.debug("Failed to send outbox wakeup to {}: {}", peer, e.getMessage());
+            }
+        }
+    }
+}
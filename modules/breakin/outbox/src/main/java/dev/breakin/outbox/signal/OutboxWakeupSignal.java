@@ -0,0 +1,97 @@
+package dev.breakin.outbox.signal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process wakeup signal for outbox consumers
+ *
+ * The recorder signals after the transaction that wrote events has committed, so a consumer
+ * waiting in {@link #await(Duration)} sees the events right away instead of on its next poll.
+ * Signals raised while nobody is waiting are remembered until the next await.
+ * Consumers in other processes are woken up through {@link OutboxWakeupSender}; since those wakeups
+ * can be lost, consumers still need a fallback poll.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWakeupSignal {
+
+    private final OutboxWakeupSender sender;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition recorded = lock.newCondition();
+    private boolean pending;
+
+    /**
+     * Signal local and remote consumers once the current transaction commits, or right away if there is none.
+     * Registered at most once per transaction; nothing is signaled on rollback.
+     */
+    public void signalAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            signalCommitted();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                signalCommitted();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWakeupSignal.this);
+            }
+        });
+    }
+
+    private void signalCommitted() {
+        signal();
+        sender.send();
+    }
+
+    /**
+     * Wake up the waiting consumer in this process
+     */
+    public void signal() {
+        lock.lock();
+        try {
+            pending = true;
+            recorded.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until events are signaled or the timeout elapses
+     *
+     * @return true if woken by a signal, false on timeout
+     */
+    public boolean await(Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (!pending) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = recorded.awaitNanos(remaining);
+            }
+            pending = false;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.breakin.jdbc.common;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 일괄 증가 유틸리티
+ *
+ * 여러 행의 조회수를 CASE 식을 사용한 하나의 UPDATE 문으로 증가시킵니다.
+ * UPDATE {table} SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+ * 대상이 CHUNK_SIZE를 넘으면 CHUNK_SIZE 단위로 나누어 실행합니다.
+ * 청크는 각각 별도의 UPDATE 문이므로, 호출자는 모든 청크가 하나의 트랜잭션에서 실행되도록 해야 합니다.
+ */
+public final class ViewCountBulkUpdater {
+
+    static final int CHUNK_SIZE = 500;
+
+    private ViewCountBulkUpdater() {
+    }
+
+    /**
+     * @param jdbc       JDBC 템플릿
+     * @param table      대상 테이블명 (jobs, tech_blogs, community_posts)
+     * @param increments Key: ID, Value: 증가시킬 조회수
+     * @return 갱신된 행 수
+     */
+    public static int increase(NamedParameterJdbcOperations jdbc, String table, Map<Long, Long> increments) {
+        if (increments == null || increments.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(increments.size());
+        for (Map.Entry<Long, Long> entry : increments.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null && entry.getValue() > 0) {
+                entries.add(entry);
+            }
+        }
+
+        int updated = 0;
+        for (int start = 0; start < entries.size(); start += CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(start, Math.min(start + CHUNK_SIZE, entries.size()));
+            updated += updateChunk(jdbc, table, chunk);
+        }
+        return updated;
+    }
+
+    private static int updateChunk(NamedParameterJdbcOperations jdbc, String table, List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table)
+                .append(" SET view_count = view_count + CASE id");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<Long> ids = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Map.Entry<Long, Long> entry = chunk.get(i);
+            sql.append(" WHEN :id").append(i).append(" THEN :inc").append(i);
+            params.addValue("id" + i, entry.getKey());
+            params.addValue("inc" + i, entry.getValue());
+            ids.add(entry.getKey());
+        }
+
+        sql.append(" ELSE 0 END WHERE id IN (:ids)");
+        params.addValue("ids", ids);
+
+        return jdbc.update(sql.toString(), params);
+    }
+}
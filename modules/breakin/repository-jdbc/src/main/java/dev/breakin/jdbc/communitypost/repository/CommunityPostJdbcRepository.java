@@ -5,10 +5,14 @@ import dev.breakin.model.communitypost.CommunityPostIdentity;
 import dev.breakin.model.communitypost.CommunityPostRead;
 import dev.breakin.model.common.Popularity;
 import dev.breakin.infra.communitypost.repository.CommunityPostRepository;
+import dev.breakin.jdbc.common.ViewCountBulkUpdater;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -25,6 +29,7 @@ import java.util.stream.StreamSupport;
 public class CommunityPostJdbcRepository implements CommunityPostRepository {
 
     private final CommunityPostEntityRepository entityRepository;
+    private final NamedParameterJdbcOperations jdbcOperations;
 
     @Override
     public Optional<CommunityPostRead> findById(CommunityPostIdentity identity) {
@@ -81,6 +86,16 @@ public class CommunityPostJdbcRepository implements CommunityPostRepository {
     public void increaseViewCount(CommunityPostIdentity identity, long increment) {
         entityRepository.increaseViewCount(identity.getCommunityPostId(), increment);
     }
+
+    /**
+     * 청크가 여러 개여도 하나의 트랜잭션으로 실행하여, 실패 시 이미 실행된 청크까지 함께 롤백
+     * (호출자가 실패한 증가분을 다시 누적하므로 일부만 커밋되면 중복 집계됨)
+     */
+    @Override
+    @Transactional
+    public void increaseViewCounts(Map<Long, Long> increments) {
+        ViewCountBulkUpdater.increase(jdbcOperations, "community_posts", increments);
+    }
     /**
      * DTO → CommunityPostRead 변환 (LEFT JOIN 결과 with nickname)
      */
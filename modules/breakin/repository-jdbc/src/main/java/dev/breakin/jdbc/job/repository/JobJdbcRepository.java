@@ -1,16 +1,34 @@
 package dev.breakin.jdbc.job.repository;
 
+import dev.breakin.infra.job.repository.JobRangeChecksum;
 import dev.breakin.infra.job.repository.JobRepository;
 import dev.breakin.jdbc.job.repository.collection.*;
 import dev.breakin.jdbc.job.repository.embedded.*;
-import dev.breakin.model.job.Job;
-import dev.breakin.model.job.JobIdentity;
+import dev.breakin.model.common.Company;
+import dev.breakin.model.common.Popularity;
+import dev.breakin.model.common.TechCategory;
+import dev.breakin.model.job.*;
+import dev.breakin.jdbc.common.ViewCountBulkUpdater;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -26,6 +44,7 @@ import java.util.stream.StreamSupport;
 public class JobJdbcRepository implements JobRepository {
 
     private final JobEntityRepository entityRepository;
+    private final NamedParameterJdbcOperations jdbcOperations;
 
     @Override
     public Optional<Job> findById(JobIdentity identity) {
@@ -33,6 +52,115 @@ public class JobJdbcRepository implements JobRepository {
                 .map(this::toDomain);
     }
 
+    /**
+     * jobs를 IN 쿼리 1번, 자식 테이블 5개를 각각 IN 쿼리 1번으로 조회한 뒤 메모리에서 조립
+     * (Spring Data JDBC의 findAllById는 aggregate마다 자식 테이블을 따로 조회함)
+     */
+    @Override
+    public List<Job> findAllByIds(Collection<JobIdentity> identities) {
+        List<Long> ids = identities.stream()
+                .map(JobIdentity::getJobId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, JobEntity> entities = loadAggregates("SELECT * FROM jobs WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+
+        // 요청한 순서대로 반환 (존재하지 않는 ID는 제외)
+        return ids.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * id 기준 keyset 페이지네이션 (OFFSET 없이 PK 인덱스로 바로 다음 페이지 시작 위치를 찾음)
+     */
+    @Override
+    public List<Job> findAllAfter(Long afterId, int limit) {
+        Map<Long, JobEntity> entities = loadAggregates("SELECT * FROM jobs WHERE id > :afterId ORDER BY id ASC LIMIT :limit",
+                new MapSqlParameterSource()
+                        .addValue("afterId", afterId != null ? afterId : 0L)
+                        .addValue("limit", limit));
+
+        return entities.values().stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 인기도 컬럼만 IN 쿼리 1번으로 조회 (자식 테이블과 description 등 큰 컬럼은 읽지 않음)
+     */
+    @Override
+    public Map<Long, Popularity> findPopularitiesByIds(Collection<JobIdentity> identities) {
+        List<Long> ids = identities.stream()
+                .map(JobIdentity::getJobId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Popularity> popularities = new LinkedHashMap<>();
+        jdbcOperations.query(
+                "SELECT id, view_count, comment_count, like_count, dislike_count FROM jobs WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    popularities.put(rs.getLong("id"), new PopularityEmbeddable(
+                            rs.getObject("view_count", Long.class),
+                            rs.getObject("comment_count", Long.class),
+                            rs.getObject("like_count", Long.class),
+                            rs.getObject("dislike_count", Long.class)
+                    ).toDomain());
+                });
+        return popularities;
+    }
+
+    /**
+     * 구간의 (id, updated_at)만 id 순으로 스트리밍하여 구간 시작 ID별로 합산 (메모리는 구간 수에 비례)
+     * updated_at은 ES와 같은 기준으로 비교하기 위해 epoch 초로 내림하며,
+     * DB 방언에 따라 다른 epoch 변환 함수(UNIX_TIMESTAMP 등)를 쓰지 않도록 Java에서 계산
+     */
+    @Override
+    public Map<Long, JobRangeChecksum> findRangeChecksums(long fromId, long toId, int rangeSize) {
+        // 구간 시작 ID -> [개수, ID 합, updated_at 합]
+        Map<Long, long[]> sums = new LinkedHashMap<>();
+        jdbcOperations.query("""
+                        SELECT id, updated_at
+                        FROM jobs
+                        WHERE id >= :fromId AND id < :toId
+                        AND is_deleted = FALSE
+                        ORDER BY id ASC
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("fromId", fromId)
+                        .addValue("toId", toId),
+                rs -> {
+                    long id = rs.getLong("id");
+                    Timestamp updatedAt = rs.getTimestamp("updated_at");
+                    long[] sum = sums.computeIfAbsent(Math.floorDiv(id, rangeSize) * rangeSize, k -> new long[3]);
+                    sum[0]++;
+                    sum[1] += id;
+                    sum[2] += updatedAt != null ? updatedAt.toInstant().getEpochSecond() : 0L;
+                });
+
+        Map<Long, JobRangeChecksum> checksums = new LinkedHashMap<>();
+        sums.forEach((rangeStart, sum) -> checksums.put(rangeStart, new JobRangeChecksum(sum[0], sum[1], sum[2])));
+        return checksums;
+    }
+
+    @Override
+    public long findMaxId() {
+        Long maxId = jdbcOperations.queryForObject("SELECT MAX(id) FROM jobs", new MapSqlParameterSource(), Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
     @Override
     public Job save(Job job) {
         JobEntity entity = toEntity(job);
@@ -50,6 +178,11 @@ public class JobJdbcRepository implements JobRepository {
         return entityRepository.existsById(identity.getJobId());
     }
 
+    @Override
+    public long count() {
+        return entityRepository.count();
+    }
+
     @Override
     public List<Job> findAll() {
         return StreamSupport.stream(entityRepository.findAll().spliterator(), false)
@@ -75,6 +208,147 @@ public class JobJdbcRepository implements JobRepository {
         entityRepository.increaseViewCount(identity.getJobId(), increment);
     }
 
+    /**
+     * 청크가 여러 개여도 하나의 트랜잭션으로 실행하여, 실패 시 이미 실행된 청크까지 함께 롤백
+     * (호출자가 실패한 증가분을 다시 누적하므로 일부만 커밋되면 중복 집계됨)
+     */
+    @Override
+    @Transactional
+    public void increaseViewCounts(Map<Long, Long> increments) {
+        ViewCountBulkUpdater.increase(jdbcOperations, "jobs", increments);
+    }
+
+    /**
+     * jobs 행을 조회한 뒤 자식 테이블 5개를 각각 IN 쿼리 1번으로 채워서 반환 (조회 순서 유지)
+     */
+    private Map<Long, JobEntity> loadAggregates(String jobsSql, MapSqlParameterSource jobsParams) {
+        Map<Long, JobEntity> entities = new LinkedHashMap<>();
+        jdbcOperations.query(jobsSql, jobsParams,
+                rs -> {
+                    JobEntity entity = mapJobRow(rs);
+                    entities.put(entity.getId(), entity);
+                });
+        if (entities.isEmpty()) {
+            return entities;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", new ArrayList<>(entities.keySet()));
+        loadChildren("SELECT job_id, category_name AS value FROM job_tech_categories WHERE job_id IN (:ids)", params, entities,
+                (entity, value) -> entity.getTechCategories().add(new JobTechCategory(TechCategory.valueOf(value))));
+        loadChildren("SELECT job_id, location_name AS value FROM job_locations WHERE job_id IN (:ids)", params, entities,
+                (entity, value) -> entity.getLocations().add(new JobLocation(value)));
+        loadChildren("SELECT job_id, responsibility AS value FROM job_responsibilities WHERE job_id IN (:ids)", params, entities,
+                (entity, value) -> entity.getResponsibilities().add(new JobResponsibility(value)));
+        loadChildren("SELECT job_id, qualification AS value FROM job_qualifications WHERE job_id IN (:ids)", params, entities,
+                (entity, value) -> entity.getQualifications().add(new JobQualification(value)));
+        loadChildren("SELECT job_id, preferred_qualification AS value FROM job_preferred_qualifications WHERE job_id IN (:ids)", params, entities,
+                (entity, value) -> entity.getPreferredQualifications().add(new JobPreferredQualification(value)));
+        return entities;
+    }
+
+    private void loadChildren(String sql, MapSqlParameterSource params, Map<Long, JobEntity> entities,
+                              BiConsumer<JobEntity, String> adder) {
+        jdbcOperations.query(sql, params, rs -> {
+            JobEntity entity = entities.get(rs.getLong("job_id"));
+            if (entity != null) {
+                adder.accept(entity, rs.getString("value"));
+            }
+        });
+    }
+
+    /**
+     * jobs 행을 JobEntity로 변환 (자식 컬렉션은 빈 Set으로 생성하여 이후에 채움)
+     * Spring Data JDBC의 매핑 규칙과 동일하게 enum은 이름으로, 모든 컬럼이 null인 embedded는 null로 변환
+     */
+    private JobEntity mapJobRow(ResultSet rs) throws SQLException {
+        // @Embedded.Nullable과 같이 컬럼이 모두 NULL인 embedded는 null로 (findById와 같은 aggregate가 되도록)
+        Integer minYears = rs.getObject("min_years", Integer.class);
+        Integer maxYears = rs.getObject("max_years", Integer.class);
+        Boolean experienceRequired = rs.getObject("experience_required", Boolean.class);
+        CareerLevel careerLevel = enumOf(CareerLevel.class, rs.getString("career_level"));
+        ExperienceRequirementEmbeddable experience = allNull(minYears, maxYears, experienceRequired, careerLevel)
+                ? null
+                : new ExperienceRequirementEmbeddable(minYears, maxYears, experienceRequired, careerLevel);
+
+        Boolean hasAssignment = rs.getObject("has_assignment", Boolean.class);
+        Boolean hasCodingTest = rs.getObject("has_coding_test", Boolean.class);
+        Boolean hasLiveCoding = rs.getObject("has_live_coding", Boolean.class);
+        Integer interviewCount = rs.getObject("interview_count", Integer.class);
+        Integer interviewDays = rs.getObject("interview_days", Integer.class);
+        InterviewProcessEmbeddable interviewProcess =
+                allNull(hasAssignment, hasCodingTest, hasLiveCoding, interviewCount, interviewDays)
+                        ? null
+                        : new InterviewProcessEmbeddable(hasAssignment, hasCodingTest, hasLiveCoding,
+                                interviewCount, interviewDays);
+
+        BigDecimal minBasePay = rs.getObject("min_base_pay", BigDecimal.class);
+        BigDecimal maxBasePay = rs.getObject("max_base_pay", BigDecimal.class);
+        String currency = rs.getString("currency");
+        CompensationUnit unit = enumOf(CompensationUnit.class, rs.getString("unit"));
+        Boolean hasStockOption = rs.getObject("has_stock_option", Boolean.class);
+        String salaryNote = rs.getString("salary_note");
+        JobCompensationEmbeddable compensation =
+                allNull(minBasePay, maxBasePay, currency, unit, hasStockOption, salaryNote)
+                        ? null
+                        : new JobCompensationEmbeddable(minBasePay, maxBasePay, currency, unit, hasStockOption,
+                                salaryNote);
+
+        Long viewCount = rs.getObject("view_count", Long.class);
+        Long commentCount = rs.getObject("comment_count", Long.class);
+        Long likeCount = rs.getObject("like_count", Long.class);
+        Long dislikeCount = rs.getObject("dislike_count", Long.class);
+        PopularityEmbeddable popularity = allNull(viewCount, commentCount, likeCount, dislikeCount)
+                ? null
+                : new PopularityEmbeddable(viewCount, commentCount, likeCount, dislikeCount);
+
+        return new JobEntity(
+                rs.getLong("id"),
+                rs.getString("url"),
+                enumOf(Company.class, rs.getString("company")),
+                rs.getString("title"),
+                rs.getString("organization"),
+                rs.getString("one_line_summary"),
+                experience,
+                enumOf(EmploymentType.class, rs.getString("employment_type")),
+                enumOf(PositionCategory.class, rs.getString("position_category")),
+                enumOf(RemotePolicy.class, rs.getString("remote_policy")),
+                new HashSet<>(),
+                toInstant(rs.getTimestamp("started_at")),
+                toInstant(rs.getTimestamp("ended_at")),
+                rs.getObject("is_open_ended", Boolean.class),
+                rs.getObject("is_closed", Boolean.class),
+                new HashSet<>(),
+                rs.getString("position_introduction"),
+                rs.getString("full_description"),
+                new HashSet<>(),
+                new HashSet<>(),
+                new HashSet<>(),
+                interviewProcess,
+                compensation,
+                popularity,
+                rs.getObject("is_deleted", Boolean.class),
+                toInstant(rs.getTimestamp("created_at")),
+                toInstant(rs.getTimestamp("updated_at"))
+        );
+    }
+
+    private static boolean allNull(Object... columns) {
+        for (Object column : columns) {
+            if (column != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type, String name) {
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
     /**
      * Entity ↔ Domain 변환 메서드
      * Spring Data JDBC가 자동으로 컬렉션과 embedded 객체를 처리
@@ -3,11 +3,15 @@ package dev.breakin.jdbc.techblog.repository;
 import dev.breakin.model.techblog.TechBlog;
 import dev.breakin.model.techblog.TechBlogIdentity;
 import dev.breakin.infra.techblog.repository.TechBlogRepository;
+import dev.breakin.jdbc.common.ViewCountBulkUpdater;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -24,6 +28,7 @@ import java.util.stream.StreamSupport;
 public class TechBlogJdbcRepository implements TechBlogRepository {
 
     private final TechBlogEntityRepository entityRepository;
+    private final NamedParameterJdbcOperations jdbcOperations;
 
     @Override
     public Optional<TechBlog> findById(TechBlogIdentity identity) {
@@ -73,6 +78,16 @@ public class TechBlogJdbcRepository implements TechBlogRepository {
         entityRepository.increaseViewCount(identity.getTechBlogId(), increment);
     }
 
+    /**
+     * 청크가 여러 개여도 하나의 트랜잭션으로 실행하여, 실패 시 이미 실행된 청크까지 함께 롤백
+     * (호출자가 실패한 증가분을 다시 누적하므로 일부만 커밋되면 중복 집계됨)
+     */
+    @Override
+    @Transactional
+    public void increaseViewCounts(Map<Long, Long> increments) {
+        ViewCountBulkUpdater.increase(jdbcOperations, "tech_blogs", increments);
+    }
+
     /**
      * Entity ↔ Domain 변환 메서드
      * Spring Data JDBC가 자동으로 컬렉션과 embedded 객체를 처리
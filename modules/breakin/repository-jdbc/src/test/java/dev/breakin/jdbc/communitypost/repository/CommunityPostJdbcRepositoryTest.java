@@ -14,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -251,4 +252,23 @@ class CommunityPostJdbcRepositoryTest {
         Optional<CommunityPostRead> found = communityPostRepository.findById(identity);
         assertThat(found).isPresent();
     }
+
+    @Test
+    void increaseViewCounts_multipleCommunityPosts_incrementsEachInOneStatement() {
+        // given
+        CommunityPost saved1 = communityPostRepository.save(sampleCommunityPost);
+        CommunityPost saved2 = communityPostRepository.save(sampleCommunityPost);
+
+        // when
+        communityPostRepository.increaseViewCounts(Map.of(
+                saved1.getCommunityPostId(), 3L,
+                saved2.getCommunityPostId(), 5L
+        ));
+
+        // then
+        assertThat(communityPostRepository.findById(new CommunityPostIdentity(saved1.getCommunityPostId())))
+                .hasValueSatisfying(post -> assertThat(post.getPopularity().getViewCount()).isEqualTo(3L));
+        assertThat(communityPostRepository.findById(new CommunityPostIdentity(saved2.getCommunityPostId())))
+                .hasValueSatisfying(post -> assertThat(post.getPopularity().getViewCount()).isEqualTo(5L));
+    }
 }
@@ -1,5 +1,6 @@
 package dev.breakin.jdbc.job.repository;
 
+import dev.breakin.infra.job.repository.JobRangeChecksum;
 import dev.breakin.model.common.Company;
 import dev.breakin.model.common.Popularity;
 import dev.breakin.model.common.TechCategory;
@@ -13,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -249,4 +251,234 @@ class JobJdbcRepositoryTest {
         Optional<Job> found = jobRepository.findById(identity);
         assertThat(found).isPresent();
     }
+
+    @Test
+    void increaseViewCounts_multipleJobs_incrementsEachInOneStatement() {
+        // given
+        Job saved1 = jobRepository.save(sampleJob);
+        Job saved2 = jobRepository.save(new Job(
+                null, "https://example.com/job2", Company.GOOGLE, "Frontend Developer",
+                "Design Team", "Summary",
+                ExperienceRequirement.of(1, 3, false, CareerLevel.ENTRY),
+                EmploymentType.CONTRACT, PositionCategory.FRONTEND,
+                RemotePolicy.REMOTE, List.of(TechCategory.JAVA), Instant.now(), null, true, false,
+                List.of("Busan"),
+                JobDescription.of("Intro", List.of(), List.of(), List.of(), null),
+                InterviewProcess.of(false, false, false, 2, 20),
+                JobCompensation.empty(), Popularity.empty(), false, Instant.now(), Instant.now()
+        ));
+
+        // when - 존재하지 않는 ID는 무시됨
+        jobRepository.increaseViewCounts(Map.of(
+                saved1.getJobId(), 3L,
+                saved2.getJobId(), 5L,
+                nonExistingIdentity.getJobId(), 7L
+        ));
+
+        // then
+        assertThat(jobRepository.findById(new JobIdentity(saved1.getJobId())))
+                .hasValueSatisfying(job -> assertThat(job.getPopularity().getViewCount()).isEqualTo(3L));
+        assertThat(jobRepository.findById(new JobIdentity(saved2.getJobId())))
+                .hasValueSatisfying(job -> assertThat(job.getPopularity().getViewCount()).isEqualTo(5L));
+    }
+
+    @Test
+    void findAllByIds_existingIds_returnsAggregatesInRequestedOrder() {
+        // given
+        Job saved1 = jobRepository.save(sampleJob);
+        Job saved2 = jobRepository.save(new Job(
+                null, "https://example.com/job2", Company.GOOGLE, "Frontend Developer",
+                "Design Team", "Summary",
+                ExperienceRequirement.of(1, 3, false, CareerLevel.ENTRY),
+                EmploymentType.CONTRACT, PositionCategory.FRONTEND,
+                RemotePolicy.REMOTE, List.of(TechCategory.JAVA), Instant.now(), null, true, false,
+                List.of("Busan"),
+                JobDescription.of("Intro", List.of(), List.of(), List.of(), null),
+                InterviewProcess.of(false, false, false, 2, 20),
+                JobCompensation.empty(), Popularity.empty(), false, Instant.now(), Instant.now()
+        ));
+
+        // when - 존재하지 않는 ID는 제외됨
+        List<Job> found = jobRepository.findAllByIds(List.of(
+                new JobIdentity(saved2.getJobId()),
+                nonExistingIdentity,
+                new JobIdentity(saved1.getJobId())
+        ));
+
+        // then - findById와 같은 aggregate로 조립됨
+        assertThat(found).extracting(Job::getJobId)
+                .containsExactly(saved2.getJobId(), saved1.getJobId());
+
+        Job expected = jobRepository.findById(new JobIdentity(saved1.getJobId())).orElseThrow();
+        Job loaded = found.get(1);
+        assertThat(loaded.getCompany()).isEqualTo(expected.getCompany());
+        assertThat(loaded.getExperience()).isEqualTo(expected.getExperience());
+        assertThat(loaded.getInterviewProcess()).isEqualTo(expected.getInterviewProcess());
+        assertThat(loaded.getCompensation()).isEqualTo(expected.getCompensation());
+        assertThat(loaded.getPopularity()).isEqualTo(expected.getPopularity());
+        assertThat(loaded.getLocations()).containsExactlyInAnyOrderElementsOf(expected.getLocations());
+        assertThat(loaded.getTechCategories()).containsExactlyInAnyOrderElementsOf(expected.getTechCategories());
+        assertThat(loaded.getDescription().getResponsibilities())
+                .containsExactlyInAnyOrderElementsOf(expected.getDescription().getResponsibilities());
+        assertThat(loaded.getDescription().getQualifications())
+                .containsExactlyInAnyOrderElementsOf(expected.getDescription().getQualifications());
+        assertThat(loaded.getDescription().getPreferredQualifications())
+                .containsExactlyInAnyOrderElementsOf(expected.getDescription().getPreferredQualifications());
+        assertThat(loaded.getDescription().getFullDescription()).isEqualTo(expected.getDescription().getFullDescription());
+    }
+
+    @Test
+    void findAllByIds_nullableEmbeddeds_matchesFindById() {
+        // given - experience/interviewProcess/compensation 컬럼이 모두 NULL인 Job
+        Job withValues = jobRepository.save(sampleJob);
+        Job withNulls = jobRepository.save(new Job(
+                null, "https://example.com/job-nulls", Company.GOOGLE, "Data Engineer",
+                "Data Team", "Summary",
+                null,
+                EmploymentType.FULL_TIME, PositionCategory.BACKEND,
+                RemotePolicy.ONSITE, List.of(TechCategory.JAVA), Instant.now(), null, true, false,
+                List.of("Seoul"),
+                JobDescription.of("Intro", List.of(), List.of(), List.of(), null),
+                null,
+                null, Popularity.empty(), false, Instant.now(), Instant.now()
+        ));
+
+        // when
+        List<Job> found = jobRepository.findAllByIds(List.of(
+                new JobIdentity(withValues.getJobId()),
+                new JobIdentity(withNulls.getJobId())
+        ));
+
+        // then - 두 조회 경로가 같은 aggregate를 반환 (모두 NULL인 embedded는 null)
+        assertThat(found).hasSize(2);
+        assertThat(found.get(1).getExperience()).isNull();
+        assertThat(found.get(1).getInterviewProcess()).isNull();
+        assertThat(found.get(1).getCompensation()).isNull();
+        for (Job loaded : found) {
+            Job expected = jobRepository.findById(new JobIdentity(loaded.getJobId())).orElseThrow();
+            assertThat(loaded).usingRecursiveComparison()
+                    .ignoringCollectionOrder()
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void findAllByIds_emptyIds_returnsEmptyList() {
+        // when
+        List<Job> found = jobRepository.findAllByIds(List.of());
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void findPopularitiesByIds_existingIds_returnsPopularityById() {
+        // given
+        Job saved = jobRepository.save(sampleJob);
+        JobIdentity identity = new JobIdentity(saved.getJobId());
+        jobRepository.increaseViewCount(identity, 4);
+
+        // when - 존재하지 않는 ID는 제외됨
+        Map<Long, Popularity> found = jobRepository.findPopularitiesByIds(List.of(identity, nonExistingIdentity));
+
+        // then - findById의 인기도와 동일
+        Job expected = jobRepository.findById(identity).orElseThrow();
+        assertThat(found).containsOnlyKeys(saved.getJobId());
+        assertThat(found.get(saved.getJobId())).isEqualTo(expected.getPopularity());
+    }
+
+    @Test
+    void findPopularitiesByIds_emptyIds_returnsEmptyMap() {
+        // when
+        Map<Long, Popularity> found = jobRepository.findPopularitiesByIds(List.of());
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void findAllAfter_keysetPages_returnsAllJobsInIdOrder() {
+        // given
+        Job saved1 = jobRepository.save(sampleJob);
+        Job saved2 = jobRepository.save(new Job(
+                null, "https://example.com/job2", Company.GOOGLE, "Frontend Developer",
+                "Design Team", "Summary",
+                ExperienceRequirement.of(1, 3, false, CareerLevel.ENTRY),
+                EmploymentType.CONTRACT, PositionCategory.FRONTEND,
+                RemotePolicy.REMOTE, List.of(TechCategory.JAVA), Instant.now(), null, true, false,
+                List.of("Busan"),
+                JobDescription.of("Intro", List.of(), List.of(), List.of(), null),
+                InterviewProcess.of(false, false, false, 2, 20),
+                JobCompensation.empty(), Popularity.empty(), false, Instant.now(), Instant.now()
+        ));
+
+        // when - 페이지 크기 1로 순회
+        List<Job> firstPage = jobRepository.findAllAfter(0L, 1);
+        List<Job> secondPage = jobRepository.findAllAfter(firstPage.get(0).getJobId(), 1);
+        List<Job> lastPage = jobRepository.findAllAfter(secondPage.get(0).getJobId(), 1);
+
+        // then - 자식 컬렉션까지 조립된 aggregate가 ID 순으로 반환됨
+        assertThat(firstPage).extracting(Job::getJobId).containsExactly(saved1.getJobId());
+        assertThat(secondPage).extracting(Job::getJobId).containsExactly(saved2.getJobId());
+        assertThat(lastPage).isEmpty();
+        assertThat(firstPage.get(0).getLocations())
+                .containsExactlyInAnyOrderElementsOf(saved1.getLocations());
+        assertThat(jobRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void findRangeChecksums_rangesAndSingleIds_aggregatesPerRange() {
+        // given
+        Job saved1 = jobRepository.save(sampleJob);
+        Job saved2 = jobRepository.save(new Job(
+                null, "https://example.com/job2", Company.GOOGLE, "Frontend Developer",
+                "Design Team", "Summary",
+                ExperienceRequirement.of(1, 3, false, CareerLevel.ENTRY),
+                EmploymentType.CONTRACT, PositionCategory.FRONTEND,
+                RemotePolicy.REMOTE, List.of(TechCategory.JAVA), Instant.now(), null, true, false,
+                List.of("Busan"),
+                JobDescription.of("Intro", List.of(), List.of(), List.of(), null),
+                InterviewProcess.of(false, false, false, 2, 20),
+                JobCompensation.empty(), Popularity.empty(), false, Instant.now(), Instant.now()
+        ));
+        long maxId = jobRepository.findMaxId();
+        long updatedAt1 = jobRepository.findById(new JobIdentity(saved1.getJobId())).orElseThrow()
+                .getUpdatedAt().getEpochSecond();
+        long updatedAt2 = jobRepository.findById(new JobIdentity(saved2.getJobId())).orElseThrow()
+                .getUpdatedAt().getEpochSecond();
+
+        // when - 전체를 하나의 구간으로 / Job별로
+        Map<Long, JobRangeChecksum> whole = jobRepository.findRangeChecksums(0, maxId + 1, (int) maxId + 1);
+        Map<Long, JobRangeChecksum> perJob = jobRepository.findRangeChecksums(0, maxId + 1, 1);
+
+        // then
+        assertThat(maxId).isEqualTo(saved2.getJobId());
+        assertThat(whole).containsExactly(Map.entry(0L, new JobRangeChecksum(
+                2, saved1.getJobId() + saved2.getJobId(), updatedAt1 + updatedAt2)));
+        assertThat(perJob).containsOnlyKeys(saved1.getJobId(), saved2.getJobId());
+        assertThat(perJob.get(saved1.getJobId())).isEqualTo(new JobRangeChecksum(1, saved1.getJobId(), updatedAt1));
+    }
+
+    @Test
+    void findRangeChecksums_softDeletedJob_excluded() {
+        // given
+        Job live = jobRepository.save(sampleJob);
+        Job deleted = jobRepository.save(new Job(
+                null, "https://example.com/job-deleted", Company.GOOGLE, "Deleted Developer",
+                "Design Team", "Summary",
+                ExperienceRequirement.of(1, 3, false, CareerLevel.ENTRY),
+                EmploymentType.CONTRACT, PositionCategory.FRONTEND,
+                RemotePolicy.REMOTE, List.of(TechCategory.JAVA), Instant.now(), null, true, false,
+                List.of("Busan"),
+                JobDescription.of("Intro", List.of(), List.of(), List.of(), null),
+                InterviewProcess.of(false, false, false, 2, 20),
+                JobCompensation.empty(), Popularity.empty(), true, Instant.now(), Instant.now()
+        ));
+
+        // when
+        Map<Long, JobRangeChecksum> perJob = jobRepository.findRangeChecksums(0, deleted.getJobId() + 1, 1);
+
+        // then - soft delete된 Job은 ES에 없어야 하므로 체크섬에서 제외
+        assertThat(perJob).containsOnlyKeys(live.getJobId());
+    }
 }
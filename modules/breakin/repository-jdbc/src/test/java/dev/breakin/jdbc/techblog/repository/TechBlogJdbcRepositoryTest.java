@@ -12,6 +12,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -212,4 +213,27 @@ class TechBlogJdbcRepositoryTest {
         Optional<TechBlog> found = techBlogRepository.findById(identity);
         assertThat(found).isPresent();
     }
+
+    @Test
+    void increaseViewCounts_multipleTechBlogs_incrementsEachInOneStatement() {
+        // given
+        TechBlog saved1 = techBlogRepository.save(sampleTechBlog);
+        TechBlog saved2 = techBlogRepository.save(new TechBlog(
+                null, "https://example.com/blog2", "Company B", "Another blog",
+                "Body", null, List.of("React"), List.of("Frontend"), null,
+                Popularity.empty(), false, Instant.now(), Instant.now()
+        ));
+
+        // when
+        techBlogRepository.increaseViewCounts(Map.of(
+                saved1.getTechBlogId(), 3L,
+                saved2.getTechBlogId(), 5L
+        ));
+
+        // then
+        assertThat(techBlogRepository.findById(new TechBlogIdentity(saved1.getTechBlogId())))
+                .hasValueSatisfying(blog -> assertThat(blog.getPopularity().getViewCount()).isEqualTo(3L));
+        assertThat(techBlogRepository.findById(new TechBlogIdentity(saved2.getTechBlogId())))
+                .hasValueSatisfying(blog -> assertThat(blog.getPopularity().getViewCount()).isEqualTo(5L));
+    }
 }
@@ -1,12 +1,14 @@
 package dev.breakin.service.communitypost.impl;
 
 import dev.breakin.exception.communitypost.CommunityPostNotFoundException;
+import dev.breakin.model.common.TargetType;
 import dev.breakin.model.communitypost.CommunityPost;
 import dev.breakin.model.communitypost.CommunityPostIdentity;
 import dev.breakin.model.communitypost.CommunityPostRead;
 import dev.breakin.service.communitypost.CommunityPostReader;
 import dev.breakin.service.communitypost.view.CommunityPostViewMemory;
 import dev.breakin.infra.communitypost.repository.CommunityPostRepository;
+import dev.breakin.service.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,15 +28,23 @@ public class DefaultCommunityPostReader implements CommunityPostReader {
 
     private final CommunityPostRepository communityPostRepository;
     private final CommunityPostViewMemory communityPostViewMemory;
+    private final ViewDeduplicator viewDeduplicator;
 
     @Override
     public CommunityPostRead read(CommunityPostIdentity identity) {
+        return read(identity, null);
+    }
+
+    @Override
+    public CommunityPostRead read(CommunityPostIdentity identity, String viewerKey) {
         log.debug("Reading CommunityPost by id: {}", identity.getCommunityPostId());
         CommunityPostRead communityPostRead = communityPostRepository.findById(identity)
                 .orElseThrow(() -> new CommunityPostNotFoundException(""));
 
-        // 조회수 증가 (비동기)
-        communityPostViewMemory.countUp(communityPostRead.getCommunityPostId());
+        // 조회수 증가 (비동기) - window 안의 같은 조회자 재조회는 제외
+        if (viewDeduplicator.shouldCount(viewerKey, TargetType.COMMUNITY_POST, communityPostRead.getCommunityPostId())) {
+            communityPostViewMemory.countUp(communityPostRead.getCommunityPostId());
+        }
 
         return communityPostRead;
     }
@@ -21,6 +21,15 @@ public interface JobReader {
      */
     Job read(JobIdentity identity);
 
+    /**
+     * Job 읽기 (조회수 증가 포함, 같은 조회자의 재조회는 집계하지 않음)
+     *
+     * @param identity  Job 식별자
+     * @param viewerKey 조회자 식별 키 (세션 또는 IP, null이면 항상 집계)
+     * @return Job 엔티티
+     */
+    Job read(JobIdentity identity, String viewerKey);
+
     /**
      * ID로 Job 조회 (조회수 증가 없음)
      *
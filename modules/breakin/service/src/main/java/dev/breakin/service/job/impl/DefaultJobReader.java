@@ -1,11 +1,13 @@
 package dev.breakin.service.job.impl;
 
 import dev.breakin.exception.job.JobNotFoundException;
+import dev.breakin.model.common.TargetType;
 import dev.breakin.model.job.Job;
 import dev.breakin.model.job.JobIdentity;
 import dev.breakin.service.job.JobReader;
 import dev.breakin.service.job.view.JobViewMemory;
 import dev.breakin.infra.job.repository.JobRepository;
+import dev.breakin.service.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,16 +27,24 @@ public class DefaultJobReader implements JobReader {
 
     private final JobRepository jobRepository;
     private final JobViewMemory jobViewMemory;
+    private final ViewDeduplicator viewDeduplicator;
 
     @Override
     public Job read(JobIdentity identity) {
+        return read(identity, null);
+    }
+
+    @Override
+    public Job read(JobIdentity identity, String viewerKey) {
         log.debug("Reading Job by id: {}", identity.getJobId());
         Job job = jobRepository.findById(identity)
                 .orElseThrow(() -> new JobNotFoundException("Job with id " + identity.getJobId() + " not found"));
 
 
-        // 조회수 증가 (비동기)
-        jobViewMemory.countUp(job.getJobId());
+        // 조회수 증가 (비동기) - window 안의 같은 조회자 재조회는 제외
+        if (viewDeduplicator.shouldCount(viewerKey, TargetType.JOB, job.getJobId())) {
+            jobViewMemory.countUp(job.getJobId());
+        }
 
         return job;
     }
@@ -48,6 +48,10 @@ public class DefaultJobWriter implements JobWriter {
     public void delete(JobIdentity identity) {
         log.info("Deleting Job by id: {}", identity.getJobId());
         jobRepository.deleteById(identity);
-        log.info("Job deleted successfully: {}", identity.getJobId());
+
+        // Outbox 이벤트 기록 - ES 문서 삭제
+        outboxEventRecorder.record(RecordOutboxEventCommand.deleted(TargetType.JOB, identity.getJobId()));
+
+        log.info("Job deleted successfully with outbox event: {}", identity.getJobId());
     }
 }
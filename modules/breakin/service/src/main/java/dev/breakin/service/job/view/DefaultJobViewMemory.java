@@ -3,23 +3,28 @@ package dev.breakin.service.job.view;
 import dev.breakin.infra.job.repository.JobRepository;
 import dev.breakin.model.common.TargetType;
 import dev.breakin.model.job.Job;
-import dev.breakin.model.job.JobIdentity;
 import dev.breakin.outbox.command.RecordOutboxEventCommand;
 import dev.breakin.outbox.recorder.OutboxEventRecorder;
+import dev.breakin.service.view.StripedViewCounter;
+import dev.breakin.service.view.ViewCountJournalProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Job 조회수 메모리 관리 구현체
  * <p>
- * ConcurrentHashMap과 AtomicLong을 활용하여 동시성을 보장하며,
+ * StripedViewCounter를 활용하여 동시성을 보장하며,
  * 메모리에 조회수를 누적한 후 주기적으로 DB에 일괄 반영합니다.
+ * flush 도중 들어온 조회수는 다음 flush에 반영되어 유실되지 않습니다.
+ * 저널을 사용하면 DB에 반영되기 전의 조회수가 파일에 기록되어 재기동 시 복원되며,
+ * 종료 시에는 남은 조회수를 flush합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -32,10 +37,19 @@ public class DefaultJobViewMemory implements JobViewMemory {
      * 메모리에 누적된 조회수 저장소
      * Key: Job ID, Value: 조회수 증가량
      */
-    private final Map<Long, AtomicLong> viewCounts = new ConcurrentHashMap<>();
+    private final StripedViewCounter viewCounts = new StripedViewCounter();
+
+    private final ViewCountJournalProperties journalProperties;
 
     private final OutboxEventRecorder outboxEventRecorder;
 
+    @PostConstruct
+    public void openJournal() {
+        if (journalProperties != null && journalProperties.isEnabled()) {
+            viewCounts.attachJournal(journalProperties.open("job"));
+        }
+    }
+
     @Override
     public void countUp(Long jobId) {
         if (jobId == null) {
@@ -43,8 +57,7 @@ public class DefaultJobViewMemory implements JobViewMemory {
             return;
         }
 
-        viewCounts.computeIfAbsent(jobId, k -> new AtomicLong(0))
-                .incrementAndGet();
+        viewCounts.increment(jobId);
 
         log.debug("View count incremented for Job: {}", jobId);
     }
@@ -52,46 +65,44 @@ public class DefaultJobViewMemory implements JobViewMemory {
     @Override
     @Scheduled(fixedDelay = 10000) // 10초마다 실행
     public void flush() {
-        if (viewCounts.isEmpty()) {
-            log.debug("No view counts to flush");
-            return;
+        // 활성 버퍼를 교체하여 누적된 조회수를 추출 (교체 이후의 증가분은 다음 flush에 반영)
+        try {
+            viewCounts.drainTo(this::flushSnapshot);
+        } catch (Exception e) {
+            // 반영하지 못한 조회수는 메모리(저널)에 되돌려 다음 flush에서 재시도
+            log.error("Failed to flush Job view counts, retrying on next flush", e);
         }
+    }
 
-        log.info("Starting to flush {} Job view counts", viewCounts.size());
-        int successCount = 0;
-        int failCount = 0;
-
-        // 현재 메모리의 스냅샷을 추출하고 초기화
-        Map<Long, AtomicLong> snapshot = new ConcurrentHashMap<>(viewCounts);
-        viewCounts.clear();
-
-        for (Map.Entry<Long, AtomicLong> entry : snapshot.entrySet()) {
-            Long jobId = entry.getKey();
-            long incrementCount = entry.getValue().get();
-
-            if (incrementCount <= 0) {
-                continue;
-            }
-
-            try {
-                JobIdentity identity = new JobIdentity(jobId);
-
-                // DB 레벨에서 원자적으로 조회수 증가
-                jobRepository.increaseViewCount(identity, incrementCount);
-                successCount++;
-                log.debug("Flushed {} view counts for Job: {}", incrementCount, jobId);
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        viewCounts.closeJournal();
+    }
 
-                var command = RecordOutboxEventCommand.popularityOnly(
-                        TargetType.JOB, jobId
-                );
-                outboxEventRecorder.record(command);
+    private void flushSnapshot(Map<Long, Long> snapshot) {
+        if (snapshot.isEmpty()) {
+            log.debug("No view counts to flush");
+            return;
+        }
 
-            } catch (Exception e) {
-                log.error("Failed to flush view count for Job: {}", jobId, e);
-                failCount++;
-            }
+        log.info("Starting to flush {} Job view counts", snapshot.size());
+
+        // 하나의 트랜잭션에서 조회수 일괄 증가 (500건 단위 CASE UPDATE, 실패 시 전체 롤백)
+        jobRepository.increaseViewCounts(snapshot);
+
+        // 인기도 변경 Outbox 이벤트를 한 번에 기록 (대기 중인 이벤트는 병합됨)
+        int outboxFailCount = 0;
+        try {
+            List<RecordOutboxEventCommand> commands = snapshot.keySet().stream()
+                    .map(jobId -> RecordOutboxEventCommand.popularityOnly(TargetType.JOB, jobId))
+                    .toList();
+            outboxEventRecorder.recordAll(commands);
+        } catch (Exception e) {
+            log.error("Failed to record outbox events for {} Jobs", snapshot.size(), e);
+            outboxFailCount = snapshot.size();
         }
 
-        log.info("Flush completed - Success: {}, Failed: {}", successCount, failCount);
+        log.info("Flush completed - Flushed: {}, Outbox failed: {}", snapshot.size(), outboxFailCount);
     }
 }
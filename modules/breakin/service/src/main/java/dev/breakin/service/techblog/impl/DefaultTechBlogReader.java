@@ -1,11 +1,13 @@
 package dev.breakin.service.techblog.impl;
 
 import dev.breakin.exception.techblog.TechBlogNotFoundException;
+import dev.breakin.model.common.TargetType;
 import dev.breakin.model.techblog.TechBlog;
 import dev.breakin.model.techblog.TechBlogIdentity;
 import dev.breakin.service.techblog.TechBlogReader;
 import dev.breakin.service.techblog.view.TechBlogViewMemory;
 import dev.breakin.infra.techblog.repository.TechBlogRepository;
+import dev.breakin.service.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,15 +28,23 @@ public class DefaultTechBlogReader implements TechBlogReader {
 
     private final TechBlogRepository techBlogRepository;
     private final TechBlogViewMemory techBlogViewMemory;
+    private final ViewDeduplicator viewDeduplicator;
 
     @Override
     public TechBlog read(TechBlogIdentity identity) {
+        return read(identity, null);
+    }
+
+    @Override
+    public TechBlog read(TechBlogIdentity identity, String viewerKey) {
         log.debug("Reading TechBlog by id: {}", identity.getTechBlogId());
         TechBlog techBlog = techBlogRepository.findById(identity)
                 .orElseThrow(() -> new TechBlogNotFoundException("TechBlog not found: " + identity.getTechBlogId()));
 
-        // 조회수 증가 (비동기)
-        techBlogViewMemory.countUp(techBlog.getTechBlogId());
+        // 조회수 증가 (비동기) - window 안의 같은 조회자 재조회는 제외
+        if (viewDeduplicator.shouldCount(viewerKey, TargetType.TECH_BLOG, techBlog.getTechBlogId())) {
+            techBlogViewMemory.countUp(techBlog.getTechBlogId());
+        }
 
         return techBlog;
     }
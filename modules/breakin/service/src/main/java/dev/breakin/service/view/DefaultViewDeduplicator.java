@@ -0,0 +1,117 @@
+package dev.breakin.service.view;
+
+import dev.breakin.model.common.TargetType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+
+/**
+ * 조회수 중복 제거 구현체
+ * <p>
+ * (조회자 키, 대상 타입, 대상 ID)의 64비트 해시를 RotatingBloomFilter에 기록하여
+ * window 안의 재조회를 제외합니다. 메모리는 설정한 세대 수와 크기로 고정되며,
+ * false positive로 인해 처음 조회가 제외될 확률은 falsePositiveRate 이하입니다.
+ * <p>
+ * 집계/제외 건수는 view.dedup.views 카운터(result=counted|suppressed)로 애플리케이션의 MeterRegistry에 등록되며,
+ * MeterRegistry가 없으면 로컬 SimpleMeterRegistry에 보관됩니다.
+ */
+@Component
+@Slf4j
+public class DefaultViewDeduplicator implements ViewDeduplicator {
+
+    static final String VIEWS = "view.dedup.views";
+
+    private final ViewDedupProperties properties;
+    private final RotatingBloomFilter filter;
+
+    private final Counter counted;
+    private final Counter suppressed;
+    private long lastLoggedTotal;
+
+    @Autowired
+    public DefaultViewDeduplicator(ViewDedupProperties properties, ObjectProvider<MeterRegistry> registry) {
+        this(properties, registry.getIfAvailable(SimpleMeterRegistry::new), Clock.systemUTC());
+    }
+
+    DefaultViewDeduplicator(ViewDedupProperties properties, MeterRegistry registry, Clock clock) {
+        this.properties = properties;
+        this.counted = viewCounter(registry, "counted");
+        this.suppressed = viewCounter(registry, "suppressed");
+        this.filter = new RotatingBloomFilter(
+                properties.getGenerations(),
+                properties.getExpectedInsertions(),
+                properties.getFalsePositiveRate(),
+                properties.getWindow(),
+                clock
+        );
+        log.info("View dedup filter initialized - Window: {}, Generations: {}, Bytes per generation: {}",
+                properties.getWindow(), properties.getGenerations(), filter.bytesPerGeneration());
+    }
+
+    @Override
+    public boolean shouldCount(String viewerKey, TargetType targetType, Long targetId) {
+        if (!properties.isEnabled() || viewerKey == null || targetType == null || targetId == null) {
+            return true;
+        }
+
+        if (filter.put(hash(viewerKey, targetType, targetId))) {
+            counted.increment();
+            return true;
+        }
+
+        suppressed.increment();
+        log.debug("Duplicate view suppressed - {}: {}", targetType, targetId);
+        return false;
+    }
+
+    @Override
+    public ViewDedupMetrics metrics() {
+        return new ViewDedupMetrics((long) counted.count(), (long) suppressed.count());
+    }
+
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void logMetrics() {
+        ViewDedupMetrics metrics = metrics();
+        long total = metrics.counted() + metrics.suppressed();
+        if (total == lastLoggedTotal) {
+            return;
+        }
+        lastLoggedTotal = total;
+
+        log.info("View dedup - Counted: {}, Suppressed: {}, Suppression ratio: {}",
+                metrics.counted(), metrics.suppressed(), String.format("%.3f", metrics.suppressionRatio()));
+    }
+
+    private static Counter viewCounter(MeterRegistry registry, String result) {
+        return Counter.builder(VIEWS)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static long hash(String viewerKey, TargetType targetType, long targetId) {
+        // FNV-1a로 조회자 키를 섞은 뒤 대상 정보를 더하고 murmur3 finalizer로 분산
+        long h = 0xcbf29ce484222325L;
+        for (byte b : viewerKey.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= targetType.ordinal();
+        h *= 0x100000001b3L;
+        h ^= targetId;
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb53fe63495e3L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,154 @@
+package dev.breakin.service.view;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간 구간별로 교체되는 Bloom filter
+ * <p>
+ * 같은 크기의 Bloom filter 여러 세대를 원형으로 사용하며, window / (세대 수 - 1) 마다 가장 오래된 세대를 비우고
+ * 새 현재 세대로 사용합니다. 키는 현재 세대에만 추가되고 모든 세대에서 조회되므로
+ * 한 번 추가된 키는 최소 window 동안 기억되고, 메모리는 세대 수 x 세대당 비트 수로 고정됩니다.
+ * <p>
+ * 호출자가 계산한 64비트 해시를 키로 사용하며, false positive 확률만큼 처음 보는 키를 이미 본 키로 판단할 수 있습니다.
+ */
+public class RotatingBloomFilter {
+
+    private final Generation[] generations;
+    private final int hashCount;
+    private final long rotationMillis;
+    private final Clock clock;
+
+    private volatile int current;
+    private volatile long nextRotationAt;
+
+    /**
+     * @param generationCount      세대 수 (최소 2)
+     * @param expectedInsertions   세대당 예상 키 수 (rotation 주기 동안 들어오는 키 수)
+     * @param falsePositiveRate    세대당 목표 false positive 확률
+     * @param window               키를 기억하는 최소 기간
+     * @param clock                rotation 기준 시계
+     */
+    public RotatingBloomFilter(int generationCount, long expectedInsertions, double falsePositiveRate,
+                               Duration window, Clock clock) {
+        int count = Math.max(2, generationCount);
+        long insertions = Math.max(1, expectedInsertions);
+        double fpp = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+
+        long bits = (long) Math.ceil(-insertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+
+        this.hashCount = Math.max(1, (int) Math.round((double) words * 64 / insertions * Math.log(2)));
+        this.generations = new Generation[count];
+        for (int i = 0; i < count; i++) {
+            generations[i] = new Generation(words);
+        }
+        this.rotationMillis = Math.max(1, window.toMillis() / (count - 1));
+        this.clock = clock;
+        this.nextRotationAt = clock.millis() + rotationMillis;
+    }
+
+    /**
+     * 키를 현재 세대에 추가
+     *
+     * @param hash 키의 64비트 해시
+     * @return 처음 보는 키이면 true, window 안에 이미 추가된 키이면 false
+     */
+    public boolean put(long hash) {
+        rotateIfNeeded();
+
+        int currentIndex = current;
+        for (int i = 0; i < generations.length; i++) {
+            if (i != currentIndex && generations[i].mightContain(hash, hashCount)) {
+                return false;
+            }
+        }
+        return generations[currentIndex].put(hash, hashCount);
+    }
+
+    /**
+     * 세대당 메모리 사용량 (바이트)
+     */
+    public long bytesPerGeneration() {
+        return (long) generations[0].bits.length() * Long.BYTES;
+    }
+
+    private void rotateIfNeeded() {
+        if (clock.millis() < nextRotationAt) {
+            return;
+        }
+        synchronized (this) {
+            long now = clock.millis();
+            // 오래 호출되지 않았다면 세대 수만큼만 비우면 충분
+            for (int i = 0; i < generations.length && now >= nextRotationAt; i++) {
+                int next = (current + 1) % generations.length;
+                generations[next].clear();
+                current = next;
+                nextRotationAt += rotationMillis;
+            }
+            if (now >= nextRotationAt) {
+                nextRotationAt = now + rotationMillis;
+            }
+        }
+    }
+
+    /**
+     * 한 세대의 비트 배열
+     */
+    private static final class Generation {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+
+        Generation(int words) {
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+        }
+
+        boolean mightContain(long hash, int hashCount) {
+            long h1 = hash;
+            long h2 = secondaryHash(hash);
+            for (int i = 0; i < hashCount; i++) {
+                long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return 하나 이상의 비트가 새로 설정되었으면 true (처음 보는 키)
+         */
+        boolean put(long hash, int hashCount) {
+            long h1 = hash;
+            long h2 = secondaryHash(hash);
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value = bits.get(word);
+                while ((value & mask) == 0) {
+                    if (bits.compareAndSet(word, value, value | mask)) {
+                        changed = true;
+                        break;
+                    }
+                    value = bits.get(word);
+                }
+            }
+            return changed;
+        }
+
+        void clear() {
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, 0L);
+            }
+        }
+
+        private static long secondaryHash(long hash) {
+            long h = hash * 0x9E3779B97F4A7C15L;
+            return (h ^ (h >>> 31)) | 1L;
+        }
+    }
+}
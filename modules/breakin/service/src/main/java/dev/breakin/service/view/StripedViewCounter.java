@@ -0,0 +1,328 @@
+package dev.breakin.service.view;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 조회수 누적용 Striped 카운터
+ * <p>
+ * LongAdder처럼 스레드마다 서로 다른 stripe에 기록하여 경합을 분산하고,
+ * stripe 내부는 원시 long 키를 사용하는 open addressing 테이블로 구성하여
+ * 정상 상태에서는 increment 시 객체를 할당하지 않습니다.
+ * <p>
+ * 두 개의 버퍼를 번갈아 사용(double buffering)합니다.
+ * drain은 활성 버퍼를 교체한 뒤 이전 버퍼에 진입한 writer가 모두 빠져나갈 때까지 기다렸다가 합산하므로,
+ * drain 도중 들어온 증가분은 새 버퍼에 기록되어 다음 drain에 포함됩니다.
+ * <p>
+ * {@link ViewCountJournal}을 연결하면 각 버퍼가 저널 세그먼트 하나를 전담하여,
+ * 버퍼에 기록되는 모든 증가분이 같은 writer 구간 안에서 세그먼트에도 기록됩니다.
+ */
+public class StripedViewCounter {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY_PER_STRIPE = 1024;
+    private static final int MAX_STRIPES = 64;
+
+    private final int stripeCount;
+    private final int stripeMask;
+
+    private volatile Buffer active;
+    private Buffer standby;
+    private ViewCountJournal journal;
+
+    public StripedViewCounter() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CAPACITY_PER_STRIPE);
+    }
+
+    /**
+     * @param stripes             stripe 개수 (2의 거듭제곱으로 올림, 최대 64)
+     * @param capacityPerStripe   stripe당 초기 키 용량 (2의 거듭제곱으로 올림)
+     */
+    public StripedViewCounter(int stripes, int capacityPerStripe) {
+        this.stripeCount = Math.min(MAX_STRIPES, ceilPowerOfTwo(Math.max(1, stripes)));
+        this.stripeMask = stripeCount - 1;
+        int capacity = ceilPowerOfTwo(Math.max(2, capacityPerStripe));
+        this.active = new Buffer(stripeCount, capacity);
+        this.standby = new Buffer(stripeCount, capacity);
+    }
+
+    /**
+     * 키의 카운트를 1 증가
+     */
+    public void increment(long key) {
+        add(key, 1L);
+    }
+
+    /**
+     * 키의 카운트를 delta만큼 증가
+     */
+    public void add(long key, long delta) {
+        int stripe = stripeIndex();
+
+        Buffer buffer;
+        while (true) {
+            buffer = active;
+            buffer.enter(stripe);
+            if (buffer == active) {
+                break;
+            }
+            // drain이 버퍼를 교체한 직후 - 새 활성 버퍼로 재시도
+            buffer.exit(stripe);
+        }
+
+        try {
+            buffer.add(stripe, key, delta);
+        } finally {
+            buffer.exit(stripe);
+        }
+    }
+
+    /**
+     * 누적된 카운트를 모두 꺼내고 0으로 초기화
+     * <p>
+     * 활성 버퍼를 교체한 뒤 이전 버퍼의 writer가 모두 빠져나간 시점에 합산하므로
+     * 호출 도중 들어온 증가분은 유실되지 않고 다음 drain에 포함됩니다.
+     *
+     * @return Key별 누적 증가량 (증가량이 0인 키는 제외)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> snapshot = new HashMap<>();
+        drainTo(snapshot::putAll);
+        return snapshot;
+    }
+
+    /**
+     * 누적된 카운트를 꺼내 sink에 전달
+     * <p>
+     * sink가 예외를 던지면 꺼낸 카운트를 다시 누적(저널에도 재기록)한 뒤 예외를 그대로 던집니다.
+     * 저널이 연결되어 있으면 sink가 끝난 뒤에 drain된 버퍼의 세그먼트를 비우므로,
+     * sink 실행 중 장애가 나도 증가분은 저널에 남아 기동 시 재생됩니다.
+     *
+     * @param sink Key별 누적 증가량을 반영하는 작업 (비어 있는 Map이 전달될 수 있음)
+     */
+    public synchronized void drainTo(Consumer<Map<Long, Long>> sink) {
+        Buffer drained = active;
+        active = standby;
+
+        drained.awaitQuiescence();
+        Map<Long, Long> snapshot = drained.drainAndReset();
+
+        // overflow가 발생했다면 다음 주기에는 더 큰 테이블을 사용
+        if (drained.overflowed()) {
+            Buffer grown = new Buffer(stripeCount, drained.capacity() * 2);
+            grown.segment = drained.segment;
+            standby = grown;
+        } else {
+            standby = drained;
+        }
+
+        try {
+            sink.accept(snapshot);
+        } catch (RuntimeException e) {
+            snapshot.forEach(this::add);
+            throw e;
+        } finally {
+            if (journal != null && drained.segment != null) {
+                journal.commit(drained.segment);
+            }
+        }
+    }
+
+    /**
+     * 저널을 연결하고 이전 실행에서 남은 증가분을 복원
+     * <p>
+     * 복원한 증가분은 메모리에만 다시 누적되며, 원본 파일은 다음 drain이 끝난 뒤 삭제됩니다.
+     * 기동 시 요청을 받기 전에 한 번만 호출합니다.
+     */
+    public synchronized void attachJournal(ViewCountJournal journal) {
+        if (this.journal != null) {
+            throw new IllegalStateException("Journal is already attached");
+        }
+
+        Map<Long, Long> recovered = journal.recover();
+        recovered.forEach(this::add);
+
+        active.segment = journal.segment(0);
+        standby.segment = journal.segment(1);
+        this.journal = journal;
+    }
+
+    /**
+     * 연결된 저널을 닫는다
+     * <p>
+     * 아직 반영되지 않은 증가분은 세그먼트 파일에 남아 다음 기동 시 재생됩니다.
+     */
+    public synchronized void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        active.segment = null;
+        standby.segment = null;
+        journal.close();
+        journal = null;
+    }
+
+    private int stripeIndex() {
+        long h = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & stripeMask;
+    }
+
+    private static int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 29));
+    }
+
+    private static int ceilPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+
+    /**
+     * 활성/대기 상태를 번갈아 가지는 카운트 버퍼
+     */
+    private static final class Buffer {
+        private final Stripe[] stripes;
+        private final int capacity;
+
+        // 테이블이 가득 찬 경우에만 사용하는 보조 저장소 (다음 주기에 테이블을 확장)
+        private final ConcurrentHashMap<Long, LongAdder> overflow = new ConcurrentHashMap<>();
+        private volatile boolean overflowed;
+
+        // 이 버퍼를 전담하는 저널 세그먼트 (저널 미사용 시 null)
+        private volatile ViewCountJournal.Segment segment;
+
+        Buffer(int stripeCount, int capacity) {
+            this.capacity = capacity;
+            this.stripes = new Stripe[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe(capacity);
+            }
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        boolean overflowed() {
+            return overflowed;
+        }
+
+        void enter(int stripe) {
+            stripes[stripe].writers.incrementAndGet();
+        }
+
+        void exit(int stripe) {
+            stripes[stripe].writers.decrementAndGet();
+        }
+
+        void add(int stripe, long key, long delta) {
+            ViewCountJournal.Segment journalSegment = segment;
+            if (journalSegment != null) {
+                journalSegment.append(key, delta);
+            }
+
+            if (key != EMPTY && stripes[stripe].add(key, delta)) {
+                return;
+            }
+            overflowed = true;
+            overflow.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+
+        void awaitQuiescence() {
+            for (Stripe stripe : stripes) {
+                while (stripe.writers.get() != 0) {
+                    Thread.yield();
+                }
+            }
+        }
+
+        Map<Long, Long> drainAndReset() {
+            Map<Long, Long> snapshot = new HashMap<>();
+            for (Stripe stripe : stripes) {
+                stripe.drainTo(snapshot);
+            }
+            overflow.forEach((key, adder) -> {
+                long count = adder.sum();
+                if (count != 0) {
+                    snapshot.merge(key, count, Long::sum);
+                }
+            });
+            overflow.clear();
+            return snapshot;
+        }
+    }
+
+    /**
+     * 원시 long 키 기반 open addressing(linear probing) 테이블
+     */
+    private static final class Stripe {
+        private final AtomicLongArray keys;
+        private final AtomicLongArray counts;
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicLong writers = new AtomicLong();
+        private final int mask;
+        private final int threshold;
+
+        Stripe(int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.counts = new AtomicLongArray(capacity);
+            this.mask = capacity - 1;
+            this.threshold = capacity - (capacity >>> 2);
+            for (int i = 0; i < capacity; i++) {
+                keys.set(i, EMPTY);
+            }
+        }
+
+        /**
+         * @return 테이블에 기록했으면 true, 가득 차서 기록하지 못했으면 false
+         */
+        boolean add(long key, long delta) {
+            int index = spread(key) & mask;
+            for (int probe = 0; probe <= mask; probe++) {
+                long current = keys.get(index);
+                if (current == EMPTY) {
+                    if (size.get() >= threshold) {
+                        return false;
+                    }
+                    if (keys.compareAndSet(index, EMPTY, key)) {
+                        size.incrementAndGet();
+                        counts.getAndAdd(index, delta);
+                        return true;
+                    }
+                    current = keys.get(index);
+                }
+                if (current == key) {
+                    counts.getAndAdd(index, delta);
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        void drainTo(Map<Long, Long> snapshot) {
+            if (size.get() == 0) {
+                return;
+            }
+            for (int i = 0; i <= mask; i++) {
+                long key = keys.get(i);
+                if (key == EMPTY) {
+                    continue;
+                }
+                long count = counts.get(i);
+                if (count != 0) {
+                    snapshot.merge(key, count, Long::sum);
+                }
+                keys.set(i, EMPTY);
+                counts.set(i, 0L);
+            }
+            size.set(0);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package dev.breakin.service.view;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 조회수 증가분을 기록하는 append-only 저널
+ * <p>
+ * StripedViewCounter의 두 버퍼에 각각 대응하는 메모리 매핑(mmap) 세그먼트 파일 두 개를 사용합니다.
+ * 증가분은 (ID, 증가량) 16바이트 레코드로 매핑된 페이지에 기록되므로 프로세스가 비정상 종료되어도 OS 페이지 캐시에 남고,
+ * 백그라운드 스레드가 forceInterval마다 변경된 세그먼트를 한 번에 디스크로 내립니다(group commit).
+ * <p>
+ * 세그먼트는 해당 버퍼의 DB flush가 끝난 뒤에 비워지고, 기동 시 남아 있는 세그먼트 파일은 모두 재생(replay)됩니다.
+ * DB 반영 직후 세그먼트를 비우기 전에 장애가 나면 해당 증가분이 한 번 더 반영될 수 있습니다(at-least-once).
+ * 하나의 디렉터리는 하나의 프로세스만 사용할 수 있으며, 0은 빈 레코드를 뜻하므로 ID 0은 기록하지 않습니다.
+ */
+@Slf4j
+public class ViewCountJournal implements Closeable {
+
+    static final int RECORD_BYTES = 16;
+
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final String name;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final List<Path> recoveredFiles = new ArrayList<>();
+    private final Segment[] segments = new Segment[2];
+    private final ScheduledExecutorService forcer;
+
+    private ViewCountJournal(Path directory, String name, int segmentBytes, long forceIntervalMillis) throws IOException {
+        this.directory = directory;
+        this.name = name;
+
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(name + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.lock = tryLock(lockChannel);
+
+        long sequence = 0;
+        Pattern pattern = Pattern.compile(Pattern.quote(name) + "-(\\d+)" + Pattern.quote(SUFFIX));
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    recoveredFiles.add(file);
+                    sequence = Math.max(sequence, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+
+        int capacity = Math.max(RECORD_BYTES, segmentBytes - segmentBytes % RECORD_BYTES);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(directory.resolve(name + "-" + (sequence + 1 + i) + SUFFIX), capacity);
+        }
+
+        this.forcer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-journal-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        forcer.scheduleWithFixedDelay(this::forceDirty, forceIntervalMillis, forceIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 저널을 연다
+     *
+     * @param directory           세그먼트 파일을 저장할 디렉터리
+     * @param name                저널 이름 (파일명 접두사, 예: job)
+     * @param segmentBytes        세그먼트당 크기 (한 flush 주기의 최대 증가 건수 x 16바이트)
+     * @param forceIntervalMillis group commit 주기
+     */
+    public static ViewCountJournal open(Path directory, String name, int segmentBytes, long forceIntervalMillis) {
+        try {
+            return new ViewCountJournal(directory, name, segmentBytes, forceIntervalMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open view count journal: " + directory.resolve(name), e);
+        }
+    }
+
+    /**
+     * 이전 실행에서 남은 세그먼트의 증가분을 합산
+     * <p>
+     * 읽은 파일은 다음 {@link #commit(Segment)} 때 삭제됩니다.
+     *
+     * @return Key별 미반영 증가량
+     */
+    Map<Long, Long> recover() {
+        Map<Long, Long> recovered = new HashMap<>();
+        for (Path file : recoveredFiles) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                for (int offset = 0; offset + RECORD_BYTES <= buffer.limit(); offset += RECORD_BYTES) {
+                    // 예약만 되고 기록되지 않은 레코드는 key가 0으로 남아 있음
+                    long key = buffer.getLong(offset);
+                    long delta = buffer.getLong(offset + 8);
+                    if (key != 0 && delta != 0) {
+                        recovered.merge(key, delta, Long::sum);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to replay view count journal: " + file, e);
+            }
+        }
+
+        if (!recoveredFiles.isEmpty()) {
+            log.info("Replayed {} view count journal files for {} - Keys: {}", recoveredFiles.size(), name, recovered.size());
+        }
+        return recovered;
+    }
+
+    Segment segment(int index) {
+        return segments[index];
+    }
+
+    /**
+     * drain된 세그먼트의 증가분이 DB에 반영(또는 다른 세그먼트로 재기록)된 후 호출
+     * <p>
+     * 남아 있는 세그먼트를 먼저 디스크에 내린 뒤 drain된 세그먼트를 비우고,
+     * 기동 시 재생한 파일을 삭제합니다.
+     */
+    void commit(Segment drained) {
+        for (Segment segment : segments) {
+            if (segment != drained) {
+                segment.force();
+            }
+        }
+        drained.reset();
+
+        if (recoveredFiles.isEmpty()) {
+            return;
+        }
+        for (Path file : recoveredFiles) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete replayed view count journal: {}", file, e);
+            }
+        }
+        recoveredFiles.clear();
+    }
+
+    /**
+     * 저널을 닫는다 (남아 있는 증가분은 파일에 유지되어 다음 기동 시 재생됨)
+     */
+    @Override
+    public void close() {
+        forcer.shutdown();
+        for (Segment segment : segments) {
+            segment.close();
+        }
+        try {
+            lock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            log.warn("Failed to release view count journal lock: {}", directory.resolve(name), e);
+        }
+    }
+
+    private void forceDirty() {
+        for (Segment segment : segments) {
+            try {
+                segment.force();
+            } catch (RuntimeException e) {
+                log.error("Failed to force view count journal: {}", segment.path, e);
+            }
+        }
+    }
+
+    private FileLock tryLock(FileChannel channel) throws IOException {
+        FileLock acquired;
+        try {
+            acquired = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null;
+        }
+        if (acquired == null) {
+            channel.close();
+            throw new IllegalStateException("View count journal is already in use: " + directory.resolve(name));
+        }
+        return acquired;
+    }
+
+    /**
+     * 메모리 매핑된 고정 크기 세그먼트
+     */
+    static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicLong position = new AtomicLong();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private final AtomicBoolean overflowWarned = new AtomicBoolean();
+
+        Segment(Path path, int capacity) throws IOException {
+            this.path = path;
+            this.capacity = capacity;
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+
+        /**
+         * 증가분 레코드를 추가
+         * <p>
+         * 위치는 원자적으로 예약하고 각 스레드는 서로 다른 영역에 기록합니다.
+         * 재생 시 key가 0인 레코드는 무시되므로 증가량을 먼저 쓰고 key를 마지막에 씁니다.
+         *
+         * @return 세그먼트가 가득 찼거나 key가 0이어서 기록하지 못했으면 false (메모리 카운트는 유지됨)
+         */
+        boolean append(long key, long delta) {
+            if (key == 0) {
+                return false;
+            }
+            long offset = position.getAndAdd(RECORD_BYTES);
+            if (offset > capacity - RECORD_BYTES) {
+                if (overflowWarned.compareAndSet(false, true)) {
+                    log.warn("View count journal segment is full, increments are kept in memory only until next flush: {}", path);
+                }
+                return false;
+            }
+
+            buffer.putLong((int) offset + 8, delta);
+            buffer.putLong((int) offset, key);
+            if (!dirty.get()) {
+                dirty.set(true);
+            }
+            return true;
+        }
+
+        void force() {
+            if (dirty.getAndSet(false)) {
+                buffer.force();
+            }
+        }
+
+        /**
+         * 기록된 영역을 0으로 지우고 처음부터 다시 사용
+         */
+        void reset() {
+            int used = (int) Math.min(position.get(), capacity);
+            for (int offset = 0; offset < used; offset += RECORD_BYTES) {
+                buffer.putLong(offset, 0L);
+                buffer.putLong(offset + 8, 0L);
+            }
+            position.set(0);
+            overflowWarned.set(false);
+            if (used > 0) {
+                dirty.set(false);
+                buffer.force();
+            }
+        }
+
+        void close() {
+            try {
+                force();
+                channel.close();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to close view count journal segment: {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.breakin.service.view;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 조회수 저널 설정 프로퍼티
+ *
+ * application.yml에서 조회수 저널 사용 여부와 저장 위치를 설정할 수 있습니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.view.journal")
+@Getter
+@Setter
+public class ViewCountJournalProperties {
+
+    /**
+     * 저널 사용 여부 (false면 조회수는 메모리에만 누적)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 세그먼트 파일을 저장할 디렉터리 (인스턴스마다 별도 디렉터리 사용)
+     */
+    private String directory = "data/view-journal";
+
+    /**
+     * 세그먼트당 크기 (바이트, 레코드당 16바이트 - 기본값은 flush 주기당 약 52만 건)
+     */
+    private int segmentSize = 8 * 1024 * 1024;
+
+    /**
+     * group commit 주기 (밀리초)
+     */
+    private long forceIntervalMillis = 100;
+
+    /**
+     * 이름에 해당하는 저널을 연다
+     *
+     * @param name 저널 이름 (job, techblog, communitypost)
+     */
+    public ViewCountJournal open(String name) {
+        return ViewCountJournal.open(Path.of(directory), name, segmentSize, forceIntervalMillis);
+    }
+}
@@ -0,0 +1,18 @@
+package dev.breakin.service.view;
+
+/**
+ * 조회수 중복 제거 지표
+ *
+ * @param counted    집계된 조회 수
+ * @param suppressed 중복으로 판단되어 제외된 조회 수
+ */
+public record ViewDedupMetrics(long counted, long suppressed) {
+
+    /**
+     * 전체 조회 중 제외된 비율 (조회가 없으면 0)
+     */
+    public double suppressionRatio() {
+        long total = counted + suppressed;
+        return total == 0 ? 0.0 : (double) suppressed / total;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.breakin.service.view;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 조회수 중복 제거 설정 프로퍼티
+ *
+ * application.yml에서 중복 판단 기간과 Bloom filter 크기를 설정할 수 있습니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.view.dedup")
+@Getter
+@Setter
+public class ViewDedupProperties {
+
+    /**
+     * 중복 제거 사용 여부 (false면 모든 조회를 집계)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 같은 조회자의 재조회를 중복으로 보는 최소 기간
+     */
+    private Duration window = Duration.ofMinutes(30);
+
+    /**
+     * Bloom filter 세대 수 (rotation 주기 = window / (generations - 1))
+     */
+    private int generations = 4;
+
+    /**
+     * 세대당 예상 (조회자, 대상) 조합 수
+     */
+    private long expectedInsertions = 1_000_000;
+
+    /**
+     * 세대당 목표 false positive 확률 (처음 조회를 중복으로 잘못 판단할 확률)
+     */
+    private double falsePositiveRate = 0.01;
+}
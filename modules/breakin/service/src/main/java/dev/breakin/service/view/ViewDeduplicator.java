@@ -0,0 +1,27 @@
+package dev.breakin.service.view;
+
+import dev.breakin.model.common.TargetType;
+
+/**
+ * 조회수 중복 집계 방지 인터페이스
+ *
+ * 같은 조회자(세션 또는 IP)가 일정 기간 안에 같은 대상을 다시 조회하면
+ * 조회수를 증가시키지 않도록 판단합니다.
+ */
+public interface ViewDeduplicator {
+
+    /**
+     * 조회수를 증가시켜야 하는지 판단
+     *
+     * @param viewerKey  조회자 식별 키 (null이면 식별할 수 없으므로 항상 집계)
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     * @return window 안의 첫 조회이면 true
+     */
+    boolean shouldCount(String viewerKey, TargetType targetType, Long targetId);
+
+    /**
+     * 누적 집계/중복 제거 건수
+     */
+    ViewDedupMetrics metrics();
+}
@@ -6,7 +6,9 @@ import dev.breakin.model.communitypost.CommunityPostCategory;
 import dev.breakin.model.communitypost.CommunityPostIdentity;
 import dev.breakin.model.communitypost.CommunityPostRead;
 import dev.breakin.model.common.Popularity;
+import dev.breakin.model.common.TargetType;
 import dev.breakin.service.communitypost.view.CommunityPostViewMemory;
+import dev.breakin.service.view.ViewDeduplicator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,6 +31,9 @@ class DefaultCommunityPostReaderTest {
     @Mock
     private CommunityPostViewMemory communityPostViewMemory;
 
+    @Mock
+    private ViewDeduplicator viewDeduplicator;
+
     @InjectMocks
     private DefaultCommunityPostReader communityPostReader;
 
@@ -57,6 +62,7 @@ class DefaultCommunityPostReaderTest {
         // given
         when(communityPostRepository.findById(testIdentity))
             .thenReturn(Optional.of(samplePostRead));
+        when(viewDeduplicator.shouldCount(null, TargetType.COMMUNITY_POST, 1L)).thenReturn(true);
 
         // when
         CommunityPostRead result = communityPostReader.read(testIdentity);
@@ -70,6 +76,21 @@ class DefaultCommunityPostReaderTest {
         verify(communityPostViewMemory).countUp(1L);
     }
 
+    @Test
+    void read_repeatedViewer_doesNotIncrementViewCount() {
+        // given
+        when(communityPostRepository.findById(testIdentity))
+            .thenReturn(Optional.of(samplePostRead));
+        when(viewDeduplicator.shouldCount("ip:10.0.0.1", TargetType.COMMUNITY_POST, 1L)).thenReturn(false);
+
+        // when
+        CommunityPostRead result = communityPostReader.read(testIdentity, "ip:10.0.0.1");
+
+        // then - 같은 조회자의 재조회는 조회수에 반영되지 않음
+        assertNotNull(result);
+        verify(communityPostViewMemory, never()).countUp(any());
+    }
+
     @Test
     void read_nonExistingId_throwsException() {
         // given
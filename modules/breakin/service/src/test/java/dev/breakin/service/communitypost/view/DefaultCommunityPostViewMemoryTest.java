@@ -1,22 +1,17 @@
 package dev.breakin.service.communitypost.view;
 
 import dev.breakin.infra.communitypost.repository.CommunityPostRepository;
-import dev.breakin.model.communitypost.CommunityPostIdentity;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.lang.reflect.Field;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,17 +23,6 @@ class DefaultCommunityPostViewMemoryTest {
     @InjectMocks
     private DefaultCommunityPostViewMemory viewMemory;
 
-    private Map<Long, AtomicLong> viewCounts;
-
-    @BeforeEach
-    void setUp() throws Exception {
-        // Reflection을 사용하여 private viewCounts 필드에 접근
-        Field field = DefaultCommunityPostViewMemory.class.getDeclaredField("viewCounts");
-        field.setAccessible(true);
-        viewCounts = (Map<Long, AtomicLong>) field.get(viewMemory);
-        viewCounts.clear();
-    }
-
     @Test
     void countUp_validId_incrementsViewCount() {
         // given
@@ -46,10 +30,10 @@ class DefaultCommunityPostViewMemoryTest {
 
         // when
         viewMemory.countUp(postId);
+        viewMemory.flush();
 
         // then
-        assertTrue(viewCounts.containsKey(postId));
-        assertEquals(1, viewCounts.get(postId).get());
+        verify(communityPostRepository).increaseViewCounts(Map.of(postId, 1L));
     }
 
     @Test
@@ -61,16 +45,19 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.countUp(postId);
         viewMemory.countUp(postId);
         viewMemory.countUp(postId);
+        viewMemory.flush();
 
         // then
-        assertEquals(3, viewCounts.get(postId).get());
+        verify(communityPostRepository).increaseViewCounts(Map.of(postId, 3L));
     }
 
     @Test
     void countUp_nullId_doesNotThrowException() {
         // when & then
         assertDoesNotThrow(() -> viewMemory.countUp(null));
-        assertTrue(viewCounts.isEmpty());
+
+        viewMemory.flush();
+        verify(communityPostRepository, never()).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -83,57 +70,45 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.countUp(postId1);
         viewMemory.countUp(postId1);
         viewMemory.countUp(postId2);
+        viewMemory.flush();
 
         // then
-        assertEquals(2, viewCounts.get(postId1).get());
-        assertEquals(1, viewCounts.get(postId2).get());
+        verify(communityPostRepository).increaseViewCounts(Map.of(postId1, 2L, postId2, 1L));
     }
 
     @Test
-    void flush_withViewCounts_callsRepositoryIncreaseViewCount() {
+    void flush_withViewCounts_callsRepositoryIncreaseViewCounts() {
         // given
         Long postId = 1L;
         viewMemory.countUp(postId);
         viewMemory.countUp(postId);
         viewMemory.countUp(postId);
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(any(CommunityPostIdentity.class), anyLong());
+        doNothing().when(communityPostRepository).increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(communityPostRepository).increaseViewCount(
-            eq(new CommunityPostIdentity(postId)),
-            eq(3L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        verify(communityPostRepository).increaseViewCounts(Map.of(postId, 3L));
     }
 
     @Test
-    void flush_withMultiplePosts_callsRepositoryForEach() {
+    void flush_withMultiplePosts_callsRepositoryOnce() {
         // given
         Long postId1 = 1L;
         Long postId2 = 2L;
         viewMemory.countUp(postId1);
         viewMemory.countUp(postId1);
         viewMemory.countUp(postId2);
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(any(CommunityPostIdentity.class), anyLong());
+        doNothing().when(communityPostRepository).increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
 
-        // then
-        verify(communityPostRepository).increaseViewCount(
-            eq(new CommunityPostIdentity(postId1)),
-            eq(2L)
-        );
-        verify(communityPostRepository).increaseViewCount(
-            eq(new CommunityPostIdentity(postId2)),
-            eq(1L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        // then - 여러 건이어도 한 번의 일괄 UPDATE
+        verify(communityPostRepository, times(1)).increaseViewCounts(anyMap());
+        verify(communityPostRepository).increaseViewCounts(Map.of(postId1, 2L, postId2, 1L));
+        verify(communityPostRepository, never()).increaseViewCount(any(), anyLong());
     }
 
     @Test
@@ -145,11 +120,11 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.flush();
 
         // then
-        verify(communityPostRepository, never()).increaseViewCount(any(), anyLong());
+        verify(communityPostRepository, never()).increaseViewCounts(anyMap());
     }
 
     @Test
-    void flush_repositoryThrowsException_continuesProcessing() {
+    void flush_repositoryThrowsException_retriesOnNextFlush() {
         // given
         Long postId1 = 1L;
         Long postId2 = 2L;
@@ -157,25 +132,16 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.countUp(postId2);
 
         doThrow(new RuntimeException("DB error"))
+            .doNothing()
             .when(communityPostRepository)
-            .increaseViewCount(eq(new CommunityPostIdentity(postId1)), anyLong());
-
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(eq(new CommunityPostIdentity(postId2)), anyLong());
+            .increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
+        viewMemory.flush();
 
-        // then
-        verify(communityPostRepository).increaseViewCount(
-            eq(new CommunityPostIdentity(postId1)),
-            eq(1L)
-        );
-        verify(communityPostRepository).increaseViewCount(
-            eq(new CommunityPostIdentity(postId2)),
-            eq(1L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        // then - 실패한 조회수는 메모리에 되돌려 다음 flush에서 다시 반영
+        verify(communityPostRepository, times(2)).increaseViewCounts(Map.of(postId1, 1L, postId2, 1L));
     }
 
     @Test
@@ -184,14 +150,13 @@ class DefaultCommunityPostViewMemoryTest {
         viewMemory.countUp(1L);
         viewMemory.countUp(2L);
         viewMemory.countUp(3L);
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(any(CommunityPostIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
+        viewMemory.flush();
 
-        // then
-        assertTrue(viewCounts.isEmpty());
+        // then - 두 번째 flush는 비어 있으므로 호출되지 않음
+        verify(communityPostRepository, times(1)).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -200,14 +165,14 @@ class DefaultCommunityPostViewMemoryTest {
         Long postId = 1L;
         viewMemory.countUp(postId);
         viewMemory.countUp(postId);
-        doNothing().when(communityPostRepository)
-            .increaseViewCount(any(CommunityPostIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
         viewMemory.countUp(postId);
+        viewMemory.flush();
 
         // then
-        assertEquals(1, viewCounts.get(postId).get());
+        verify(communityPostRepository).increaseViewCounts(Map.of(postId, 2L));
+        verify(communityPostRepository).increaseViewCounts(Map.of(postId, 1L));
     }
 }
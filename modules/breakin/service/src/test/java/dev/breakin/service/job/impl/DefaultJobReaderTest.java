@@ -3,9 +3,11 @@ package dev.breakin.service.job.impl;
 import dev.breakin.infra.job.repository.JobRepository;
 import dev.breakin.model.common.Company;
 import dev.breakin.model.common.Popularity;
+import dev.breakin.model.common.TargetType;
 import dev.breakin.model.common.TechCategory;
 import dev.breakin.model.job.*;
 import dev.breakin.service.job.view.JobViewMemory;
+import dev.breakin.service.view.ViewDeduplicator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -28,6 +30,9 @@ class DefaultJobReaderTest {
     @Mock
     private JobViewMemory jobViewMemory;
 
+    @Mock
+    private ViewDeduplicator viewDeduplicator;
+
     @InjectMocks
     private DefaultJobReader jobReader;
 
@@ -64,6 +69,7 @@ class DefaultJobReaderTest {
         // given
         when(jobRepository.findById(testIdentity))
             .thenReturn(Optional.of(sampleJob));
+        when(viewDeduplicator.shouldCount(null, TargetType.JOB, 1L)).thenReturn(true);
 
         // when
         Job result = jobReader.read(testIdentity);
@@ -76,6 +82,21 @@ class DefaultJobReaderTest {
         verify(jobViewMemory).countUp(1L);
     }
 
+    @Test
+    void read_repeatedViewer_doesNotIncrementViewCount() {
+        // given
+        when(jobRepository.findById(testIdentity))
+            .thenReturn(Optional.of(sampleJob));
+        when(viewDeduplicator.shouldCount("ip:10.0.0.1", TargetType.JOB, 1L)).thenReturn(false);
+
+        // when
+        Job result = jobReader.read(testIdentity, "ip:10.0.0.1");
+
+        // then - 같은 조회자의 재조회는 조회수에 반영되지 않음
+        assertNotNull(result);
+        verify(jobViewMemory, never()).countUp(any());
+    }
+
     @Test
     void read_nonExistingId_throwsException() {
         // given
@@ -3,8 +3,10 @@ package dev.breakin.service.job.impl;
 import dev.breakin.infra.job.repository.JobRepository;
 import dev.breakin.model.common.Company;
 import dev.breakin.model.common.Popularity;
+import dev.breakin.model.common.TargetType;
 import dev.breakin.model.common.TechCategory;
 import dev.breakin.model.job.*;
+import dev.breakin.outbox.command.RecordOutboxEventCommand;
 import dev.breakin.outbox.recorder.OutboxEventRecorder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -160,4 +162,16 @@ class DefaultJobWriterTest {
         // then
         verify(jobRepository).deleteById(identity);
     }
+
+    @Test
+    void delete_recordsDeletedOutboxEvent() {
+        // given
+        JobIdentity identity = new JobIdentity(7L);
+
+        // when
+        jobWriter.delete(identity);
+
+        // then
+        verify(outboxEventRecorder).record(RecordOutboxEventCommand.deleted(TargetType.JOB, 7L));
+    }
 }
@@ -1,21 +1,27 @@
 package dev.breakin.service.job.view;
 
 import dev.breakin.infra.job.repository.JobRepository;
-import dev.breakin.model.job.JobIdentity;
-import org.junit.jupiter.api.BeforeEach;
+import dev.breakin.model.common.TargetType;
+import dev.breakin.outbox.command.RecordOutboxEventCommand;
+import dev.breakin.outbox.recorder.OutboxEventRecorder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,20 +30,12 @@ class DefaultJobViewMemoryTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
     @InjectMocks
     private DefaultJobViewMemory viewMemory;
 
-    private Map<Long, AtomicLong> viewCounts;
-
-    @BeforeEach
-    void setUp() throws Exception {
-        // Reflection을 사용하여 private viewCounts 필드에 접근
-        Field field = DefaultJobViewMemory.class.getDeclaredField("viewCounts");
-        field.setAccessible(true);
-        viewCounts = (Map<Long, AtomicLong>) field.get(viewMemory);
-        viewCounts.clear();
-    }
-
     @Test
     void countUp_validId_incrementsViewCount() {
         // given
@@ -45,10 +43,10 @@ class DefaultJobViewMemoryTest {
 
         // when
         viewMemory.countUp(jobId);
+        viewMemory.flush();
 
         // then
-        assertTrue(viewCounts.containsKey(jobId));
-        assertEquals(1, viewCounts.get(jobId).get());
+        verify(jobRepository).increaseViewCounts(Map.of(jobId, 1L));
     }
 
     @Test
@@ -60,16 +58,19 @@ class DefaultJobViewMemoryTest {
         viewMemory.countUp(jobId);
         viewMemory.countUp(jobId);
         viewMemory.countUp(jobId);
+        viewMemory.flush();
 
         // then
-        assertEquals(3, viewCounts.get(jobId).get());
+        verify(jobRepository).increaseViewCounts(Map.of(jobId, 3L));
     }
 
     @Test
     void countUp_nullId_doesNotThrowException() {
         // when & then
         assertDoesNotThrow(() -> viewMemory.countUp(null));
-        assertTrue(viewCounts.isEmpty());
+
+        viewMemory.flush();
+        verify(jobRepository, never()).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -82,57 +83,45 @@ class DefaultJobViewMemoryTest {
         viewMemory.countUp(jobId1);
         viewMemory.countUp(jobId1);
         viewMemory.countUp(jobId2);
+        viewMemory.flush();
 
         // then
-        assertEquals(2, viewCounts.get(jobId1).get());
-        assertEquals(1, viewCounts.get(jobId2).get());
+        verify(jobRepository).increaseViewCounts(Map.of(jobId1, 2L, jobId2, 1L));
     }
 
     @Test
-    void flush_withViewCounts_callsRepositoryIncreaseViewCount() {
+    void flush_withViewCounts_callsRepositoryIncreaseViewCounts() {
         // given
         Long jobId = 1L;
         viewMemory.countUp(jobId);
         viewMemory.countUp(jobId);
         viewMemory.countUp(jobId);
-        doNothing().when(jobRepository)
-            .increaseViewCount(any(JobIdentity.class), anyLong());
+        doNothing().when(jobRepository).increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(jobRepository).increaseViewCount(
-            eq(new JobIdentity(jobId)),
-            eq(3L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        verify(jobRepository).increaseViewCounts(Map.of(jobId, 3L));
     }
 
     @Test
-    void flush_withMultipleJobs_callsRepositoryForEach() {
+    void flush_withMultipleJobs_callsRepositoryOnce() {
         // given
         Long jobId1 = 1L;
         Long jobId2 = 2L;
         viewMemory.countUp(jobId1);
         viewMemory.countUp(jobId1);
         viewMemory.countUp(jobId2);
-        doNothing().when(jobRepository)
-            .increaseViewCount(any(JobIdentity.class), anyLong());
+        doNothing().when(jobRepository).increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
 
-        // then
-        verify(jobRepository).increaseViewCount(
-            eq(new JobIdentity(jobId1)),
-            eq(2L)
-        );
-        verify(jobRepository).increaseViewCount(
-            eq(new JobIdentity(jobId2)),
-            eq(1L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        // then - 여러 건이어도 한 번의 일괄 UPDATE
+        verify(jobRepository, times(1)).increaseViewCounts(anyMap());
+        verify(jobRepository).increaseViewCounts(Map.of(jobId1, 2L, jobId2, 1L));
+        verify(jobRepository, never()).increaseViewCount(any(), anyLong());
     }
 
     @Test
@@ -144,11 +133,11 @@ class DefaultJobViewMemoryTest {
         viewMemory.flush();
 
         // then
-        verify(jobRepository, never()).increaseViewCount(any(), anyLong());
+        verify(jobRepository, never()).increaseViewCounts(anyMap());
     }
 
     @Test
-    void flush_repositoryThrowsException_continuesProcessing() {
+    void flush_repositoryThrowsException_retriesOnNextFlush() {
         // given
         Long jobId1 = 1L;
         Long jobId2 = 2L;
@@ -156,25 +145,16 @@ class DefaultJobViewMemoryTest {
         viewMemory.countUp(jobId2);
 
         doThrow(new RuntimeException("DB error"))
+            .doNothing()
             .when(jobRepository)
-            .increaseViewCount(eq(new JobIdentity(jobId1)), anyLong());
-
-        doNothing().when(jobRepository)
-            .increaseViewCount(eq(new JobIdentity(jobId2)), anyLong());
+            .increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
+        viewMemory.flush();
 
-        // then
-        verify(jobRepository).increaseViewCount(
-            eq(new JobIdentity(jobId1)),
-            eq(1L)
-        );
-        verify(jobRepository).increaseViewCount(
-            eq(new JobIdentity(jobId2)),
-            eq(1L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        // then - 실패한 조회수는 메모리에 되돌려 다음 flush에서 다시 반영
+        verify(jobRepository, times(2)).increaseViewCounts(Map.of(jobId1, 1L, jobId2, 1L));
     }
 
     @Test
@@ -183,14 +163,13 @@ class DefaultJobViewMemoryTest {
         viewMemory.countUp(1L);
         viewMemory.countUp(2L);
         viewMemory.countUp(3L);
-        doNothing().when(jobRepository)
-            .increaseViewCount(any(JobIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
+        viewMemory.flush();
 
-        // then
-        assertTrue(viewCounts.isEmpty());
+        // then - 두 번째 flush는 비어 있으므로 호출되지 않음
+        verify(jobRepository, times(1)).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -199,14 +178,75 @@ class DefaultJobViewMemoryTest {
         Long jobId = 1L;
         viewMemory.countUp(jobId);
         viewMemory.countUp(jobId);
-        doNothing().when(jobRepository)
-            .increaseViewCount(any(JobIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
         viewMemory.countUp(jobId);
+        viewMemory.flush();
+
+        // then
+        verify(jobRepository).increaseViewCounts(Map.of(jobId, 2L));
+        verify(jobRepository).increaseViewCounts(Map.of(jobId, 1L));
+    }
+
+    @Test
+    void flush_withViewCounts_recordsPopularityEventsInOneCall() {
+        // given
+        viewMemory.countUp(1L);
+        viewMemory.countUp(2L);
+
+        // when
+        viewMemory.flush();
+
+        // then
+        verify(outboxEventRecorder, times(1)).recordAll(argThat(commands -> commands.size() == 2
+                && commands.containsAll(List.of(
+                        RecordOutboxEventCommand.popularityOnly(TargetType.JOB, 1L),
+                        RecordOutboxEventCommand.popularityOnly(TargetType.JOB, 2L)))));
+        verify(outboxEventRecorder, never()).record(any());
+    }
+
+    @Test
+    void flush_concurrentCountUp_losesNoViews() throws Exception {
+        // given
+        Long jobId = 1L;
+        int threads = 64;
+        int incrementsPerThread = 10_000;
+        AtomicLong flushed = new AtomicLong();
+        doAnswer(invocation -> {
+            Map<Long, Long> increments = invocation.getArgument(0);
+            increments.values().forEach(flushed::addAndGet);
+            return null;
+        }).when(jobRepository).increaseViewCounts(anyMap());
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        viewMemory.countUp(jobId);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when - 증가가 진행되는 동안 flush를 반복
+        start.countDown();
+        while (done.getCount() > 0) {
+            viewMemory.flush();
+        }
+        viewMemory.flush();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
 
         // then
-        assertEquals(1, viewCounts.get(jobId).get());
+        assertEquals((long) threads * incrementsPerThread, flushed.get());
     }
 }
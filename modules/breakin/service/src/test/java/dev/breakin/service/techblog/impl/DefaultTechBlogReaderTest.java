@@ -2,9 +2,11 @@ package dev.breakin.service.techblog.impl;
 
 import dev.breakin.infra.techblog.repository.TechBlogRepository;
 import dev.breakin.model.common.Popularity;
+import dev.breakin.model.common.TargetType;
 import dev.breakin.model.techblog.TechBlog;
 import dev.breakin.model.techblog.TechBlogIdentity;
 import dev.breakin.service.techblog.view.TechBlogViewMemory;
+import dev.breakin.service.view.ViewDeduplicator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -27,6 +29,9 @@ class DefaultTechBlogReaderTest {
     @Mock
     private TechBlogViewMemory techBlogViewMemory;
 
+    @Mock
+    private ViewDeduplicator viewDeduplicator;
+
     @InjectMocks
     private DefaultTechBlogReader techBlogReader;
 
@@ -53,6 +58,7 @@ class DefaultTechBlogReaderTest {
         // given
         when(techBlogRepository.findById(testIdentity))
             .thenReturn(Optional.of(sampleBlog));
+        when(viewDeduplicator.shouldCount(null, TargetType.TECH_BLOG, 1L)).thenReturn(true);
 
         // when
         TechBlog result = techBlogReader.read(testIdentity);
@@ -65,6 +71,21 @@ class DefaultTechBlogReaderTest {
         verify(techBlogViewMemory).countUp(1L);
     }
 
+    @Test
+    void read_repeatedViewer_doesNotIncrementViewCount() {
+        // given
+        when(techBlogRepository.findById(testIdentity))
+            .thenReturn(Optional.of(sampleBlog));
+        when(viewDeduplicator.shouldCount("ip:10.0.0.1", TargetType.TECH_BLOG, 1L)).thenReturn(false);
+
+        // when
+        TechBlog result = techBlogReader.read(testIdentity, "ip:10.0.0.1");
+
+        // then - 같은 조회자의 재조회는 조회수에 반영되지 않음
+        assertNotNull(result);
+        verify(techBlogViewMemory, never()).countUp(any());
+    }
+
     @Test
     void read_nonExistingId_throwsException() {
         // given
@@ -1,21 +1,17 @@
 package dev.breakin.service.techblog.view;
 
 import dev.breakin.infra.techblog.repository.TechBlogRepository;
-import dev.breakin.model.techblog.TechBlogIdentity;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.lang.reflect.Field;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,17 +23,6 @@ class DefaultTechBlogViewMemoryTest {
     @InjectMocks
     private DefaultTechBlogViewMemory viewMemory;
 
-    private Map<Long, AtomicLong> viewCounts;
-
-    @BeforeEach
-    void setUp() throws Exception {
-        // Reflection을 사용하여 private viewCounts 필드에 접근
-        Field field = DefaultTechBlogViewMemory.class.getDeclaredField("viewCounts");
-        field.setAccessible(true);
-        viewCounts = (Map<Long, AtomicLong>) field.get(viewMemory);
-        viewCounts.clear();
-    }
-
     @Test
     void countUp_validId_incrementsViewCount() {
         // given
@@ -45,10 +30,10 @@ class DefaultTechBlogViewMemoryTest {
 
         // when
         viewMemory.countUp(blogId);
+        viewMemory.flush();
 
         // then
-        assertTrue(viewCounts.containsKey(blogId));
-        assertEquals(1, viewCounts.get(blogId).get());
+        verify(techBlogRepository).increaseViewCounts(Map.of(blogId, 1L));
     }
 
     @Test
@@ -60,16 +45,19 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.countUp(blogId);
         viewMemory.countUp(blogId);
         viewMemory.countUp(blogId);
+        viewMemory.flush();
 
         // then
-        assertEquals(3, viewCounts.get(blogId).get());
+        verify(techBlogRepository).increaseViewCounts(Map.of(blogId, 3L));
     }
 
     @Test
     void countUp_nullId_doesNotThrowException() {
         // when & then
         assertDoesNotThrow(() -> viewMemory.countUp(null));
-        assertTrue(viewCounts.isEmpty());
+
+        viewMemory.flush();
+        verify(techBlogRepository, never()).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -82,57 +70,45 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.countUp(blogId1);
         viewMemory.countUp(blogId1);
         viewMemory.countUp(blogId2);
+        viewMemory.flush();
 
         // then
-        assertEquals(2, viewCounts.get(blogId1).get());
-        assertEquals(1, viewCounts.get(blogId2).get());
+        verify(techBlogRepository).increaseViewCounts(Map.of(blogId1, 2L, blogId2, 1L));
     }
 
     @Test
-    void flush_withViewCounts_callsRepositoryIncreaseViewCount() {
+    void flush_withViewCounts_callsRepositoryIncreaseViewCounts() {
         // given
         Long blogId = 1L;
         viewMemory.countUp(blogId);
         viewMemory.countUp(blogId);
         viewMemory.countUp(blogId);
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(any(TechBlogIdentity.class), anyLong());
+        doNothing().when(techBlogRepository).increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
 
         // then
-        verify(techBlogRepository).increaseViewCount(
-            eq(new TechBlogIdentity(blogId)),
-            eq(3L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        verify(techBlogRepository).increaseViewCounts(Map.of(blogId, 3L));
     }
 
     @Test
-    void flush_withMultipleBlogs_callsRepositoryForEach() {
+    void flush_withMultipleBlogs_callsRepositoryOnce() {
         // given
         Long blogId1 = 1L;
         Long blogId2 = 2L;
         viewMemory.countUp(blogId1);
         viewMemory.countUp(blogId1);
         viewMemory.countUp(blogId2);
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(any(TechBlogIdentity.class), anyLong());
+        doNothing().when(techBlogRepository).increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
 
-        // then
-        verify(techBlogRepository).increaseViewCount(
-            eq(new TechBlogIdentity(blogId1)),
-            eq(2L)
-        );
-        verify(techBlogRepository).increaseViewCount(
-            eq(new TechBlogIdentity(blogId2)),
-            eq(1L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        // then - 여러 건이어도 한 번의 일괄 UPDATE
+        verify(techBlogRepository, times(1)).increaseViewCounts(anyMap());
+        verify(techBlogRepository).increaseViewCounts(Map.of(blogId1, 2L, blogId2, 1L));
+        verify(techBlogRepository, never()).increaseViewCount(any(), anyLong());
     }
 
     @Test
@@ -144,11 +120,11 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.flush();
 
         // then
-        verify(techBlogRepository, never()).increaseViewCount(any(), anyLong());
+        verify(techBlogRepository, never()).increaseViewCounts(anyMap());
     }
 
     @Test
-    void flush_repositoryThrowsException_continuesProcessing() {
+    void flush_repositoryThrowsException_retriesOnNextFlush() {
         // given
         Long blogId1 = 1L;
         Long blogId2 = 2L;
@@ -156,25 +132,16 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.countUp(blogId2);
 
         doThrow(new RuntimeException("DB error"))
+            .doNothing()
             .when(techBlogRepository)
-            .increaseViewCount(eq(new TechBlogIdentity(blogId1)), anyLong());
-
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(eq(new TechBlogIdentity(blogId2)), anyLong());
+            .increaseViewCounts(anyMap());
 
         // when
         viewMemory.flush();
+        viewMemory.flush();
 
-        // then
-        verify(techBlogRepository).increaseViewCount(
-            eq(new TechBlogIdentity(blogId1)),
-            eq(1L)
-        );
-        verify(techBlogRepository).increaseViewCount(
-            eq(new TechBlogIdentity(blogId2)),
-            eq(1L)
-        );
-        assertTrue(viewCounts.isEmpty());
+        // then - 실패한 조회수는 메모리에 되돌려 다음 flush에서 다시 반영
+        verify(techBlogRepository, times(2)).increaseViewCounts(Map.of(blogId1, 1L, blogId2, 1L));
     }
 
     @Test
@@ -183,14 +150,13 @@ class DefaultTechBlogViewMemoryTest {
         viewMemory.countUp(1L);
         viewMemory.countUp(2L);
         viewMemory.countUp(3L);
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(any(TechBlogIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
+        viewMemory.flush();
 
-        // then
-        assertTrue(viewCounts.isEmpty());
+        // then - 두 번째 flush는 비어 있으므로 호출되지 않음
+        verify(techBlogRepository, times(1)).increaseViewCounts(anyMap());
     }
 
     @Test
@@ -199,14 +165,14 @@ class DefaultTechBlogViewMemoryTest {
         Long blogId = 1L;
         viewMemory.countUp(blogId);
         viewMemory.countUp(blogId);
-        doNothing().when(techBlogRepository)
-            .increaseViewCount(any(TechBlogIdentity.class), anyLong());
 
         // when
         viewMemory.flush();
         viewMemory.countUp(blogId);
+        viewMemory.flush();
 
         // then
-        assertEquals(1, viewCounts.get(blogId).get());
+        verify(techBlogRepository).increaseViewCounts(Map.of(blogId, 2L));
+        verify(techBlogRepository).increaseViewCounts(Map.of(blogId, 1L));
     }
 }
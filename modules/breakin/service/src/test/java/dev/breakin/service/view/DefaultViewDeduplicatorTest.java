@@ -0,0 +1,112 @@
+package dev.breakin.service.view;
+
+import dev.breakin.model.common.TargetType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefaultViewDeduplicatorTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private DefaultViewDeduplicator deduplicator(boolean enabled) {
+        ViewDedupProperties properties = new ViewDedupProperties();
+        properties.setEnabled(enabled);
+        properties.setWindow(Duration.ofMinutes(30));
+        properties.setGenerations(4);
+        properties.setExpectedInsertions(10_000);
+        return new DefaultViewDeduplicator(properties, registry, clock);
+    }
+
+    @Test
+    void shouldCount_sameViewerWithinWindow_suppressesRepeatedView() {
+        // given
+        DefaultViewDeduplicator deduplicator = deduplicator(true);
+
+        // when
+        boolean first = deduplicator.shouldCount("ip:10.0.0.1", TargetType.JOB, 1L);
+        boolean second = deduplicator.shouldCount("ip:10.0.0.1", TargetType.JOB, 1L);
+
+        // then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(new ViewDedupMetrics(1, 1), deduplicator.metrics());
+        assertEquals(0.5, deduplicator.metrics().suppressionRatio());
+        assertEquals(1.0, registry.get(DefaultViewDeduplicator.VIEWS).tag("result", "suppressed").counter().count());
+    }
+
+    @Test
+    void shouldCount_differentViewerOrTarget_countsEach() {
+        // given
+        DefaultViewDeduplicator deduplicator = deduplicator(true);
+
+        // when & then
+        assertTrue(deduplicator.shouldCount("ip:10.0.0.1", TargetType.JOB, 1L));
+        assertTrue(deduplicator.shouldCount("ip:10.0.0.2", TargetType.JOB, 1L));
+        assertTrue(deduplicator.shouldCount("ip:10.0.0.1", TargetType.JOB, 2L));
+        assertTrue(deduplicator.shouldCount("ip:10.0.0.1", TargetType.TECH_BLOG, 1L));
+    }
+
+    @Test
+    void shouldCount_afterWindowExpires_countsAgain() {
+        // given
+        DefaultViewDeduplicator deduplicator = deduplicator(true);
+        deduplicator.shouldCount("s:abc", TargetType.COMMUNITY_POST, 1L);
+
+        // when - window 안에서는 제외
+        clock.advance(Duration.ofMinutes(29));
+        boolean withinWindow = deduplicator.shouldCount("s:abc", TargetType.COMMUNITY_POST, 1L);
+
+        // window + rotation 주기가 지나면 다시 집계
+        clock.advance(Duration.ofMinutes(11));
+        boolean afterWindow = deduplicator.shouldCount("s:abc", TargetType.COMMUNITY_POST, 1L);
+
+        // then
+        assertFalse(withinWindow);
+        assertTrue(afterWindow);
+    }
+
+    @Test
+    void shouldCount_nullViewerOrDisabled_alwaysCounts() {
+        // given
+        DefaultViewDeduplicator enabled = deduplicator(true);
+        DefaultViewDeduplicator disabled = deduplicator(false);
+
+        // when & then
+        assertTrue(enabled.shouldCount(null, TargetType.JOB, 1L));
+        assertTrue(enabled.shouldCount(null, TargetType.JOB, 1L));
+        assertTrue(disabled.shouldCount("ip:10.0.0.1", TargetType.JOB, 1L));
+        assertTrue(disabled.shouldCount("ip:10.0.0.1", TargetType.JOB, 1L));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.breakin.service.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedViewCounterTest {
+
+    private static final int THREADS = 64;
+
+    @Test
+    void increment_singleThread_accumulatesPerKey() {
+        // given
+        StripedViewCounter counter = new StripedViewCounter();
+
+        // when
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.add(2L, 5L);
+
+        // then
+        Map<Long, Long> drained = counter.drain();
+        assertEquals(2L, drained.get(1L));
+        assertEquals(5L, drained.get(2L));
+        assertTrue(counter.drain().isEmpty());
+    }
+
+    @Test
+    void increment_beyondCapacity_keepsExactCountsAndGrows() {
+        // given - stripe당 용량이 매우 작은 카운터
+        StripedViewCounter counter = new StripedViewCounter(1, 4);
+
+        // when
+        for (long key = 1; key <= 100; key++) {
+            counter.add(key, key);
+        }
+        Map<Long, Long> first = counter.drain();
+        for (long key = 1; key <= 100; key++) {
+            counter.increment(key);
+        }
+        Map<Long, Long> second = counter.drain();
+
+        // then
+        assertEquals(100, first.size());
+        for (long key = 1; key <= 100; key++) {
+            assertEquals(key, first.get(key));
+            assertEquals(1L, second.get(key));
+        }
+    }
+
+    @Test
+    void increment_64Threads_countsExactly() throws Exception {
+        // given
+        StripedViewCounter counter = new StripedViewCounter();
+        int keys = 50;
+        int incrementsPerThread = 20_000;
+
+        // when
+        runConcurrently(() -> {
+            for (int i = 0; i < incrementsPerThread; i++) {
+                counter.increment(i % keys);
+            }
+        }, null);
+
+        // then
+        Map<Long, Long> drained = counter.drain();
+        long expectedPerKey = (long) THREADS * incrementsPerThread / keys;
+        assertEquals(keys, drained.size());
+        drained.values().forEach(count -> assertEquals(expectedPerKey, count));
+    }
+
+    @Test
+    void drain_concurrentWithIncrements_losesNothing() throws Exception {
+        // given
+        StripedViewCounter counter = new StripedViewCounter(THREADS, 16);
+        int keys = 1_000;
+        int incrementsPerThread = 20_000;
+        Map<Long, Long> total = new HashMap<>();
+
+        // when - 증가가 진행되는 동안 drain을 반복
+        runConcurrently(() -> {
+            for (int i = 0; i < incrementsPerThread; i++) {
+                counter.increment(i % keys);
+            }
+        }, () -> counter.drain().forEach((key, count) -> total.merge(key, count, Long::sum)));
+        counter.drain().forEach((key, count) -> total.merge(key, count, Long::sum));
+
+        // then
+        long expectedPerKey = (long) THREADS * incrementsPerThread / keys;
+        assertEquals(keys, total.size());
+        total.values().forEach(count -> assertEquals(expectedPerKey, count));
+    }
+
+    /**
+     * 64개 스레드에서 동시에 task를 실행하고, 실행되는 동안 whileRunning을 반복 호출
+     */
+    private void runConcurrently(Runnable task, Runnable whileRunning) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        if (whileRunning != null) {
+            while (done.getCount() > 0) {
+                whileRunning.run();
+            }
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,104 @@
+package dev.breakin.service.view;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewCountJournalTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void attachJournal_afterCrash_replaysUnflushedIncrements() {
+        // given - 증가분을 기록한 뒤 flush 없이 종료
+        StripedViewCounter counter = journaledCounter();
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.add(2L, 5L);
+        counter.closeJournal();
+
+        // when
+        StripedViewCounter restarted = journaledCounter();
+
+        // then
+        assertEquals(Map.of(1L, 2L, 2L, 5L), restarted.drain());
+        restarted.closeJournal();
+    }
+
+    @Test
+    void drainTo_successfulSink_truncatesJournal() {
+        // given
+        StripedViewCounter counter = journaledCounter();
+        counter.increment(1L);
+
+        // when
+        counter.drainTo(snapshot -> assertEquals(Map.of(1L, 1L), snapshot));
+        counter.closeJournal();
+
+        // then - 반영이 끝난 증가분은 재생되지 않음
+        StripedViewCounter restarted = journaledCounter();
+        assertTrue(restarted.drain().isEmpty());
+        restarted.closeJournal();
+    }
+
+    @Test
+    void drainTo_failingSink_keepsIncrementsInJournal() {
+        // given
+        StripedViewCounter counter = journaledCounter();
+        counter.add(1L, 3L);
+
+        // when - DB 반영 실패 후 종료
+        assertThrows(IllegalStateException.class, () -> counter.drainTo(snapshot -> {
+            throw new IllegalStateException("DB error");
+        }));
+        counter.closeJournal();
+
+        // then
+        StripedViewCounter restarted = journaledCounter();
+        assertEquals(Map.of(1L, 3L), restarted.drain());
+        restarted.closeJournal();
+    }
+
+    @Test
+    void attachJournal_replayedCountsFlushed_deletesReplayedFiles() {
+        // given
+        StripedViewCounter counter = journaledCounter();
+        counter.increment(1L);
+        counter.closeJournal();
+
+        // when - 재생된 증가분을 반영한 뒤 다시 재기동
+        StripedViewCounter restarted = journaledCounter();
+        restarted.drain();
+        restarted.increment(2L);
+        restarted.closeJournal();
+
+        // then - 이미 반영한 1L은 다시 재생되지 않음
+        StripedViewCounter again = journaledCounter();
+        assertEquals(Map.of(2L, 1L), again.drain());
+        again.closeJournal();
+    }
+
+    @Test
+    void open_directoryAlreadyInUse_throwsException() {
+        // given
+        ViewCountJournal journal = ViewCountJournal.open(directory, "job", SEGMENT_BYTES, 100);
+
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> ViewCountJournal.open(directory, "job", SEGMENT_BYTES, 100));
+        journal.close();
+    }
+
+    private StripedViewCounter journaledCounter() {
+        StripedViewCounter counter = new StripedViewCounter(4, 16);
+        counter.attachJournal(ViewCountJournal.open(directory, "job", SEGMENT_BYTES, 100));
+        return counter;
+    }
+}
@@ -12,18 +12,57 @@ CREATE TABLE IF NOT EXISTS outbox_events (
     target_type VARCHAR(50) NOT NULL,      -- JOB, TECH_BLOG, COMMUNITY_POST
     target_id BIGINT NOT NULL,
     update_type VARCHAR(50) NOT NULL,      -- CREATED, UPDATED, POPULARITY_ONLY, DELETED
-    status VARCHAR(20) NOT NULL,           -- WAIT, PROCESSING, COMPLETED, FAILED
+    status VARCHAR(20) NOT NULL,           -- WAIT, PROCESSING, COMPLETED, FAILED, DEAD_LETTER
     retry_count INT NOT NULL DEFAULT 0,
     error_message TEXT,
     updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
-    processed_at TIMESTAMP WITH TIME ZONE
+    processed_at TIMESTAMP WITH TIME ZONE,
+    lease_owner VARCHAR(150),              -- claim token of the worker processing the event
+    lease_expires_at TIMESTAMP WITH TIME ZONE,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL  -- not picked up before this time (retry backoff)
 );
 
--- Index for efficient polling of pending events
-CREATE INDEX IF NOT EXISTS idx_outbox_status_updated ON outbox_events(status, updated_at);
+-- Index for polling due events: claims query one status and target type at a time (equalities),
+-- so each query is an ordered range scan on next_attempt_at that stops at the limit
+CREATE INDEX IF NOT EXISTS idx_outbox_due ON outbox_events(status, target_type, next_attempt_at, update_type);
+
+-- Index for reclaiming expired leases
+CREATE INDEX IF NOT EXISTS idx_outbox_status_lease ON outbox_events(status, lease_expires_at);
 
 -- Index for looking up events by target
 CREATE INDEX IF NOT EXISTS idx_outbox_target ON outbox_events(target_type, target_id);
 
 -- Index for filtering by update type
 CREATE INDEX IF NOT EXISTS idx_outbox_update_type ON outbox_events(update_type, status);
+
+-- Index for removing processed events past their retention (keyset on processed_at, id)
+CREATE INDEX IF NOT EXISTS idx_outbox_status_processed ON outbox_events(status, processed_at);
+
+-- ========================================
+-- Outbox Events Archive 테이블
+-- ========================================
+-- 보관 기간이 지난 COMPLETED / DEAD_LETTER 이벤트 (breakin.outbox.retention.archive 사용 시)
+CREATE TABLE IF NOT EXISTS outbox_events_archive (
+    id BIGINT PRIMARY KEY,
+    target_type VARCHAR(50) NOT NULL,
+    target_id BIGINT NOT NULL,
+    update_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    retry_count INT NOT NULL,
+    error_message TEXT,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- ========================================
+-- Outbox Consumer Offsets 테이블
+-- ========================================
+-- CHANGE_LOG 모드에서 consumer별로 처리한 마지막 이벤트 ID
+CREATE TABLE IF NOT EXISTS outbox_consumer_offsets (
+    consumer_name VARCHAR(100) PRIMARY KEY,   -- es-sync-job, cache-invalidation, ...
+    last_event_id BIGINT NOT NULL,
+    failed_event_id BIGINT,                   -- event the consumer is failing at (retried from it)
+    failed_attempts INT NOT NULL DEFAULT 0,   -- consecutive failed attempts at failed_event_id
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
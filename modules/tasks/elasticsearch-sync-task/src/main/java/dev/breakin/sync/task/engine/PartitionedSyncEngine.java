@@ -0,0 +1,147 @@
+package dev.breakin.sync.task.engine;
+
+import dev.breakin.model.common.TargetType;
+import dev.breakin.outbox.model.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 이벤트를 (targetType, targetId) 해시로 파티션에 나누어 파티션마다 가상 스레드 하나로 처리하는 동기화 엔진
+ * <p>
+ * 같은 대상의 이벤트는 항상 같은 파티션에서 들어온 순서대로 처리되고, 다른 파티션끼리는 병렬로 처리됩니다.
+ * 파티션 큐는 크기가 제한되어 있어 가득 차면 {@link #submit}이 자리가 날 때까지 대기합니다 (backpressure).
+ * 파티션은 큐에 쌓인 이벤트를 최대 maxBatchSize개씩 모아 handler를 한 번 호출합니다.
+ */
+@Slf4j
+public class PartitionedSyncEngine {
+
+    private final String name;
+    private final int maxBatchSize;
+    // 이벤트 묶음을 처리하고 실패한 이벤트 ID별 실패 사유를 반환
+    private final Function<List<OutboxEvent>, Map<Long, String>> handler;
+    private final List<BlockingQueue<Pending>> queues;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public PartitionedSyncEngine(String name, int parallelism, int queueCapacity, int maxBatchSize,
+                                 Function<List<OutboxEvent>, Map<Long, String>> handler) {
+        if (parallelism < 1 || queueCapacity < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("parallelism, queueCapacity and maxBatchSize must be positive");
+        }
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.handler = handler;
+        this.queues = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < queues.size(); i++) {
+            BlockingQueue<Pending> queue = queues.get(i);
+            workers.add(Thread.ofVirtual()
+                    .name(name + "-" + i)
+                    .start(() -> loop(queue)));
+        }
+        log.info("Started sync engine: name={}, partitions={}, maxBatchSize={}", name, queues.size(), maxBatchSize);
+    }
+
+    /**
+     * 처리 중인 묶음은 중단하고, 큐에 남은 이벤트는 취소합니다.
+     * (STATUS 모드에서는 lease가 만료된 뒤 다시 선점됨)
+     */
+    public synchronized void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+
+        List<Pending> remaining = new ArrayList<>();
+        queues.forEach(queue -> queue.drainTo(remaining));
+        remaining.forEach(pending -> pending.result().cancel(false));
+        log.info("Stopped sync engine: name={}, cancelled={}", name, remaining.size());
+    }
+
+    /**
+     * 이벤트를 대상의 파티션 큐에 추가 (큐가 가득 차면 자리가 날 때까지 대기)
+     *
+     * @return 처리 결과 - 실패하면 실패 사유, 성공하면 null
+     */
+    public CompletableFuture<String> submit(OutboxEvent event) throws InterruptedException {
+        if (!running) {
+            throw new IllegalStateException("Sync engine is not running: " + name);
+        }
+        Pending pending = new Pending(event, new CompletableFuture<>());
+        queues.get(partitionOf(event.getTargetType(), event.getTargetId(), queues.size())).put(pending);
+        return pending.result();
+    }
+
+    /**
+     * 모든 파티션 큐의 남은 자리 수
+     */
+    public int remainingCapacity() {
+        return queues.stream().mapToInt(BlockingQueue::remainingCapacity).sum();
+    }
+
+    /**
+     * 처리 결과를 기다림
+     *
+     * @return 실패 사유, 성공하면 null (엔진이 중지되어 취소된 경우도 실패로 반환)
+     */
+    public static String await(CompletableFuture<String> result) {
+        try {
+            return result.join();
+        } catch (CancellationException e) {
+            return "sync engine stopped";
+        }
+    }
+
+    static int partitionOf(TargetType targetType, Long targetId, int partitions) {
+        int hash = 31 * targetType.name().hashCode() + Long.hashCode(targetId);
+        return Math.floorMod(hash ^ (hash >>> 16), partitions);
+    }
+
+    private void loop(BlockingQueue<Pending> queue) {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    private void process(List<Pending> batch) {
+        List<OutboxEvent> events = batch.stream().map(Pending::event).toList();
+        Map<Long, String> failures;
+        try {
+            failures = handler.apply(events);
+        } catch (Exception e) {
+            log.error("Sync handler failed: name={}, events={}", name, events.size(), e);
+            String error = String.valueOf(e.getMessage());
+            batch.forEach(pending -> pending.result().complete(error));
+            return;
+        }
+        batch.forEach(pending -> pending.result().complete(failures.get(pending.event().getId())));
+    }
+
+    private record Pending(OutboxEvent event, CompletableFuture<String> result) {
+    }
+}
@@ -0,0 +1,31 @@
+package dev.breakin.sync.task.task.es;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ES 동기화 엔진 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.es.sync")
+@Getter
+@Setter
+public class EsSyncProperties {
+
+    /**
+     * 파티션 수 (동시에 처리하는 대상 수), 파티션마다 DB 커넥션과 _bulk 요청을 하나씩 사용
+     */
+    private int parallelism = 4;
+
+    /**
+     * 파티션별 대기 큐 크기, 가득 차면 새 이벤트 선점을 멈춤
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * 파티션이 한 번에 처리하는 최대 이벤트 수 (하나의 _bulk 요청)
+     */
+    private int maxBatchSize = 100;
+}
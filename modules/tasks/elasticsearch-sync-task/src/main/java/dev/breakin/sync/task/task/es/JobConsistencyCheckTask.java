@@ -0,0 +1,119 @@
+package dev.breakin.sync.task.task.es;
+
+import dev.breakin.elasticsearch.api.job.JobIndexChecksumReader;
+import dev.breakin.infra.job.repository.JobRangeChecksum;
+import dev.breakin.infra.job.repository.JobRepository;
+import dev.breakin.model.common.TargetType;
+import dev.breakin.outbox.command.RecordOutboxEventCommand;
+import dev.breakin.outbox.recorder.OutboxEventRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * jobs 테이블과 ES Job 인덱스의 정합성 검사 및 복구
+ * <p>
+ * Job ID를 rangeSize 구간으로 나누어 구간별 체크섬(개수, ID 합, updated_at 합)을
+ * DB는 (id, updated_at)을 읽어 Java에서 합산하고, ES는 composite aggregation으로 구하여 비교합니다.
+ * 체크섬이 다른 구간만 Job별로 다시 비교하여, 다른 Job에 대해 outbox 복구 이벤트를 기록합니다.
+ * (DB에만 있거나 다르면 UPDATED, ES에만 있으면 DELETED)
+ * <p>
+ * 전송량과 Job별 비교는 불일치 구간 수에 비례하며, 실행마다 spansPerRun개 span만 비교하고
+ * 다음 실행에서 이어서 비교합니다 (끝에 도달하면 처음부터 다시).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobConsistencyCheckTask {
+
+    private final JobRepository jobRepository;
+    private final JobIndexChecksumReader checksumReader;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final JobConsistencyProperties properties;
+
+    // 다음 실행에서 비교를 시작할 Job ID
+    private final AtomicLong cursor = new AtomicLong(0);
+
+    public void run() {
+        long maxId = Math.max(jobRepository.findMaxId(), checksumReader.maxJobId());
+        if (maxId == 0) {
+            log.debug("No jobs to check");
+            return;
+        }
+
+        int rangeSize = properties.getRangeSize();
+        long spanSize = (long) rangeSize * properties.getRangesPerSpan();
+        long cutoffSecond = Instant.now().minus(properties.getGracePeriod()).getEpochSecond();
+
+        long startId = cursor.get() > maxId ? 0 : cursor.get();
+        long from = startId;
+        int checkedRanges = 0;
+        int mismatchedRanges = 0;
+        List<RecordOutboxEventCommand> repairs = new ArrayList<>();
+
+        for (int span = 0; span < properties.getSpansPerRun() && from <= maxId; span++) {
+            long to = from + spanSize;
+            Map<Long, JobRangeChecksum> db = jobRepository.findRangeChecksums(from, to, rangeSize);
+            Map<Long, JobRangeChecksum> es = checksumReader.rangeChecksums(from, to, rangeSize);
+
+            for (long rangeStart : union(db.keySet(), es.keySet())) {
+                if (!Objects.equals(db.get(rangeStart), es.get(rangeStart))) {
+                    mismatchedRanges++;
+                    repairs.addAll(drillDown(rangeStart, rangeStart + rangeSize, cutoffSecond));
+                }
+            }
+            checkedRanges += properties.getRangesPerSpan();
+            from = to;
+        }
+
+        cursor.set(from > maxId ? 0 : from);
+
+        if (!repairs.isEmpty()) {
+            outboxEventRecorder.recordAll(repairs);
+        }
+
+        log.info("Job consistency check completed: ids={}..{}, checkedRanges={}, mismatchedRanges={}, repairEvents={}",
+                startId, from - 1, checkedRanges, mismatchedRanges, repairs.size());
+    }
+
+    /**
+     * 불일치 구간의 Job별 체크섬을 비교하여 복구 이벤트 생성
+     */
+    private List<RecordOutboxEventCommand> drillDown(long fromId, long toId, long cutoffSecond) {
+        Map<Long, JobRangeChecksum> db = jobRepository.findRangeChecksums(fromId, toId, 1);
+        Map<Long, JobRangeChecksum> es = checksumReader.rangeChecksums(fromId, toId, 1);
+
+        List<RecordOutboxEventCommand> repairs = new ArrayList<>();
+        for (long jobId : union(db.keySet(), es.keySet())) {
+            JobRangeChecksum dbJob = db.get(jobId);
+            JobRangeChecksum esJob = es.get(jobId);
+            if (Objects.equals(dbJob, esJob)) {
+                continue;
+            }
+
+            if (dbJob == null) {
+                repairs.add(RecordOutboxEventCommand.deleted(TargetType.JOB, jobId));
+            } else if (dbJob.updatedAtSum() < cutoffSecond) {
+                repairs.add(RecordOutboxEventCommand.updated(TargetType.JOB, jobId));
+            }
+        }
+
+        log.debug("Drilled down mismatched range: ids={}..{}, repairs={}", fromId, toId - 1, repairs.size());
+        return repairs;
+    }
+
+    private static Set<Long> union(Set<Long> a, Set<Long> b) {
+        Set<Long> union = new TreeSet<>(a);
+        union.addAll(b);
+        return union;
+    }
+}
@@ -0,0 +1,38 @@
+package dev.breakin.sync.task.task.es;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * DB ↔ ES 정합성 검사 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.es.consistency")
+@Getter
+@Setter
+public class JobConsistencyProperties {
+
+    /**
+     * 체크섬을 비교하는 Job ID 구간 크기, 불일치하면 이 구간만 Job별로 다시 비교
+     */
+    private int rangeSize = 1000;
+
+    /**
+     * 한 번의 DB 조회와 ES 집계로 비교하는 구간 수 (ES 버킷은 페이지 단위로 읽으므로 max_buckets에 제한되지 않음)
+     */
+    private int rangesPerSpan = 100;
+
+    /**
+     * 한 번 실행할 때 비교하는 최대 span 수, 나머지는 다음 실행에서 이어서 비교
+     */
+    private int spansPerRun = 10;
+
+    /**
+     * 최근에 수정된 Job은 동기화 중일 수 있으므로 이 시간이 지난 뒤에만 복구 대상으로 판단
+     */
+    private Duration gracePeriod = Duration.ofMinutes(5);
+}
@@ -1,38 +1,107 @@
 package dev.breakin.sync.task.task.es;
 
 import dev.breakin.elasticsearch.api.job.JobIndexer;
+import dev.breakin.elasticsearch.api.job.JobSearchCache;
 import dev.breakin.elasticsearch.document.JobDoc;
+import dev.breakin.elasticsearch.document.JobIndexState;
+import dev.breakin.elasticsearch.document.JobPopularityDoc;
+import dev.breakin.elasticsearch.document.JobVersionDoc;
+import dev.breakin.elasticsearch.internal.indexer.BulkIndexResult;
+import dev.breakin.elasticsearch.internal.indexer.BulkItemResult;
 import dev.breakin.elasticsearch.mapper.JobDocMapper;
 import dev.breakin.infra.job.repository.JobRepository;
+import dev.breakin.model.common.Popularity;
 import dev.breakin.model.common.TargetType;
 import dev.breakin.model.job.Job;
 import dev.breakin.model.job.JobIdentity;
-import dev.breakin.outbox.command.FindPendingEventsCommand;
+import dev.breakin.outbox.command.ClaimPendingEventsCommand;
+import dev.breakin.outbox.command.ReadChangeLogCommand;
+import dev.breakin.outbox.config.OutboxProperties;
+import dev.breakin.outbox.model.BackoffPolicy;
+import dev.breakin.outbox.model.ChangeLogBatch;
+import dev.breakin.outbox.model.EventStatus;
 import dev.breakin.outbox.model.OutboxEvent;
+import dev.breakin.outbox.model.UpdateType;
+import dev.breakin.outbox.reader.OutboxChangeLogReader;
 import dev.breakin.outbox.reader.OutboxEventReader;
+import dev.breakin.outbox.signal.OutboxWakeupSignal;
+import dev.breakin.sync.task.engine.PartitionedSyncEngine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JobEsSyncTask {
 
+    private static final int BATCH_SIZE = 100;
+    // 처리 중 워커가 죽으면 이 시간이 지난 뒤 다른 워커가 다시 가져감
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+    private static final String LEASE_OWNER = ManagementFactory.getRuntimeMXBean().getName();
+    // 실패한 이벤트는 지수 백오프 후 재시도, 8회 실패 시 DEAD_LETTER
+    private static final BackoffPolicy BACKOFF_POLICY = BackoffPolicy.defaults();
+    // CHANGE_LOG 모드에서 이 태스크의 offset을 구분하는 consumer 이름
+    private static final String CONSUMER = "es-sync-job";
+
     private final JobIndexer jobIndexer;
     private final JobRepository jobRepository;
     private final OutboxEventReader outboxEventReader;
     private final JobDocMapper jobDocMapper;
+    private final OutboxWakeupSignal outboxWakeupSignal;
+    private final OutboxChangeLogReader outboxChangeLogReader;
+    private final OutboxProperties outboxProperties;
+    private final EsSyncProperties syncProperties;
+    private final JobSearchCache jobSearchCache;
+
+    private PartitionedSyncEngine engine;
+
+    // 전체 인덱싱 대상 중 ES 문서와 같아서 생략한 비율 (로그용)
+    private final AtomicLong indexRequested = new AtomicLong();
+    private final AtomicLong unchangedSkipped = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        engine = new PartitionedSyncEngine(CONSUMER, syncProperties.getParallelism(),
+                syncProperties.getQueueCapacity(), syncProperties.getMaxBatchSize(), this::handle);
+        engine.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        engine.stop();
+    }
 
+    /**
+     * 미처리 이벤트를 선점하여 파티션별 동기화 엔진에 넘김
+     * <p>
+     * 같은 Job의 이벤트는 같은 파티션에서 순서대로, 다른 Job끼리는 병렬로 처리되며
+     * 처리 결과(완료/실패 상태)는 각 파티션이 반영합니다. 파티션 큐가 가득 차면 자리가 날 때까지 대기합니다.
+     */
     public void run() {
         log.info("Starting Job ES sync task");
 
-        // 1. 미처리 이벤트 조회 (JOB 타입만, 최대 100개)
-        List<OutboxEvent> events = outboxEventReader.findPending(
-                FindPendingEventsCommand.ofType(100, TargetType.JOB)
+        if (outboxProperties.isChangeLog()) {
+            runChangeLog();
+            return;
+        }
+
+        // 1. 미처리 이벤트 선점 (JOB 타입만, 최대 100개) - 다른 워커와 같은 이벤트를 중복 처리하지 않음
+        List<OutboxEvent> events = outboxEventReader.claim(
+                ClaimPendingEventsCommand.ofType(BATCH_SIZE, TargetType.JOB, LEASE_OWNER, LEASE_DURATION)
         );
 
         if (events.isEmpty()) {
@@ -40,39 +109,341 @@ public class JobEsSyncTask {
             return;
         }
 
-        log.info("Found {} pending events", events.size());
+        log.info("Claimed {} pending events", events.size());
+
+        // 2. 대상별 파티션에 전달 (파티션 큐가 가득 차면 대기 - backpressure)
+        try {
+            for (OutboxEvent event : events) {
+                engine.submit(event);
+            }
+        } catch (InterruptedException e) {
+            // 넘기지 못한 이벤트는 lease 만료 후 다시 선점됨
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        // 가득 찬 배치면 남은 이벤트가 있을 수 있으므로 대기 없이 다음 주기 실행
+        if (events.size() == BATCH_SIZE) {
+            outboxWakeupSignal.signal();
+        }
+    }
+
+    /**
+     * CHANGE_LOG 모드: offset 이후 이벤트를 파티션별로 병렬 처리하고 처리한 위치까지 offset 커밋
+     * <p>
+     * 이벤트 상태는 변경하지 않으며, 실패한 이벤트 직전까지만 커밋하여 다음 주기에 그 이벤트부터 다시 처리합니다.
+     * 같은 이벤트에서 BACKOFF_POLICY의 최대 시도 횟수만큼 실패하면 DEAD_LETTER로 기록하고 그 이후까지 커밋합니다.
+     */
+    private void runChangeLog() {
+        ChangeLogBatch batch = outboxChangeLogReader.read(
+                ReadChangeLogCommand.ofType(CONSUMER, BATCH_SIZE, TargetType.JOB)
+        );
+        if (!batch.hasProgress()) {
+            log.debug("No new change log events to process");
+            return;
+        }
 
-        // 2. 각 이벤트를 하나씩 처리 & 상태 업데이트
+        // offset은 순서대로만 커밋할 수 있으므로 배치 전체가 끝날 때까지 대기
+        List<CompletableFuture<String>> results = new ArrayList<>(batch.getEvents().size());
+        try {
+            for (OutboxEvent event : batch.getEvents()) {
+                results.add(engine.submit(event));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        long committable = batch.getNextOffset();
+        for (int i = 0; i < results.size(); i++) {
+            OutboxEvent event = batch.getEvents().get(i);
+            String error = PartitionedSyncEngine.await(results.get(i));
+            if (error == null) {
+                continue;
+            }
+
+            // 실패 이벤트 직전까지 커밋해 두고(consumer 등록 포함) 이 이벤트에서의 연속 실패 횟수를 기록
+            outboxChangeLogReader.commit(CONSUMER, event.getId() - 1);
+            int attempts = outboxChangeLogReader.recordFailure(CONSUMER, event.getId());
+            if (BACKOFF_POLICY.isExhausted(attempts)) {
+                // 계속 거절되는 이벤트가 동기화 전체를 멈추지 않도록 DEAD_LETTER로 남기고 건너뜀 (STATUS 모드와 같은 시도 횟수)
+                log.error("Change log event failed {} times, moving to dead letter: eventId={}, error={}",
+                        attempts, event.getId(), error);
+                outboxChangeLogReader.deadLetter(event, attempts, error);
+                continue;
+            }
+
+            log.error("Failed to process change log event, retrying from it next cycle: eventId={}, attempts={}, error={}",
+                    event.getId(), attempts, error);
+            committable = event.getId() - 1;
+            break;
+        }
+
+        outboxChangeLogReader.commit(CONSUMER, committable);
+
+        // 끝까지 처리했다면 남은 이벤트가 있을 수 있으므로 대기 없이 다음 주기 실행
+        if (committable == batch.getNextOffset()) {
+            outboxWakeupSignal.signal();
+        }
+
+        log.info("Job ES change log sync completed: offset={} -> {}, events={}",
+                batch.getOffset(), committable, batch.getEvents().size());
+    }
+
+    /**
+     * 파티션 하나가 모은 이벤트 묶음 처리 - 인덱싱 후 STATUS 모드면 완료/실패 상태를 한 번의 batch update로 반영
+     *
+     * @return 실패한 이벤트 ID별 실패 사유
+     */
+    private Map<Long, String> handle(List<OutboxEvent> events) {
+        Map<Long, String> failures = indexEvents(events);
+        if (!outboxProperties.isChangeLog()) {
+            updateStatuses(events, failures);
+        }
+        return failures;
+    }
+
+    private void updateStatuses(List<OutboxEvent> events, Map<Long, String> failures) {
+        List<OutboxEvent> processed = new ArrayList<>(events.size());
         int successCount = 0;
         int failCount = 0;
 
         for (OutboxEvent event : events) {
-            try {
-                processEvent(event);
-                outboxEventReader.update(event.markAsCompleted());
+            String error = failures.get(event.getId());
+            if (error == null) {
+                processed.add(event.markAsCompleted());
                 successCount++;
-            } catch (Exception e) {
-                log.error("Failed to process event: eventId={}, error={}",
-                        event.getId(), e.getMessage(), e);
-                outboxEventReader.update(event.markAsFailed(e.getMessage()));
+            } else {
+                log.error("Failed to process event: eventId={}, error={}", event.getId(), error);
+                OutboxEvent failed = event.markAsFailed(error, BACKOFF_POLICY);
+                if (failed.getStatus() == EventStatus.DEAD_LETTER) {
+                    log.warn("Event moved to dead letter: eventId={}, attempts={}",
+                            event.getId(), failed.getRetryCount());
+                }
+                processed.add(failed);
                 failCount++;
             }
         }
 
+        outboxEventReader.updateBatch(processed);
+
         log.info("Job ES sync completed: success={}, failed={}", successCount, failCount);
     }
 
-    private void processEvent(OutboxEvent event) {
-        // Job 조회
-        Job job = jobRepository.findById(new JobIdentity(event.getTargetId()))
-                .orElseThrow(() -> new IllegalStateException("Job not found: " + event.getTargetId()));
+    /**
+     * 이벤트 대상 Job을 _bulk 요청으로 인덱싱
+     * <p>
+     * 같은 Job에 대한 이벤트가 여러 개여도 한 번만 인덱싱합니다 (항상 최신 상태를 읽으므로).
+     * 인기도 변경(POPULARITY_ONLY) 이벤트만 있는 Job은 인기도 필드만 부분 업데이트하고,
+     * 다른 변경이 하나라도 있으면 전체 문서를 다시 인덱싱합니다.
+     * 삭제 여부는 이벤트 종류가 아니라 조회한 DB 상태로 판단하여, DB에 없거나 soft delete된 Job만 ES 문서를 삭제합니다.
+     * 문서를 인덱싱하거나 삭제했다면 검색 결과 캐시를 무효화합니다.
+     *
+     * @return 실패한 이벤트 ID별 실패 사유 (성공한 이벤트는 포함되지 않음)
+     */
+    private Map<Long, String> indexEvents(List<OutboxEvent> events) {
+        Map<Long, String> failures = new HashMap<>();
 
-        // JobDoc 변환
-        JobDoc jobDoc = jobDocMapper.toDoc(job);
+        Map<Long, List<OutboxEvent>> eventsByJobId = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            eventsByJobId.computeIfAbsent(event.getTargetId(), id -> new ArrayList<>()).add(event);
+        }
+
+        Map<Long, List<OutboxEvent>> fullEvents = new LinkedHashMap<>();
+        Map<Long, List<OutboxEvent>> popularityEvents = new LinkedHashMap<>();
+        Map<Long, List<OutboxEvent>> deleteEvents = new LinkedHashMap<>();
+        eventsByJobId.forEach((jobId, jobEvents) -> {
+            // DELETED도 전체 인덱싱 대상으로 보내고, 삭제 여부는 조회한 DB 상태로 결정
+            // (같은 배치에서 삭제 후 복구된 Job이 이벤트 순서와 관계없이 인덱스에 남도록)
+            boolean popularityOnly = jobEvents.stream()
+                    .allMatch(event -> event.getUpdateType() == UpdateType.POPULARITY_ONLY);
+            (popularityOnly ? popularityEvents : fullEvents).put(jobId, jobEvents);
+        });
 
-        // ES 인덱싱
-        jobIndexer.indexOne(jobDoc);
+        // 아직 인덱싱되지 않은 문서는 부분 업데이트할 수 없으므로 전체 인덱싱으로 전환
+        fullEvents.putAll(updatePopularities(popularityEvents, deleteEvents, failures));
+        int written = indexJobs(fullEvents, deleteEvents, failures);
+        written += deleteJobs(deleteEvents, failures);
+
+        if (written > 0) {
+            invalidateSearchCache();
+        }
+        return failures;
+    }
+
+    /**
+     * 검색 결과 캐시의 generation 증가 - 실패해도 캐시 TTL이 지나면 반영되므로 이벤트는 실패 처리하지 않음
+     * (인기도만 바뀐 경우는 무효화하지 않고 TTL로 반영)
+     */
+    private void invalidateSearchCache() {
+        try {
+            jobSearchCache.invalidate();
+        } catch (Exception e) {
+            log.warn("Failed to invalidate job search cache", e);
+        }
+    }
+
+    /**
+     * 인기도 컬럼만 조회하여 JobDoc의 popularity_* 필드만 _bulk update로 부분 업데이트
+     *
+     * @return ES에 문서가 없어 부분 업데이트하지 못한 Job의 이벤트 (Job ID별)
+     */
+    private Map<Long, List<OutboxEvent>> updatePopularities(Map<Long, List<OutboxEvent>> eventsByJobId,
+                                                            Map<Long, List<OutboxEvent>> deleteEvents,
+                                                            Map<Long, String> failures) {
+        Map<Long, List<OutboxEvent>> missing = new LinkedHashMap<>();
+        if (eventsByJobId.isEmpty()) {
+            return missing;
+        }
+
+        Map<Long, Popularity> popularities = jobRepository.findPopularitiesByIds(
+                eventsByJobId.keySet().stream().map(JobIdentity::new).toList());
+
+        Map<String, Long> jobIdByDocId = new HashMap<>();
+        List<JobPopularityDoc> docs = new ArrayList<>(eventsByJobId.size());
+        eventsByJobId.forEach((jobId, jobEvents) -> {
+            Popularity popularity = popularities.get(jobId);
+            if (popularity == null) {
+                // DB에서 삭제된 Job - 재시도해도 찾을 수 없으므로 ES 문서 삭제
+                deleteEvents.put(jobId, jobEvents);
+                return;
+            }
+            JobPopularityDoc doc = jobDocMapper.toPopularityDoc(jobId, popularity);
+            docs.add(doc);
+            jobIdByDocId.put(doc.getDocId(), jobId);
+        });
+
+        if (docs.isEmpty()) {
+            return missing;
+        }
+
+        BulkIndexResult result = jobIndexer.updateAll(docs);
+        for (BulkItemResult item : result.items()) {
+            if (!item.isFailed()) {
+                continue;
+            }
+            Long jobId = jobIdByDocId.get(item.docId());
+            List<OutboxEvent> jobEvents = eventsByJobId.getOrDefault(jobId, List.of());
+            if (item.isDocumentMissing()) {
+                missing.put(jobId, jobEvents);
+            } else {
+                jobEvents.forEach(event -> failures.put(event.getId(), item.error()));
+            }
+        }
+
+        log.debug("Updated job popularities in bulk: docs={}, failed={}, missing={}",
+                docs.size(), result.failureCount() - missing.size(), missing.size());
+        return missing;
+    }
+
+    /**
+     * Job 전체를 조회하여 JobDoc 전체를 _bulk index로 인덱싱
+     * <p>
+     * DB에 없거나 soft delete된 Job은 인덱싱하지 않고 deleteEvents로 넘겨 ES 문서를 삭제합니다.
+     * (삭제된 문서를 인덱스에 남겨두면 모든 검색이 deleted 필드로 걸러내야 함)
+     *
+     * @return 인덱싱 요청한 문서 수 (변경이 없어 생략한 문서 제외)
+     */
+    private int indexJobs(Map<Long, List<OutboxEvent>> eventsByJobId, Map<Long, List<OutboxEvent>> deleteEvents,
+                          Map<Long, String> failures) {
+        if (eventsByJobId.isEmpty()) {
+            return 0;
+        }
+
+        // Job 일괄 조회 (이벤트 수와 관계없이 고정된 쿼리 수) & JobDoc 변환
+        Map<Long, Job> jobs = new HashMap<>();
+        for (Job job : jobRepository.findAllByIds(eventsByJobId.keySet().stream().map(JobIdentity::new).toList())) {
+            jobs.put(job.getJobId(), job);
+        }
+
+        Map<String, List<OutboxEvent>> eventsByDocId = new HashMap<>();
+        List<JobDoc> docs = new ArrayList<>(eventsByJobId.size());
+        eventsByJobId.forEach((jobId, jobEvents) -> {
+            Job job = jobs.get(jobId);
+            if (job == null || Boolean.TRUE.equals(job.getIsDeleted())) {
+                deleteEvents.put(jobId, jobEvents);
+                return;
+            }
+            try {
+                JobDoc jobDoc = jobDocMapper.toDoc(job);
+                docs.add(jobDoc);
+                eventsByDocId.put(jobDoc.getDocId(), jobEvents);
+            } catch (Exception e) {
+                jobEvents.forEach(event -> failures.put(event.getId(), String.valueOf(e.getMessage())));
+            }
+        });
+
+        if (docs.isEmpty()) {
+            return 0;
+        }
+
+        // ES에 있는 문서와 내용(content_hash)이 같으면 전체 인덱싱 생략
+        // (updated_at이나 인기도만 다르면 그 필드만 부분 업데이트, 모두 같으면 생략)
+        Map<String, JobIndexState> indexed = jobIndexer.getSources(
+                docs.stream().map(JobDoc::getDocId).toList(), JobIndexState.FIELDS, JobIndexState.class);
+        List<JobDoc> changed = new ArrayList<>();
+        List<JobVersionDoc> versionChanged = new ArrayList<>();
+        for (JobDoc doc : docs) {
+            JobIndexState current = JobIndexState.of(doc);
+            JobIndexState stored = indexed.get(doc.getDocId());
+            if (stored == null || !Objects.equals(current.contentHash(), stored.contentHash())) {
+                changed.add(doc);
+            } else if (!current.equals(stored)) {
+                versionChanged.add(jobDocMapper.toVersionDoc(doc));
+            }
+        }
+        long skipped = docs.size() - changed.size();
+        long skippedTotal = unchangedSkipped.addAndGet(skipped);
+        long requestedTotal = indexRequested.addAndGet(docs.size());
+
+        if (!changed.isEmpty()) {
+            // ES 인덱싱 - 문서별 결과를 이벤트로 되돌림
+            collectFailures(jobIndexer.indexAll(changed), eventsByDocId, failures);
+        }
+        if (!versionChanged.isEmpty()) {
+            collectFailures(jobIndexer.updateAll(versionChanged), eventsByDocId, failures);
+        }
+
+        log.debug("Indexed jobs in bulk: docs={}, skippedUnchanged={}, versionOnly={}, skipRatio={}% ({}/{} since start)",
+                docs.size(), skipped, versionChanged.size(),
+                String.format("%.1f", skippedTotal * 100.0 / requestedTotal), skippedTotal, requestedTotal);
+        return changed.size() + versionChanged.size();
+    }
+
+    private static void collectFailures(BulkIndexResult result, Map<String, List<OutboxEvent>> eventsByDocId,
+                                        Map<Long, String> failures) {
+        for (BulkItemResult item : result.items()) {
+            if (item.isFailed()) {
+                eventsByDocId.getOrDefault(item.docId(), List.of())
+                        .forEach(event -> failures.put(event.getId(), item.error()));
+            }
+        }
+    }
+
+    /**
+     * Job 문서를 _bulk delete로 삭제
+     * <p>
+     * 이미 없는 문서는 성공으로 처리하므로 같은 삭제 이벤트를 여러 번 처리해도 안전합니다.
+     *
+     * @return 삭제 요청한 문서 수
+     */
+    private int deleteJobs(Map<Long, List<OutboxEvent>> eventsByJobId, Map<Long, String> failures) {
+        if (eventsByJobId.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<OutboxEvent>> eventsByDocId = new HashMap<>();
+        eventsByJobId.forEach((jobId, jobEvents) -> eventsByDocId.put(jobDocMapper.generateDocId(jobId), jobEvents));
+
+        BulkIndexResult result = jobIndexer.deleteAll(new ArrayList<>(eventsByDocId.keySet()));
+        for (BulkItemResult item : result.items()) {
+            if (item.isFailed()) {
+                eventsByDocId.getOrDefault(item.docId(), List.of())
+                        .forEach(event -> failures.put(event.getId(), item.error()));
+            }
+        }
 
-        log.debug("Successfully indexed job: jobId={}", job.getJobId());
+        log.debug("Deleted jobs in bulk: docs={}, failed={}", eventsByDocId.size(), result.failureCount());
+        return eventsByDocId.size();
     }
 }
@@ -0,0 +1,48 @@
+package dev.breakin.sync.task.task.es;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Job 인덱스 전체 재색인 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "breakin.es.reindex")
+@Getter
+@Setter
+public class JobReindexProperties {
+
+    /**
+     * DB에서 한 번에 읽어 하나의 _bulk 요청으로 인덱싱하는 Job 수
+     */
+    private int pageSize = 500;
+
+    /**
+     * 동시에 실행하는 _bulk 요청 수
+     */
+    private int parallelism = 4;
+
+    /**
+     * 새 인덱스의 primary shard 수
+     */
+    private int shards = 1;
+
+    /**
+     * 적재 완료 후 복구할 replica 수 (적재 중에는 0)
+     */
+    private int replicas = 1;
+
+    /**
+     * 적재 완료 후 복구할 refresh 주기 (적재 중에는 비활성화)
+     */
+    private String refreshInterval = "1s";
+
+    /**
+     * 진행률과 처리량을 로그로 남기는 주기
+     */
+    private Duration progressInterval = Duration.ofSeconds(10);
+}
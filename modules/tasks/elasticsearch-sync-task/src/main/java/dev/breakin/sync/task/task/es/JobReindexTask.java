@@ -0,0 +1,328 @@
+package dev.breakin.sync.task.task.es;
+
+import dev.breakin.elasticsearch.api.job.JobIndexMappings;
+import dev.breakin.elasticsearch.api.job.JobIndexer;
+import dev.breakin.elasticsearch.document.JobDoc;
+import dev.breakin.elasticsearch.exception.DocumentIndexingException;
+import dev.breakin.elasticsearch.internal.admin.IndexAdmin;
+import dev.breakin.elasticsearch.internal.admin.ReindexCheckpoint;
+import dev.breakin.elasticsearch.internal.admin.ReindexCheckpointStore;
+import dev.breakin.elasticsearch.internal.indexer.BulkIndexResult;
+import dev.breakin.elasticsearch.mapper.JobDocMapper;
+import dev.breakin.infra.job.repository.JobRepository;
+import dev.breakin.model.common.TargetType;
+import dev.breakin.model.job.Job;
+import dev.breakin.model.job.JobIdentity;
+import dev.breakin.outbox.reader.OutboxEventReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Job 인덱스 무중단 전체 재색인
+ * <p>
+ * 1. 기존 인덱스의 매핑(명시 매핑 우선)으로 새 버전 인덱스 생성 (replica 0, refresh 비활성화)
+ * 2. jobs를 id keyset 페이지로 읽으면서 페이지별 _bulk 요청을 병렬로 실행
+ * 3. 적재 중 변경된 Job을 outbox 이벤트 기준으로 다시 인덱싱
+ * 4. replica와 refresh 설정 복구 후 읽기 alias를 새 인덱스로 원자적으로 교체
+ * <p>
+ * 앞선 페이지가 모두 완료된 위치까지 checkpoint를 저장하므로, 중간에 죽으면 다음 실행 시 그 위치부터 이어서 적재합니다.
+ * 적재 중에는 동기화 워커가 alias(기존 인덱스)에만 반영하므로, alias 교체 전후로 두 번 따라잡습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobReindexTask {
+
+    private static final DateTimeFormatter VERSION_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneOffset.UTC);
+
+    @Value("${es.index.hiring}")
+    private String alias;
+
+    private final JobRepository jobRepository;
+    private final JobIndexer jobIndexer;
+    private final JobDocMapper jobDocMapper;
+    private final IndexAdmin indexAdmin;
+    private final JobIndexMappings jobIndexMappings;
+    private final ReindexCheckpointStore checkpointStore;
+    private final OutboxEventReader outboxEventReader;
+    private final JobReindexProperties properties;
+
+    public void run() {
+        ReindexCheckpoint checkpoint = prepare();
+        String index = checkpoint.targetIndex();
+        Instant loadStartedAt = Instant.now();
+        long resumedFrom = checkpoint.indexedCount();
+
+        // 1. 전체 적재
+        checkpoint = load(checkpoint);
+        Duration loadElapsed = Duration.between(loadStartedAt, Instant.now());
+
+        // 2. 적재 중 변경된 Job 반영
+        Instant catchUpStartedAt = Instant.now();
+        int caughtUp = catchUp(index, checkpoint.startedAt());
+
+        // 3. 설정 복구 & alias 교체
+        indexAdmin.restoreSettings(index, properties.getReplicas(), properties.getRefreshInterval());
+        Optional<String> previous = indexAdmin.swapAlias(alias, index);
+
+        // 4. 첫 번째 따라잡기 이후 alias 교체 전까지 기존 인덱스에만 반영된 변경을 다시 반영
+        caughtUp += catchUp(index, catchUpStartedAt);
+
+        checkpointStore.delete(alias);
+        log.info("Job reindex completed: alias={}, index={}, previous={}, indexed={}, caughtUp={}, elapsed={}s, throughput={} docs/s",
+                alias, index, previous.orElse("(none)"), checkpoint.indexedCount(), caughtUp,
+                loadElapsed.toSeconds(), throughput(checkpoint.indexedCount() - resumedFrom, loadElapsed));
+    }
+
+    /**
+     * 끝나지 않은 재색인이 있으면 그 checkpoint를, 없으면 새 인덱스를 만들고 새 checkpoint를 반환
+     */
+    private ReindexCheckpoint prepare() {
+        Optional<ReindexCheckpoint> saved = checkpointStore.find(alias);
+        if (saved.isPresent() && indexAdmin.exists(saved.get().targetIndex())) {
+            ReindexCheckpoint checkpoint = saved.get();
+            log.info("Resuming job reindex from checkpoint: index={}, lastId={}, indexed={}, startedAt={}",
+                    checkpoint.targetIndex(), checkpoint.lastId(), checkpoint.indexedCount(), checkpoint.startedAt());
+            return checkpoint;
+        }
+
+        String template = indexAdmin.resolve(alias).orElse(null);
+        if (template == null) {
+            log.warn("No index behind alias {}, the new index is created with dynamic mappings", alias);
+        }
+
+        // 기존 인덱스에서 동적으로 매핑된 필드(content_hash 등)는 명시 매핑으로 교체
+        jobIndexMappings.ensureTemplate();
+        String index = alias + "-" + VERSION_FORMAT.format(Instant.now());
+        indexAdmin.createForBulkLoad(index, template, properties.getShards(), JobIndexMappings.PROPERTIES);
+
+        ReindexCheckpoint checkpoint = ReindexCheckpoint.start(alias, index);
+        checkpointStore.save(checkpoint);
+        log.info("Starting job reindex: alias={}, index={}, template={}", alias, index, template);
+        return checkpoint;
+    }
+
+    /**
+     * checkpoint 이후의 jobs를 페이지 단위로 읽어 병렬로 인덱싱
+     * <p>
+     * DB 읽기는 이 스레드에서 순서대로, _bulk 요청은 parallelism개 스레드에서 동시에 실행합니다.
+     * 인덱싱을 기다리는 페이지는 parallelism의 2배까지만 메모리에 유지합니다.
+     */
+    private ReindexCheckpoint load(ReindexCheckpoint checkpoint) {
+        String index = checkpoint.targetIndex();
+        Progress progress = new Progress(jobRepository.count(), checkpoint.indexedCount(), properties.getProgressInterval());
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getParallelism(), reindexThreadFactory());
+        Semaphore permits = new Semaphore(properties.getParallelism() * 2);
+        Deque<PageTask> inFlight = new ArrayDeque<>();
+
+        try {
+            long afterId = checkpoint.lastId();
+            while (true) {
+                List<Job> page = jobRepository.findAllAfter(afterId, properties.getPageSize());
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getJobId();
+
+                permits.acquire();
+                inFlight.add(new PageTask(afterId, executor.submit(() -> {
+                    try {
+                        return indexPage(index, page);
+                    } finally {
+                        permits.release();
+                    }
+                })));
+                checkpoint = advance(checkpoint, inFlight, false, progress);
+            }
+            return advance(checkpoint, inFlight, true, progress);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DocumentIndexingException("Job reindex interrupted, resumes from lastId=" + checkpoint.lastId(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 앞에서부터 완료된 페이지까지 checkpoint를 전진시키고 저장
+     * (뒤 페이지가 먼저 끝나도 앞 페이지가 끝나기 전에는 전진하지 않음)
+     *
+     * @param waitAll true면 진행 중인 페이지가 모두 끝날 때까지 대기
+     */
+    private ReindexCheckpoint advance(ReindexCheckpoint checkpoint, Deque<PageTask> inFlight, boolean waitAll,
+                                      Progress progress) throws InterruptedException {
+        long lastId = checkpoint.lastId();
+        long indexed = checkpoint.indexedCount();
+        try {
+            while (!inFlight.isEmpty() && (waitAll || inFlight.peek().result().isDone())) {
+                PageTask task = inFlight.peek();
+                indexed += task.result().get();
+                lastId = task.lastId();
+                inFlight.poll();
+            }
+        } catch (ExecutionException e) {
+            save(checkpoint, lastId, indexed);
+            throw new DocumentIndexingException("Job reindex failed, resumes from lastId=" + lastId, e.getCause());
+        }
+
+        ReindexCheckpoint advanced = save(checkpoint, lastId, indexed);
+        progress.report(advanced, waitAll);
+        return advanced;
+    }
+
+    private ReindexCheckpoint save(ReindexCheckpoint checkpoint, long lastId, long indexed) {
+        if (lastId == checkpoint.lastId()) {
+            return checkpoint;
+        }
+        ReindexCheckpoint advanced = checkpoint.advance(lastId, indexed);
+        checkpointStore.save(advanced);
+        return advanced;
+    }
+
+    /**
+     * since 이후 outbox 이벤트가 기록된 Job을 다시 인덱싱
+     * <p>
+     * 적재 중 삭제(hard/soft delete)된 Job은 이미 적재된 문서를 새 인덱스에서 삭제합니다.
+     *
+     * @return 다시 인덱싱하거나 삭제한 Job 수
+     */
+    private int catchUp(String index, Instant since) {
+        List<Long> jobIds = outboxEventReader.findTargetIdsRecordedSince(TargetType.JOB, since);
+        int indexed = 0;
+        for (int from = 0; from < jobIds.size(); from += properties.getPageSize()) {
+            List<Long> chunk = jobIds.subList(from, Math.min(from + properties.getPageSize(), jobIds.size()));
+            List<Job> jobs = jobRepository.findAllByIds(chunk.stream().map(JobIdentity::new).toList());
+            indexed += indexPage(index, jobs);
+
+            Set<Long> live = jobs.stream()
+                    .filter(job -> !Boolean.TRUE.equals(job.getIsDeleted()))
+                    .map(Job::getJobId)
+                    .collect(Collectors.toSet());
+            List<String> deletedDocIds = chunk.stream()
+                    .filter(jobId -> !live.contains(jobId))
+                    .map(jobDocMapper::generateDocId)
+                    .toList();
+            indexed += deletePage(index, deletedDocIds);
+        }
+
+        log.info("Caught up on jobs changed during reindex: index={}, since={}, jobs={}", index, since, indexed);
+        return indexed;
+    }
+
+    /**
+     * 한 페이지를 하나의 _bulk 요청으로 인덱싱 (soft delete된 Job은 인덱싱하지 않음)
+     * 실패한 문서는 일시적인 거부(429 등)일 수 있으므로 한 번 더 시도하고, 그래도 실패하면 예외
+     *
+     * @return 인덱싱한 문서 수
+     */
+    private int indexPage(String index, List<Job> jobs) {
+        List<JobDoc> docs = jobs.stream()
+                .filter(job -> !Boolean.TRUE.equals(job.getIsDeleted()))
+                .map(jobDocMapper::toDoc)
+                .toList();
+        if (docs.isEmpty()) {
+            return 0;
+        }
+
+        BulkIndexResult result = jobIndexer.indexAll(index, docs);
+        if (result.failureCount() > 0) {
+            Set<String> failedDocIds = result.failures().keySet();
+            BulkIndexResult retried = jobIndexer.indexAll(index, docs.stream()
+                    .filter(doc -> failedDocIds.contains(doc.getDocId()))
+                    .toList());
+            if (retried.failureCount() > 0) {
+                throw new DocumentIndexingException("Failed to index " + retried.failureCount() + " jobs: " + retried.failures());
+            }
+        }
+        return docs.size();
+    }
+
+    /**
+     * 문서를 하나의 _bulk 요청으로 삭제, 실패하면 indexPage처럼 한 번 더 시도
+     *
+     * @return 삭제 요청한 문서 수
+     */
+    private int deletePage(String index, List<String> docIds) {
+        if (docIds.isEmpty()) {
+            return 0;
+        }
+
+        BulkIndexResult result = jobIndexer.deleteAll(index, docIds);
+        if (result.failureCount() > 0) {
+            BulkIndexResult retried = jobIndexer.deleteAll(index, List.copyOf(result.failures().keySet()));
+            if (retried.failureCount() > 0) {
+                throw new DocumentIndexingException("Failed to delete " + retried.failureCount() + " jobs: " + retried.failures());
+            }
+        }
+        return docIds.size();
+    }
+
+    private static long throughput(long docs, Duration elapsed) {
+        long millis = Math.max(1, elapsed.toMillis());
+        return docs * 1000 / millis;
+    }
+
+    private static ThreadFactory reindexThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "es-reindex-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PageTask(long lastId, Future<Integer> result) {
+    }
+
+    /**
+     * 진행률과 처리량 로그 (interval마다 한 번)
+     */
+    private static final class Progress {
+        private final long total;
+        private final long baseIndexed;
+        private final Duration interval;
+        private final Instant startedAt = Instant.now();
+        private Instant lastReportedAt = Instant.now();
+
+        private Progress(long total, long baseIndexed, Duration interval) {
+            this.total = total;
+            this.baseIndexed = baseIndexed;
+            this.interval = interval;
+        }
+
+        private void report(ReindexCheckpoint checkpoint, boolean force) {
+            Instant now = Instant.now();
+            if (!force && Duration.between(lastReportedAt, now).compareTo(interval) < 0) {
+                return;
+            }
+            lastReportedAt = now;
+
+            long indexed = checkpoint.indexedCount();
+            double percent = total > 0 ? Math.min(100.0, indexed * 100.0 / total) : 100.0;
+            log.info("Job reindex progress: index={}, indexed={}/{} ({}%), lastId={}, throughput={} docs/s",
+                    checkpoint.targetIndex(), indexed, total, String.format("%.1f", percent), checkpoint.lastId(),
+                    throughput(indexed - baseIndexed, Duration.between(startedAt, now)));
+        }
+    }
+}
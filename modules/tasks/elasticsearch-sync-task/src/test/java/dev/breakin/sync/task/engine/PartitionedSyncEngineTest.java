@@ -0,0 +1,203 @@
+package dev.breakin.sync.task.engine;
+
+import dev.breakin.model.common.TargetType;
+import dev.breakin.outbox.model.EventStatus;
+import dev.breakin.outbox.model.OutboxEvent;
+import dev.breakin.outbox.model.UpdateType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PartitionedSyncEngine 테스트
+ *
+ * 같은 대상의 이벤트는 들어온 순서대로, 다른 파티션은 병렬로 처리되고,
+ * 파티션 큐가 가득 차면 submit이 대기하며, stop 시 큐에 남은 이벤트는 취소되어야 함
+ */
+@DisplayName("PartitionedSyncEngine 테스트")
+class PartitionedSyncEngineTest {
+
+    private final AtomicLong eventIds = new AtomicLong();
+    private PartitionedSyncEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 파티션이 동시에 처리해도 같은 대상의 이벤트는 들어온 순서대로 처리")
+    void submit_concurrentPartitions_keepsOrderPerTarget() throws Exception {
+        // Given
+        Map<Long, List<Long>> processedByTarget = new ConcurrentHashMap<>();
+        engine = start(4, 1000, 5, events -> {
+            sleepRandomly();
+            events.forEach(event -> processedByTarget
+                    .computeIfAbsent(event.getTargetId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.getId()));
+            return Map.of();
+        });
+
+        // When - 대상 20개의 이벤트를 섞어서 50개씩 제출
+        Map<Long, List<Long>> submittedByTarget = new ConcurrentHashMap<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int round = 0; round < 50; round++) {
+            for (long targetId = 1; targetId <= 20; targetId++) {
+                OutboxEvent event = event(targetId);
+                submittedByTarget.computeIfAbsent(targetId, id -> new ArrayList<>()).add(event.getId());
+                results.add(engine.submit(event));
+            }
+        }
+
+        // Then
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isNull();
+        }
+        assertThat(processedByTarget).isEqualTo(submittedByTarget);
+    }
+
+    @Test
+    @DisplayName("다른 파티션의 대상은 병렬로 처리")
+    void submit_differentPartitions_processesInParallel() throws Exception {
+        // Given - 서로 다른 파티션에 배정되는 두 대상
+        long first = 1L;
+        long second = 2L;
+        while (PartitionedSyncEngine.partitionOf(TargetType.JOB, first, 2)
+                == PartitionedSyncEngine.partitionOf(TargetType.JOB, second, 2)) {
+            second++;
+        }
+        long secondTarget = second;
+
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        engine = start(2, 10, 1, events -> {
+            if (events.get(0).getTargetId() == secondTarget) {
+                secondStarted.countDown();
+                return Map.of();
+            }
+            // 첫 번째 대상의 처리는 두 번째 대상이 처리되기 시작해야 끝남
+            return await(secondStarted) ? Map.of() : Map.of(events.get(0).getId(), "not parallel");
+        });
+
+        // When
+        CompletableFuture<String> firstResult = engine.submit(event(first));
+        CompletableFuture<String> secondResult = engine.submit(event(secondTarget));
+
+        // Then
+        assertThat(firstResult.get(10, TimeUnit.SECONDS)).isNull();
+        assertThat(secondResult.get(10, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("파티션 큐가 가득 차면 자리가 날 때까지 submit이 대기")
+    void submit_fullPartitionQueue_blocksUntilSpaceIsFree() throws Exception {
+        // Given - 파티션 1개, 큐 크기 1, 처리 중인 이벤트는 release 전까지 끝나지 않음
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        engine = start(1, 1, 1, events -> {
+            handling.countDown();
+            await(release);
+            return Map.of();
+        });
+
+        engine.submit(event(1L));
+        assertThat(handling.await(10, TimeUnit.SECONDS)).isTrue();
+        engine.submit(event(2L));
+        assertThat(engine.remainingCapacity()).isZero();
+
+        // When
+        CompletableFuture<CompletableFuture<String>> blocked = CompletableFuture.supplyAsync(() -> {
+            try {
+                return engine.submit(event(3L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        Thread.sleep(200);
+        assertThat(blocked).isNotDone();
+
+        release.countDown();
+        assertThat(blocked.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("stop 시 큐에 남은 이벤트는 취소되고 이후 submit은 거부")
+    void stop_cancelsQueuedEvents() throws Exception {
+        // Given - 첫 이벤트가 처리되는 동안 나머지는 큐에 대기
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        engine = start(1, 10, 1, events -> {
+            handling.countDown();
+            await(release);
+            return Map.of();
+        });
+
+        engine.submit(event(1L));
+        assertThat(handling.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued1 = engine.submit(event(2L));
+        CompletableFuture<String> queued2 = engine.submit(event(3L));
+
+        // When
+        engine.stop();
+
+        // Then
+        assertThat(queued1).isCancelled();
+        assertThat(queued2).isCancelled();
+        assertThat(PartitionedSyncEngine.await(queued1)).isEqualTo("sync engine stopped");
+        assertThatThrownBy(() -> engine.submit(event(4L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static PartitionedSyncEngine start(int parallelism, int queueCapacity, int maxBatchSize,
+                                               Function<List<OutboxEvent>, Map<Long, String>> handler) {
+        PartitionedSyncEngine engine = new PartitionedSyncEngine("test", parallelism, queueCapacity, maxBatchSize, handler);
+        engine.start();
+        return engine;
+    }
+
+    private OutboxEvent event(long targetId) {
+        Instant now = Instant.now();
+        return new OutboxEvent(eventIds.incrementAndGet(), TargetType.JOB, targetId, UpdateType.UPDATED,
+                EventStatus.PROCESSING, 0, null, now, null, null, null, now);
+    }
+
+    /**
+     * @return false if interrupted (engine stopped) or timed out
+     */
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleepRandomly() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}